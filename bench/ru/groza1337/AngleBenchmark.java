@@ -0,0 +1,152 @@
+package ru.groza1337;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки всех публичных операций {@link Angle}.
+ * Параметр {@code degrees} выбирает значение из кэша общих экземпляров (целое)
+ * или значение, для которого создается новый объект (дробное).
+ * Для оценки выделения памяти запускать через {@link BenchmarkRunner} или с ключом {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AngleBenchmark {
+
+    /**
+     * Значение угла в градусах.
+     */
+    @Param({"45", "12.3456"})
+    public double degrees;
+
+    /**
+     * Значение вне диапазона [-360, 360] для проверки пути с исключением.
+     */
+    public double outOfRange = 400;
+
+    private double radians;
+
+    private Angle angle;
+
+    private Angle other;
+
+    private Angle large;
+
+    @Setup
+    public void setUp() {
+        radians = Math.toRadians(degrees);
+        angle = Angle.degrees(degrees);
+        other = Angle.degrees(degrees / 3);
+        large = Angle.degrees(300);
+    }
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    @Benchmark
+    public Angle createDegrees() {
+        return Angle.degrees(degrees);
+    }
+
+    @Benchmark
+    public Angle createRadians() {
+        return Angle.radians(radians);
+    }
+
+    @Benchmark
+    public Object createDegreesOutOfRange() {
+        try {
+            return Angle.degrees(outOfRange);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object createRadiansOutOfRange() {
+        try {
+            return Angle.radians(outOfRange);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Angle tryDegreesOutOfRange() {
+        return Angle.tryDegrees(outOfRange);
+    }
+
+    @Benchmark
+    public double checkDegreesOutOfRange() {
+        return AngleValidation.checkDegrees(outOfRange);
+    }
+
+    /* --------------------- Арифметические операции ---------------------- */
+
+    @Benchmark
+    public Angle add() {
+        return angle.add(other);
+    }
+
+    @Benchmark
+    public Angle addRadians() {
+        return angle.addRadians(radians);
+    }
+
+    @Benchmark
+    public Angle subtract() {
+        return angle.subtract(other);
+    }
+
+    @Benchmark
+    public Angle subtractRadians() {
+        return angle.subtractRadians(radians);
+    }
+
+    @Benchmark
+    public Object addOutOfRange() {
+        try {
+            return large.add(large);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    /* --------------------- Сравнение и хэш-код ---------------------- */
+
+    @Benchmark
+    public int compare() {
+        return angle.compare(other);
+    }
+
+    @Benchmark
+    public boolean equalsAngle() {
+        return angle.equals(other);
+    }
+
+    @Benchmark
+    public int hashCodeAngle() {
+        return angle.hashCode();
+    }
+
+    @Benchmark
+    public AngleType determineAngleType() {
+        return angle.determineAngleType();
+    }
+
+    /* --------------------- Преобразование в строку ---------------------- */
+
+    @Benchmark
+    public String toStringDegrees() {
+        return angle.toString();
+    }
+
+    @Benchmark
+    public String toStringInRadians() {
+        return angle.toStringInRadians();
+    }
+}
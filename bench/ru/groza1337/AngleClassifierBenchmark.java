@@ -0,0 +1,61 @@
+package ru.groza1337;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Масштабирование подсчета типов углов по числу потоков.
+ * Время {@code countByType} при parallelism = N должно быть близко к времени при parallelism = 1, деленному на N,
+ * пока N не превышает число ядер. {@code perObject} - прежний способ: объект {@link Angle} на каждое значение.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class AngleClassifierBenchmark {
+
+    /**
+     * Число потоков в пуле fork-join.
+     */
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private double[] degrees;
+
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(8);
+        degrees = new double[1 << 22];
+        for (int i = 0; i < degrees.length; i++) {
+            degrees[i] = random.nextDouble() * 720 - 360;
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long[] countByType() {
+        return AngleClassifier.countByType(degrees, pool);
+    }
+
+    @Benchmark
+    public EnumMap<AngleType, Long> perObject() {
+        EnumMap<AngleType, Long> histogram = new EnumMap<>(AngleType.class);
+        for (double angle : degrees) {
+            histogram.merge(Angle.degrees(angle).determineAngleType(), 1L, Long::sum);
+        }
+        return histogram;
+    }
+}
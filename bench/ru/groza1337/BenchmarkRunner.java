@@ -0,0 +1,31 @@
+package ru.groza1337;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Запуск бенчмарков с профилировщиком GC, который показывает выделение памяти на операцию
+ * ({@code gc.alloc.rate.norm}) рядом с пропускной способностью.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Запускает бенчмарки.
+     * @param args Регулярные выражения имен бенчмарков; по умолчанию запускаются все.
+     * @throws RunnerException Если JMH не смог выполнить запуск.
+     */
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder builder = new OptionsBuilder();
+        if (args.length == 0) {
+            builder.include("ru\\.groza1337\\..*");
+        }
+        for (String pattern : args) {
+            builder.include(pattern);
+        }
+        Options options = builder.addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
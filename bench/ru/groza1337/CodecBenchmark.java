@@ -0,0 +1,73 @@
+package ru.groza1337;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Скорость записи и чтения пакетов углов через {@link AngleCodec} для каждого способа записи
+ * и единицы измерения, а также одного угла. Буфер размещается вне кучи, как при передаче по сети.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    @Param({"FLOAT64", "FLOAT32", "FIXED32", "FIXED16"})
+    public AngleEncoding encoding;
+
+    @Param({"DEGREES", "RADIANS"})
+    public AngleUnit unit;
+
+    private double[] degrees;
+
+    private double[] out;
+
+    private Angle angle;
+
+    private ByteBuffer encoded;
+
+    private ByteBuffer target;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        degrees = new double[1024];
+        for (int i = 0; i < degrees.length; i++) {
+            degrees[i] = random.nextDouble() * 720 - 360;
+        }
+        out = new double[degrees.length];
+        angle = Angle.degrees(123.456);
+        encoded = ByteBuffer.allocateDirect((int) AngleCodec.batchSize(degrees.length, encoding));
+        AngleCodec.encode(degrees, 0, degrees.length, unit, encoding, encoded);
+        encoded.flip();
+        target = ByteBuffer.allocateDirect(encoded.capacity());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBatch() {
+        target.clear();
+        AngleCodec.encode(degrees, 0, degrees.length, unit, encoding, target);
+        return target;
+    }
+
+    @Benchmark
+    public double[] decodeBatch() {
+        encoded.rewind();
+        AngleCodec.decodeDegrees(encoded, out, 0);
+        return out;
+    }
+
+    @Benchmark
+    public Angle encodeDecodeSingle() {
+        target.clear();
+        AngleCodec.encode(angle, unit, encoding, target);
+        target.flip();
+        return AngleCodec.decode(target);
+    }
+}
@@ -0,0 +1,75 @@
+package ru.groza1337;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Одновременная запись углов из нескольких потоков: {@link ConcurrentAngleHistogram}
+ * против общей синхронизированной карты по {@link AngleType}.
+ * Число потоков задается ключом {@code -t} (по умолчанию один). {@link ScalingRunner} запускает бенчмарк
+ * при 1, 2, 4 и 8 потоках и выводит ускорение относительно одного потока: пропускная способность гистограммы
+ * должна расти с числом потоков, пока их не больше ядер, а карты - нет.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HistogramBenchmark {
+
+    private ConcurrentAngleHistogram histogram;
+
+    private Map<AngleType, Long> counts;
+
+    @Setup
+    public void setUp() {
+        histogram = new ConcurrentAngleHistogram(1);
+        counts = new EnumMap<>(AngleType.class);
+    }
+
+    /**
+     * Углы, которые записывает один поток.
+     */
+    @State(Scope.Thread)
+    public static class Input {
+
+        private static final AtomicInteger SEED = new AtomicInteger();
+
+        private double[] degrees;
+
+        private int next;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(SEED.incrementAndGet());
+            degrees = new double[4096];
+            for (int i = 0; i < degrees.length; i++) {
+                degrees[i] = random.nextDouble() * 720 - 360;
+            }
+        }
+
+        double next() {
+            next = (next + 1) & (degrees.length - 1);
+            return degrees[next];
+        }
+    }
+
+    @Benchmark
+    public boolean concurrentHistogram(Input input) {
+        return histogram.record(input.next());
+    }
+
+    @Benchmark
+    public Object synchronizedMap(Input input) {
+        AngleType type = Angle.typeOf(input.next());
+        synchronized (counts) {
+            return counts.merge(type, 1L, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package ru.groza1337;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение чтения заранее вычисленного значения в радианах с повторной проверкой
+ * и пересчетом при каждом вызове, как это делал getRadians() раньше.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RadiansBenchmark {
+
+    private Angle[] angles;
+
+    private double[] radians;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        angles = new Angle[1024];
+        for (int i = 0; i < angles.length; i++) {
+            angles[i] = Angle.degrees(random.nextDouble() * 720 - 360);
+        }
+        radians = new double[angles.length];
+    }
+
+    @Benchmark
+    public double[] precomputed() {
+        for (int i = 0; i < angles.length; i++) {
+            radians[i] = angles[i].getRadians();
+        }
+        return radians;
+    }
+
+    @Benchmark
+    public double[] revalidated() {
+        for (int i = 0; i < angles.length; i++) {
+            double degrees = angles[i].getDegrees();
+            if (!Angle.isValidDegrees(degrees)) {
+                throw new IllegalArgumentException("Угол должен быть в диапазоне [-360, 360] градусов.");
+            }
+            radians[i] = Angle.degreesToRadians(degrees);
+        }
+        return radians;
+    }
+}
@@ -0,0 +1,55 @@
+package ru.groza1337;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Запуск бенчмарков с разным числом потоков JMH и вывод масштабирования: пропускная способность
+ * при каждом числе потоков и ускорение относительно первого. Результат имеет смысл только на машине,
+ * где ядер не меньше наибольшего числа потоков, поэтому в начале выводится число процессоров.
+ * <pre>
+ * java ru.groza1337.ScalingRunner [шаблон имен [числа потоков через запятую]]
+ * </pre>
+ * По умолчанию запускается {@link HistogramBenchmark} при 1, 2, 4 и 8 потоках.
+ */
+public class ScalingRunner {
+
+    /**
+     * Запускает бенчмарки и выводит таблицу масштабирования.
+     * @param args Регулярное выражение имен бенчмарков и числа потоков через запятую.
+     * @throws RunnerException Если JMH не смог выполнить запуск.
+     */
+    public static void main(String[] args) throws RunnerException {
+        String pattern = args.length > 0 ? args[0] : HistogramBenchmark.class.getSimpleName();
+        int[] threads = args.length > 1 ? Arrays.stream(args[1].split(",")).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1, 2, 4, 8};
+        Map<String, double[]> scores = new TreeMap<>();
+        String unit = "";
+        for (int i = 0; i < threads.length; i++) {
+            Options options = new OptionsBuilder().include(pattern).threads(threads[i]).build();
+            for (RunResult result : new Runner(options).run()) {
+                scores.computeIfAbsent(result.getParams().getBenchmark(), name -> new double[threads.length])[i] =
+                        result.getPrimaryResult().getScore();
+                unit = result.getPrimaryResult().getScoreUnit();
+            }
+        }
+
+        System.out.println("Процессоров: " + Runtime.getRuntime().availableProcessors() + ", единица: " + unit);
+        for (Map.Entry<String, double[]> entry : scores.entrySet()) {
+            System.out.println(entry.getKey());
+            double[] score = entry.getValue();
+            for (int i = 0; i < threads.length; i++) {
+                System.out.println(String.format(Locale.US, "  потоков %2d: %12.3f  ускорение %5.2f",
+                        threads[i], score[i], score[i] / score[0]));
+            }
+        }
+    }
+}
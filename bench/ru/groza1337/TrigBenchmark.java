@@ -0,0 +1,72 @@
+package ru.groza1337;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение способов вычисления синуса и косинуса для пакета углов:
+ * вызов {@link Math} по значению в радианах, сохраненные значения {@link Angle#sin()} и {@link Angle#cos()},
+ * точный и приближенный пакетные режимы {@link AngleArray}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TrigBenchmark {
+
+    private Angle[] angles;
+
+    private AngleArray array;
+
+    private double[] sin;
+
+    private double[] cos;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        double[] degrees = new double[1024];
+        angles = new Angle[degrees.length];
+        for (int i = 0; i < degrees.length; i++) {
+            degrees[i] = random.nextDouble() * 720 - 360;
+            angles[i] = Angle.degrees(degrees[i]);
+        }
+        array = AngleArray.degrees(degrees);
+        sin = new double[degrees.length];
+        cos = new double[degrees.length];
+    }
+
+    @Benchmark
+    public double[] mathPerAngle() {
+        for (int i = 0; i < angles.length; i++) {
+            sin[i] = Math.sin(angles[i].getRadians());
+            cos[i] = Math.cos(angles[i].getRadians());
+        }
+        return sin;
+    }
+
+    @Benchmark
+    public double[] memoized() {
+        for (int i = 0; i < angles.length; i++) {
+            sin[i] = angles[i].sin();
+            cos[i] = angles[i].cos();
+        }
+        return sin;
+    }
+
+    @Benchmark
+    public double[] arrayExact() {
+        array.sinCos(sin, cos);
+        return sin;
+    }
+
+    @Benchmark
+    public double[] arrayTable() {
+        array.fastSinCos(sin, cos);
+        return sin;
+    }
+}
@@ -1,5 +1,5 @@
 package ru.groza1337;
-import java.util.Locale;
+import java.util.Arrays;
 
 /**
  * Класс для работы с углами, реализующий интерфейс AngleService.
@@ -14,34 +14,50 @@ final public class Angle {
      */
     private final double _angle;
 
-    public static Angle ZERO_Angle = Angle.degrees(0);
+    /**
+     * Значение угла в радианах, вычисленное один раз при создании.
+     */
+    private final double _radians;
+
+    /**
+     * Синус и косинус угла, вычисляемые при первом обращении.
+     */
+    private double _sin;
 
-    public static Angle P_Angle = Angle.radians(Math.PI);
+    private double _cos;
+
+    /**
+     * Признак того, что синус и косинус вычислены; запись признака публикует их для других потоков.
+     */
+    private volatile boolean _trigReady;
+
+    /**
+     * Угол, равный 0.
+     */
+    public static final Angle ZERO_Angle = Angle.degrees(0);
+
+    /**
+     * Угол, равный π.
+     */
+    public static final Angle P_Angle = Angle.radians(Math.PI);
 
     /* =========================== Операции ============================== */
 
     /**
-     * Преобразует угол из радианов в градусы и проверяет его на диапазон [-360, 360].
+     * Переводит угол из радианов в градусы без проверки диапазона.
      * @param angleInRadians Угол в радианах.
      * @return Угол в градусах.
      */
-    private static double fromRadians(double angleInRadians) {
-        double degrees = angleInRadians * 180 / Math.PI;
-        if (!isValidDegrees(degrees)) {
-            throw new IllegalArgumentException("Угол должен быть в диапазоне [-360, 360] градусов.");
-        }
-        return degrees;
+    static double radiansToDegrees(double angleInRadians) {
+        return angleInRadians * 180 / Math.PI;
     }
 
     /**
-     * Преобразует угол из градусов в радианы и проверяет его на диапазон [-2π, 2π].
+     * Переводит угол из градусов в радианы без проверки диапазона.
      * @param angleInDegrees Угол в градусах.
      * @return Угол в радианах.
      */
-    private static double toRadians(double angleInDegrees) {
-        if (!isValidDegrees(angleInDegrees)) {
-            throw new IllegalArgumentException("Угол должен быть в диапазоне [-360, 360] градусов.");
-        }
+    static double degreesToRadians(double angleInDegrees) {
         return angleInDegrees * Math.PI / 180;
     }
 
@@ -50,10 +66,21 @@ final public class Angle {
      * @param angle Угол в градусах.
      * @return true, если угол в диапазоне, иначе false.
      */
-    private static boolean isValidDegrees(double angle) {
+    static boolean isValidDegrees(double angle) {
         return angle >= -360 && angle <= 360;
     }
 
+    /**
+     * Приводит угол в градусах из диапазона [-360, 360] к [0, 360) без проверки диапазона.
+     * Значения -360, -0.0 и 360 переходят в 0.0.
+     * @param angle Угол в градусах.
+     * @return Угол в градусах в [0, 360).
+     */
+    static double normalizeDegrees(double angle) {
+        double normalized = angle < 0 ? angle + 360 : angle + 0.0;  // + 0.0 переводит -0.0 в 0.0
+        return normalized >= 360 ? normalized - 360 : normalized;
+    }
+
     /**
      * Возвращает значение угла в градусах.
      * @return Угол в градусах.
@@ -67,7 +94,7 @@ final public class Angle {
      * @return Угол в радианах.
      */
     public double getRadians() {
-        return toRadians(this._angle);
+        return this._radians;
     }
 
     /**
@@ -76,7 +103,7 @@ final public class Angle {
      */
     @Override
     public String toString() {
-        return String.format(Locale.US, "%.2f degrees", this._angle);
+        return toString(AngleUnit.DEGREES);
     }
 
     /**
@@ -84,20 +111,46 @@ final public class Angle {
      * @return Угол в радианах в формате строки.
      */
     public String toStringInRadians() {
-        return String.format(Locale.US, "%.2f radians", toRadians(this._angle));
+        return toString(AngleUnit.RADIANS);
+    }
+
+    /**
+     * Форматирует угол и, если событие форматирования включено в записи JFR, записывает его длительность.
+     * Пока событие выключено, объект события не создается.
+     * @param unit Единица измерения строки.
+     * @return Угол в формате строки.
+     */
+    private String toString(AngleUnit unit) {
+        if (!AngleFormatEvent.TYPE.isEnabled()) {
+            return format(unit);
+        }
+        AngleFormatEvent event = new AngleFormatEvent();
+        event.begin();
+        String result = format(unit);
+        if (event.shouldCommit()) {
+            event._unit = unit.name();
+            event._decimals = AngleFormatter.DEFAULT_DECIMALS;
+            event.commit();
+        }
+        return result;
+    }
+
+    private String format(AngleUnit unit) {
+        StringBuilder out = new StringBuilder(16);
+        return (unit == AngleUnit.DEGREES ? AngleFormatter.appendDegrees(out, this, AngleFormatter.DEFAULT_DECIMALS)
+                : AngleFormatter.appendRadians(out, this, AngleFormatter.DEFAULT_DECIMALS)).toString();
     }
 
     /* ---------------------------- Порождение ---------------------------- */
 
     /**
-     * Приватный конструктор для создания объекта угла.
-     * @param angle Угол в градусах.
+     * Приватный конструктор для создания объекта угла. Диапазон проверяет вызывающий код,
+     * чтобы каждое создание проверяло значение один раз.
+     * @param angle Угол в градусах, в диапазоне [-360, 360].
      */
     private Angle(double angle) {
-        if (!isValidDegrees(angle)) {
-            throw new IllegalArgumentException("Угол должен быть в диапазоне [-360, 360] градусов.");
-        }
         this._angle = angle;
+        this._radians = degreesToRadians(angle);
     }
 
     /**
@@ -106,7 +159,7 @@ final public class Angle {
      * @return Объект угла.
      */
     public static Angle degrees(double angle) {
-        return new Angle(angle);
+        return create(angle, AngleMetrics.Operation.DEGREES);
     }
 
     /**
@@ -115,7 +168,146 @@ final public class Angle {
      * @return Объект угла.
      */
     public static Angle radians(double angle) {
-        return new Angle(fromRadians(angle));
+        return create(radiansToDegrees(angle), AngleMetrics.Operation.RADIANS);
+    }
+
+    /**
+     * Создает угол в градусах без исключения при выходе за диапазон.
+     * @param angle Угол в градусах.
+     * @return Объект угла или null, если угол вне диапазона [-360, 360] градусов.
+     */
+    public static Angle tryDegrees(double angle) {
+        return tryCreate(angle, AngleMetrics.Operation.TRY_DEGREES);
+    }
+
+    /**
+     * Создает угол в радианах без исключения при выходе за диапазон.
+     * @param angle Угол в радианах.
+     * @return Объект угла или null, если угол вне диапазона [-2π, 2π] радиан.
+     */
+    public static Angle tryRadians(double angle) {
+        return tryCreate(radiansToDegrees(angle), AngleMetrics.Operation.TRY_RADIANS);
+    }
+
+    /**
+     * Проверяет диапазон и возвращает общий экземпляр из кэша или новый угол, учитывая результат в {@link AngleMetrics}.
+     * @param angle Угол в градусах.
+     * @param operation Операция, создающая угол.
+     * @return Объект угла.
+     */
+    private static Angle create(double angle, AngleMetrics.Operation operation) {
+        if (!isValidDegrees(angle)) {
+            AngleMetrics.recordFailure(operation, angle);
+            throw new IllegalArgumentException("Угол должен быть в диапазоне [-360, 360] градусов.");
+        }
+        return instance(angle, operation);
+    }
+
+    /**
+     * Создает угол без исключения при выходе за диапазон, учитывая отказ в {@link AngleMetrics}.
+     * @param angle Угол в градусах.
+     * @param operation Операция, создающая угол.
+     * @return Объект угла или null, если угол вне диапазона.
+     */
+    private static Angle tryCreate(double angle, AngleMetrics.Operation operation) {
+        if (!isValidDegrees(angle)) {
+            AngleMetrics.recordFailure(operation, angle);
+            return null;
+        }
+        return instance(angle, operation);
+    }
+
+    /**
+     * Возвращает общий экземпляр из кэша или создает угол из проверенного значения.
+     * @param angle Угол в градусах, в диапазоне [-360, 360].
+     * @param operation Операция, создающая угол.
+     * @return Объект угла.
+     */
+    private static Angle instance(double angle, AngleMetrics.Operation operation) {
+        Angle cached = Cache.lookup(angle);
+        if (cached != null) {
+            AngleMetrics.recordCacheHit(operation);
+            return cached;
+        }
+        AngleMetrics.recordCreated(operation);
+        return new Angle(angle);
+    }
+
+    /**
+     * Кэш общих экземпляров для целых градусов в диапазоне [-360, 360]
+     * и для частых дробных значений. Набор дробных частей задается системным свойством
+     * {@value #FRACTIONS_PROPERTY} в виде списка через запятую (по умолчанию 0.25, 0.5 и 0.75).
+     * Дробные части должны точно представляться в double, иначе значения не будут найдены в кэше.
+     */
+    private static final class Cache {
+
+        /**
+         * Имя системного свойства со списком дробных частей градуса.
+         */
+        static final String FRACTIONS_PROPERTY = "ru.groza1337.angle.cacheFractions";
+
+        /**
+         * Дробные части градуса; нулевой элемент соответствует целым градусам.
+         */
+        private static final double[] FRACTIONS = parseFractions(System.getProperty(FRACTIONS_PROPERTY, "0.25,0.5,0.75"));
+
+        /**
+         * Экземпляры углов: первый индекс - дробная часть, второй - целая часть плюс 360.
+         */
+        private static final Angle[][] INSTANCES = new Angle[FRACTIONS.length][721];
+
+        static {
+            for (int i = 0; i < FRACTIONS.length; i++) {
+                for (int whole = -360; whole <= 360; whole++) {
+                    double angle = whole + FRACTIONS[i];
+                    if (isValidDegrees(angle)) {
+                        INSTANCES[i][whole + 360] = new Angle(angle);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Ищет общий экземпляр для переданного значения.
+         * @param angle Угол в градусах.
+         * @return Общий экземпляр или null, если значение не кэшируется.
+         */
+        static Angle lookup(double angle) {
+            double whole = Math.floor(angle);
+            if (!isValidDegrees(whole)) {
+                return null;
+            }
+            double fraction = angle - whole;
+            for (int i = 0; i < FRACTIONS.length; i++) {
+                if (FRACTIONS[i] == fraction) {
+                    Angle cached = INSTANCES[i][(int) whole + 360];
+                    // Double.compare отличает -0.0 от общего экземпляра 0.0
+                    return cached != null && Double.compare(cached._angle, angle) == 0 ? cached : null;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Разбирает список дробных частей. Значения вне интервала (0, 1) и некорректные записи пропускаются.
+         * @param property Список дробных частей через запятую.
+         * @return Массив дробных частей, начинающийся с 0.
+         */
+        private static double[] parseFractions(String property) {
+            double[] fractions = new double[1];
+            for (String item : property.split(",")) {
+                try {
+                    double fraction = Double.parseDouble(item.trim());
+                    if (fraction > 0 && fraction < 1) {
+                        fractions = Arrays.copyOf(fractions, fractions.length + 1);
+                        fractions[fractions.length - 1] = fraction;
+                    }
+                } catch (NumberFormatException ignored) {
+                    // некорректная запись не попадает в кэш
+                }
+            }
+            return fractions;
+        }
     }
 
     /* --------------------- Арифметические операции ---------------------- */
@@ -126,7 +318,7 @@ final public class Angle {
      * @return Новый угол как результат сложения.
      */
     public Angle add(Angle other) {
-        return new Angle(this._angle + other._angle);
+        return create(this._angle + other._angle, AngleMetrics.Operation.ARITHMETIC);
     }
 
     /**
@@ -144,7 +336,7 @@ final public class Angle {
      * @return Новый угол как результат вычитания.
      */
     public Angle subtract(Angle other) {
-        return new Angle(this._angle - other._angle);
+        return create(this._angle - other._angle, AngleMetrics.Operation.ARITHMETIC);
     }
 
     /**
@@ -156,6 +348,102 @@ final public class Angle {
         return this.subtract(radians(other));
     }
 
+    /**
+     * Складывает текущий угол с переданным углом, обрабатывая выход за диапазон выбранным способом.
+     * @param other Угол для сложения.
+     * @param arithmetic Способ обработки выхода за диапазон.
+     * @return Новый угол как результат сложения.
+     */
+    public Angle add(Angle other, AngleArithmetic arithmetic) {
+        return create(arithmetic.apply(this._angle + other._angle), AngleMetrics.Operation.ARITHMETIC);
+    }
+
+    /**
+     * Складывает текущий угол с переданным углом в радианах, обрабатывая выход за диапазон выбранным способом.
+     * @param other Угол в радианах для сложения.
+     * @param arithmetic Способ обработки выхода за диапазон.
+     * @return Новый угол как результат сложения.
+     */
+    public Angle addRadians(double other, AngleArithmetic arithmetic) {
+        return create(arithmetic.apply(this._angle + radiansToDegrees(other)), AngleMetrics.Operation.ARITHMETIC);
+    }
+
+    /**
+     * Вычитает переданный угол из текущего угла, обрабатывая выход за диапазон выбранным способом.
+     * @param other Угол для вычитания.
+     * @param arithmetic Способ обработки выхода за диапазон.
+     * @return Новый угол как результат вычитания.
+     */
+    public Angle subtract(Angle other, AngleArithmetic arithmetic) {
+        return create(arithmetic.apply(this._angle - other._angle), AngleMetrics.Operation.ARITHMETIC);
+    }
+
+    /**
+     * Вычитает из текущего угла переданный угол в радианах, обрабатывая выход за диапазон выбранным способом.
+     * @param other Угол в радианах для вычитания.
+     * @param arithmetic Способ обработки выхода за диапазон.
+     * @return Новый угол как результат вычитания.
+     */
+    public Angle subtractRadians(double other, AngleArithmetic arithmetic) {
+        return create(arithmetic.apply(this._angle - radiansToDegrees(other)), AngleMetrics.Operation.ARITHMETIC);
+    }
+
+    /* --------------------- Тригонометрические функции ---------------------- */
+
+    /**
+     * Возвращает синус угла. Значение вычисляется через {@link Math#sin} при первом обращении
+     * к тригонометрическим функциям и сохраняется в объекте.
+     * @return Синус угла.
+     */
+    public double sin() {
+        computeTrig();
+        return this._sin;
+    }
+
+    /**
+     * Возвращает косинус угла. Значение вычисляется через {@link Math#cos} при первом обращении
+     * к тригонометрическим функциям и сохраняется в объекте.
+     * @return Косинус угла.
+     */
+    public double cos() {
+        computeTrig();
+        return this._cos;
+    }
+
+    /**
+     * Возвращает тангенс угла как отношение синуса к косинусу. Для углов ±90 и ±270 градусов
+     * результат очень велик по модулю, как и у {@link Math#tan}, но не бесконечен.
+     * @return Тангенс угла.
+     */
+    public double tan() {
+        computeTrig();
+        return this._sin / this._cos;
+    }
+
+    /**
+     * Записывает синус и косинус угла в переданный массив.
+     * @param out Массив для результата: синус в элементе 0, косинус в элементе 1.
+     * @return Переданный массив.
+     */
+    public double[] sinCos(double[] out) {
+        computeTrig();
+        out[0] = this._sin;
+        out[1] = this._cos;
+        return out;
+    }
+
+    /**
+     * Вычисляет синус и косинус, если они еще не вычислены. Одновременное вычисление
+     * в нескольких потоках безопасно: все потоки записывают одни и те же значения.
+     */
+    private void computeTrig() {
+        if (!this._trigReady) {
+            this._sin = Math.sin(this._radians);
+            this._cos = Math.cos(this._radians);
+            this._trigReady = true;
+        }
+    }
+
     /* --------------------- Операции сравнения ---------------------- */
 
     /**
@@ -175,7 +463,17 @@ final public class Angle {
      * @return Тип угла (острый, тупой, прямой и т.д.).
      */
     public AngleType determineAngleType() {
-        double degrees = this.getDegrees();
+        AngleType type = typeOf(this._angle);
+        AngleMetrics.recordClassification(type);
+        return type;
+    }
+
+    /**
+     * Определяет тип угла по значению в градусах без проверки диапазона.
+     * @param degrees Угол в градусах.
+     * @return Тип угла (острый, тупой, прямой и т.д.).
+     */
+    static AngleType typeOf(double degrees) {
         if (degrees < 0) {
             degrees += 360;  // Учитываем отрицательные углы, делаем их положительными
         }
@@ -0,0 +1,33 @@
+package ru.groza1337;
+
+/**
+ * Способы обработки результата арифметики, вышедшего за диапазон [-360, 360] градусов.
+ * Способы {@link #WRAP} и {@link #SATURATE} приводят результат в диапазон без создания исключений,
+ * поэтому подходят для горячих циклов, где выход за диапазон - обычная ситуация.
+ * Значения NaN и ±бесконечность не имеют места на круге: {@link #WRAP} возвращает их без изменений,
+ * и создание угла из них выбрасывает исключение. {@link #SATURATE} ограничивает бесконечность до ±360,
+ * а для NaN исключение выбрасывается в любом способе.
+ */
+public enum AngleArithmetic {
+    THROW,      // Исключение при выходе за диапазон, как в Angle.add
+    WRAP,       // Остаток от деления на 360 с сохранением знака
+    SATURATE;   // Ограничение границами -360 и 360
+
+    /**
+     * Приводит угол в градусах в диапазон [-360, 360] этим способом.
+     * Значения в диапазоне возвращаются без изменений; способ {@link #THROW} не изменяет значение,
+     * и проверку выполняет создание угла.
+     * @param degrees Угол в градусах.
+     * @return Угол в градусах.
+     */
+    public double apply(double degrees) {
+        if (Angle.isValidDegrees(degrees)) {
+            return degrees;
+        }
+        return switch (this) {
+            case THROW -> degrees;
+            case WRAP -> Double.isInfinite(degrees) ? degrees : degrees % 360;  // ±Infinity % 360 дает NaN
+            case SATURATE -> degrees > 0 ? 360 : degrees < 0 ? -360 : degrees;
+        };
+    }
+}
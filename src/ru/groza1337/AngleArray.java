@@ -0,0 +1,271 @@
+package ru.groza1337;
+
+/**
+ * Массив углов, хранящий значения в градусах в примитивном массиве double[].
+ * Позволяет выполнять пакетные операции без создания объектов {@link Angle}
+ * на каждый элемент. Диапазон [-360, 360] проверяется для всего пакета за один проход,
+ * и при ошибке выбрасывается одно исключение, а содержимое массива не изменяется.
+ */
+final public class AngleArray {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Значения углов в градусах.
+     */
+    private final double[] _degrees;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает массив заданной длины, заполненный нулевыми углами.
+     * @param length Количество углов.
+     */
+    public AngleArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Длина массива не может быть отрицательной.");
+        }
+        this._degrees = new double[length];
+    }
+
+    /**
+     * Приватный конструктор для создания массива над готовыми значениями.
+     * @param degrees Углы в градусах.
+     */
+    private AngleArray(double[] degrees) {
+        this._degrees = degrees;
+    }
+
+    /**
+     * Создает массив углов над переданными значениями без копирования и без проверки диапазона.
+     * Вызывающий код проверяет значения и больше не изменяет переданный массив.
+     * @param degrees Проверенные углы в градусах.
+     * @return Массив углов.
+     */
+    static AngleArray wrap(double[] degrees) {
+        return new AngleArray(degrees);
+    }
+
+    /**
+     * Создает массив углов из значений в градусах.
+     * @param values Углы в градусах.
+     * @return Массив углов.
+     */
+    public static AngleArray degrees(double... values) {
+        AngleArray result = new AngleArray(values.length);
+        result.fromDegrees(values);
+        return result;
+    }
+
+    /**
+     * Создает массив углов из значений в радианах.
+     * @param values Углы в радианах.
+     * @return Массив углов.
+     */
+    public static AngleArray radians(double... values) {
+        AngleArray result = new AngleArray(values.length);
+        result.fromRadians(values);
+        return result;
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает количество углов в массиве.
+     * @return Длина массива.
+     */
+    public int length() {
+        return this._degrees.length;
+    }
+
+    /**
+     * Возвращает значение угла в градусах.
+     * @param index Индекс угла.
+     * @return Угол в градусах.
+     */
+    public double getDegrees(int index) {
+        return this._degrees[index];
+    }
+
+    /**
+     * Возвращает значение угла в радианах.
+     * @param index Индекс угла.
+     * @return Угол в радианах.
+     */
+    public double getRadians(int index) {
+        return Angle.degreesToRadians(this._degrees[index]);
+    }
+
+    /**
+     * Возвращает угол по индексу в виде объекта {@link Angle}.
+     * @param index Индекс угла.
+     * @return Объект угла.
+     */
+    public Angle get(int index) {
+        return Angle.degrees(this._degrees[index]);
+    }
+
+    /**
+     * Записывает угол по индексу.
+     * @param index Индекс угла.
+     * @param angle Угол.
+     */
+    public void set(int index, Angle angle) {
+        this._degrees[index] = angle.getDegrees();
+    }
+
+    /**
+     * Записывает угол в градусах по индексу.
+     * @param index Индекс угла.
+     * @param degrees Угол в градусах.
+     */
+    public void setDegrees(int index, double degrees) {
+        if (!Angle.isValidDegrees(degrees)) {
+            throw outOfRange(index);
+        }
+        this._degrees[index] = degrees;
+    }
+
+    /* --------------------- Пакетные операции ---------------------- */
+
+    /**
+     * Заполняет массив значениями в градусах.
+     * @param in Углы в градусах, длина должна совпадать с длиной массива.
+     */
+    public void fromDegrees(double[] in) {
+        checkLength(in.length);
+        int invalid = AngleKernels.firstInvalid(in, 0, in.length);
+        if (invalid >= 0) {
+            throw outOfRange(invalid);
+        }
+        System.arraycopy(in, 0, this._degrees, 0, in.length);
+    }
+
+    /**
+     * Заполняет массив значениями в радианах, переводя их в градусы.
+     * @param in Углы в радианах, длина должна совпадать с длиной массива.
+     */
+    public void fromRadians(double[] in) {
+        checkLength(in.length);
+        boolean valid = true;
+        for (double radians : in) {
+            valid &= Angle.isValidDegrees(Angle.radiansToDegrees(radians));
+        }
+        if (!valid) {
+            for (int i = 0; i < in.length; i++) {
+                if (!Angle.isValidDegrees(Angle.radiansToDegrees(in[i]))) {
+                    throw outOfRange(i);
+                }
+            }
+        }
+        for (int i = 0; i < in.length; i++) {
+            this._degrees[i] = Angle.radiansToDegrees(in[i]);
+        }
+    }
+
+    /**
+     * Записывает значения углов в радианах в переданный массив.
+     * @param out Массив для результата, длина должна совпадать с длиной массива углов.
+     */
+    public void toRadians(double[] out) {
+        checkLength(out.length);
+        AngleKernels.toRadians(this._degrees, out, out.length);
+    }
+
+    /**
+     * Записывает синусы и косинусы углов, вычисленные через {@link Math#sin} и {@link Math#cos}.
+     * @param sin Массив для синусов, длина должна совпадать с длиной массива углов.
+     * @param cos Массив для косинусов, длина должна совпадать с длиной массива углов.
+     */
+    public void sinCos(double[] sin, double[] cos) {
+        checkLength(sin.length);
+        checkLength(cos.length);
+        for (int i = 0; i < this._degrees.length; i++) {
+            double radians = Angle.degreesToRadians(this._degrees[i]);
+            sin[i] = Math.sin(radians);
+            cos[i] = Math.cos(radians);
+        }
+    }
+
+    /**
+     * Записывает приближенные синусы и косинусы углов, вычисленные по таблице {@link FastTrig}
+     * с ошибкой не больше {@link FastTrig#MAX_ERROR}.
+     * @param sin Массив для синусов, длина должна совпадать с длиной массива углов.
+     * @param cos Массив для косинусов, длина должна совпадать с длиной массива углов.
+     */
+    public void fastSinCos(double[] sin, double[] cos) {
+        checkLength(sin.length);
+        checkLength(cos.length);
+        FastTrig.sinCos(this._degrees, sin, cos, this._degrees.length);
+    }
+
+    /**
+     * Складывает каждый угол с углом из другого массива с тем же индексом.
+     * @param other Массив углов для сложения.
+     */
+    public void addAll(AngleArray other) {
+        checkLength(other.length());
+        double[] a = this._degrees;
+        double[] b = other._degrees;
+        boolean valid = true;
+        for (int i = 0; i < a.length; i++) {
+            valid &= Angle.isValidDegrees(a[i] + b[i]);
+        }
+        if (!valid) {
+            for (int i = 0; i < a.length; i++) {
+                if (!Angle.isValidDegrees(a[i] + b[i])) {
+                    throw outOfRange(i);
+                }
+            }
+        }
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+    }
+
+    /**
+     * Вычитает из каждого угла угол из другого массива с тем же индексом.
+     * @param other Массив углов для вычитания.
+     */
+    public void subtractAll(AngleArray other) {
+        checkLength(other.length());
+        double[] a = this._degrees;
+        double[] b = other._degrees;
+        boolean valid = true;
+        for (int i = 0; i < a.length; i++) {
+            valid &= Angle.isValidDegrees(a[i] - b[i]);
+        }
+        if (!valid) {
+            for (int i = 0; i < a.length; i++) {
+                if (!Angle.isValidDegrees(a[i] - b[i])) {
+                    throw outOfRange(i);
+                }
+            }
+        }
+        for (int i = 0; i < a.length; i++) {
+            a[i] -= b[i];
+        }
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Проверяет, что длина переданного массива совпадает с длиной массива углов.
+     * @param length Длина переданного массива.
+     */
+    private void checkLength(int length) {
+        if (length != this._degrees.length) {
+            throw new IllegalArgumentException("Длины массивов не совпадают.");
+        }
+    }
+
+    /**
+     * Создает исключение для угла вне диапазона.
+     * @param index Индекс недопустимого угла.
+     * @return Исключение с описанием ошибки.
+     */
+    private static IllegalArgumentException outOfRange(int index) {
+        return new IllegalArgumentException(
+                "Угол с индексом " + index + " должен быть в диапазоне [-360, 360] градусов.");
+    }
+}
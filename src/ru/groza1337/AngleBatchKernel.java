@@ -0,0 +1,62 @@
+package ru.groza1337;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Реализация пакетных операций над массивами углов, используемая {@link AngleKernels}.
+ * Все реализации обязаны давать результаты, побитно совпадающие со скалярными операциями {@link Angle}.
+ */
+interface AngleBatchKernel {
+
+    /**
+     * Переводит углы из градусов в радианы.
+     * @param degrees Углы в градусах.
+     * @param radians Массив для результата.
+     * @param length Количество обрабатываемых элементов.
+     */
+    void toRadians(double[] degrees, double[] radians, int length);
+
+    /**
+     * Переводит углы из радианов в градусы.
+     * @param radians Углы в радианах.
+     * @param degrees Массив для результата.
+     * @param length Количество обрабатываемых элементов.
+     */
+    void toDegrees(double[] radians, double[] degrees, int length);
+
+    /**
+     * Ищет первый угол вне диапазона [-360, 360] градусов.
+     * @param degrees Углы в градусах.
+     * @param from Индекс начала (включительно).
+     * @param to Индекс конца (не включительно).
+     * @return Индекс первого недопустимого угла или -1.
+     */
+    int firstInvalid(double[] degrees, int from, int to);
+
+    /**
+     * Определяет типы углов так же, как {@link Angle#determineAngleType()}.
+     * @param degrees Углы в градусах.
+     * @param ordinals Массив для порядковых номеров {@link AngleType}.
+     * @param length Количество обрабатываемых элементов.
+     */
+    void classify(double[] degrees, int[] ordinals, int length);
+
+    /**
+     * Прибавляет к счетчикам количество углов каждого типа, определяемого так же,
+     * как {@link Angle#determineAngleType()}.
+     * @param degrees Углы в градусах.
+     * @param from Индекс начала (включительно).
+     * @param to Индекс конца (не включительно).
+     * @param counts Счетчики, индексированные порядковым номером {@link AngleType}.
+     */
+    void countTypes(double[] degrees, int from, int to, long[] counts);
+
+    /**
+     * Прибавляет к счетчикам количество углов каждого типа в сегменте памяти со значениями double.
+     * @param degrees Сегмент с углами в градусах.
+     * @param from Индекс начала (включительно).
+     * @param to Индекс конца (не включительно).
+     * @param counts Счетчики, индексированные порядковым номером {@link AngleType}.
+     */
+    void countTypes(MemorySegment degrees, long from, long to, long[] counts);
+}
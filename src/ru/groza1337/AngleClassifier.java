@@ -0,0 +1,225 @@
+package ru.groza1337;
+
+import java.io.Serial;
+import java.lang.foreign.MemorySegment;
+import java.util.EnumMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.DoubleStream;
+
+/**
+ * Подсчет количества углов каждого типа ({@link AngleType}) в больших наборах значений в градусах.
+ * Работа делится между ядрами через fork-join; на каждый элемент память не выделяется,
+ * каждая подзадача заводит один счетчик {@code long[]}. Массивы и сегменты считаются через {@link AngleKernels},
+ * поэтому при подключенном модуле jdk.incubator.vector подсчет идет без ветвлений по значениям.
+ * Результат - массив, индексированный порядковым номером {@link AngleType}, или {@link EnumMap}.
+ * Тип определяется так же, как в {@link Angle#determineAngleType()}; диапазон значений не проверяется.
+ */
+final public class AngleClassifier {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Количество элементов, ниже которого подзадача не делится.
+     */
+    static final int THRESHOLD = 1 << 14;
+
+    /**
+     * Типы углов в порядке их порядковых номеров.
+     */
+    private static final AngleType[] TYPES = AngleType.values();
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    private AngleClassifier() {
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Считает углы каждого типа в общем пуле fork-join.
+     * @param degrees Углы в градусах.
+     * @return Количество углов, индексированное порядковым номером {@link AngleType}.
+     */
+    public static long[] countByType(double[] degrees) {
+        return countByType(degrees, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Считает углы каждого типа в переданном пуле.
+     * @param degrees Углы в градусах.
+     * @param pool Пул потоков.
+     * @return Количество углов, индексированное порядковым номером {@link AngleType}.
+     */
+    public static long[] countByType(double[] degrees, ForkJoinPool pool) {
+        return pool.invoke(new ArrayTask(degrees, 0, degrees.length));
+    }
+
+    /**
+     * Считает углы каждого типа в сегменте памяти, содержащем значения double в градусах.
+     * @param segment Сегмент памяти.
+     * @return Количество углов, индексированное порядковым номером {@link AngleType}.
+     */
+    public static long[] countByType(MemorySegment segment) {
+        return countByType(segment, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Считает углы каждого типа в сегменте памяти, содержащем значения double в градусах.
+     * @param segment Сегмент памяти.
+     * @param pool Пул потоков.
+     * @return Количество углов, индексированное порядковым номером {@link AngleType}.
+     * @throws IllegalArgumentException Если размер сегмента не кратен размеру double.
+     */
+    public static long[] countByType(MemorySegment segment, ForkJoinPool pool) {
+        if (segment.byteSize() % Double.BYTES != 0) {
+            throw new IllegalArgumentException(
+                    "Размер сегмента " + segment.byteSize() + " байт не кратен размеру double.");
+        }
+        long count = segment.byteSize() / Double.BYTES;
+        return pool.invoke(new SegmentTask(segment, 0, count));
+    }
+
+    /**
+     * Считает углы каждого типа в потоке. Параллельный поток обрабатывается параллельно.
+     * @param degrees Поток углов в градусах.
+     * @return Количество углов, индексированное порядковым номером {@link AngleType}.
+     */
+    public static long[] countByType(DoubleStream degrees) {
+        return degrees.collect(
+                () -> new long[TYPES.length],
+                (counts, angle) -> counts[Angle.typeOf(angle).ordinal()]++,
+                AngleClassifier::merge);
+    }
+
+    /**
+     * Строит гистограмму типов углов.
+     * @param degrees Углы в градусах.
+     * @return Количество углов каждого типа.
+     */
+    public static EnumMap<AngleType, Long> histogram(double[] degrees) {
+        return toMap(countByType(degrees));
+    }
+
+    /**
+     * Преобразует массив счетчиков в {@link EnumMap}.
+     * @param counts Количество углов, индексированное порядковым номером {@link AngleType}.
+     * @return Количество углов каждого типа.
+     */
+    public static EnumMap<AngleType, Long> toMap(long[] counts) {
+        EnumMap<AngleType, Long> map = new EnumMap<>(AngleType.class);
+        for (AngleType type : TYPES) {
+            map.put(type, counts[type.ordinal()]);
+        }
+        return map;
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Прибавляет счетчики второго массива к первому.
+     * @param target Массив, к которому прибавляются счетчики.
+     * @param source Прибавляемые счетчики.
+     */
+    static void merge(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+
+    /**
+     * Подзадача подсчета по диапазону индексов.
+     */
+    private abstract static class CountTask extends RecursiveTask<long[]> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        final long _from;
+
+        final long _to;
+
+        CountTask(long from, long to) {
+            this._from = from;
+            this._to = to;
+        }
+
+        /**
+         * Создает подзадачу для части диапазона.
+         */
+        abstract CountTask subtask(long from, long to);
+
+        /**
+         * Считает углы в диапазоне без деления на подзадачи.
+         */
+        abstract void countRange(long from, long to, long[] counts);
+
+        @Override
+        protected long[] compute() {
+            if (this._to - this._from <= THRESHOLD) {
+                long[] counts = new long[TYPES.length];
+                countRange(this._from, this._to, counts);
+                return counts;
+            }
+            long middle = (this._from + this._to) >>> 1;
+            CountTask left = subtask(this._from, middle);
+            left.fork();
+            long[] counts = subtask(middle, this._to).compute();
+            merge(counts, left.join());
+            return counts;
+        }
+    }
+
+    /**
+     * Подзадача подсчета по массиву.
+     */
+    private static final class ArrayTask extends CountTask {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final double[] _degrees;
+
+        ArrayTask(double[] degrees, long from, long to) {
+            super(from, to);
+            this._degrees = degrees;
+        }
+
+        @Override
+        CountTask subtask(long from, long to) {
+            return new ArrayTask(this._degrees, from, to);
+        }
+
+        @Override
+        void countRange(long from, long to, long[] counts) {
+            AngleKernels.countTypes(this._degrees, (int) from, (int) to, counts);
+        }
+    }
+
+    /**
+     * Подзадача подсчета по сегменту памяти.
+     */
+    private static final class SegmentTask extends CountTask {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Сегмент не сериализуется; задача выполняется только в пуле, где создана
+        private final transient MemorySegment _segment;
+
+        SegmentTask(MemorySegment segment, long from, long to) {
+            super(from, to);
+            this._segment = segment;
+        }
+
+        @Override
+        CountTask subtask(long from, long to) {
+            return new SegmentTask(this._segment, from, to);
+        }
+
+        @Override
+        void countRange(long from, long to, long[] counts) {
+            AngleKernels.countTypes(this._segment, from, to, counts);
+        }
+    }
+}
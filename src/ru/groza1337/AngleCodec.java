@@ -0,0 +1,404 @@
+package ru.groza1337;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Компактная двоичная запись углов и пакетов углов в {@link ByteBuffer}.
+ * <pre>
+ * смещение  размер  содержимое
+ *  0        1       тип записи: 0xA1 - один угол, 0xA2 - пакет
+ *  1        1       единица измерения ({@link AngleUnit#ordinal()}) в старших 4 битах,
+ *                   способ записи ({@link AngleEncoding#ordinal()}) в младших
+ *  2        4       количество значений (только у пакета)
+ *  2 или 6  ...     значения подряд
+ * </pre>
+ * Все числа записываются в порядке little-endian, как в {@link AngleFile}; порядок байтов буфера
+ * на время записи и чтения меняется и затем восстанавливается. Значения пишутся прямо в буфер
+ * и читаются прямо из него без промежуточных массивов, а пакет FLOAT64 в градусах копируется
+ * одной массовой операцией. Место в буфере и данные проверяются заранее: при ошибке позиция буфера
+ * не меняется, а недостаток места или данных вызывает {@link BufferOverflowException}
+ * или {@link BufferUnderflowException}.
+ */
+final public class AngleCodec {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Тип записи с одним углом.
+     */
+    static final byte SINGLE = (byte) 0xA1;
+
+    /**
+     * Тип записи с пакетом углов.
+     */
+    static final byte BATCH = (byte) 0xA2;
+
+    /**
+     * Размер заголовка одного угла в байтах.
+     */
+    static final int SINGLE_HEADER_SIZE = 2;
+
+    /**
+     * Размер заголовка пакета в байтах.
+     */
+    static final int BATCH_HEADER_SIZE = 6;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    private AngleCodec() {
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает размер записи одного угла.
+     * @param encoding Способ записи.
+     * @return Размер в байтах.
+     */
+    public static int singleSize(AngleEncoding encoding) {
+        return SINGLE_HEADER_SIZE + encoding.bytes();
+    }
+
+    /**
+     * Возвращает размер записи пакета.
+     * @param count Количество углов.
+     * @param encoding Способ записи.
+     * @return Размер в байтах.
+     */
+    public static long batchSize(int count, AngleEncoding encoding) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Количество углов не может быть отрицательным.");
+        }
+        return BATCH_HEADER_SIZE + (long) count * encoding.bytes();
+    }
+
+    /* ---------------------------- Запись ---------------------------- */
+
+    /**
+     * Записывает угол с текущей позиции буфера.
+     * @param angle Угол.
+     * @param unit Единица измерения записи.
+     * @param encoding Способ записи.
+     * @param buffer Буфер.
+     */
+    public static void encode(Angle angle, AngleUnit unit, AngleEncoding encoding, ByteBuffer buffer) {
+        if (buffer.remaining() < singleSize(encoding)) {
+            throw new BufferOverflowException();
+        }
+        ByteOrder order = buffer.order();
+        buffer.order(AngleFile.ORDER);
+        try {
+            buffer.put(SINGLE).put(descriptor(unit, encoding));
+            encoding.put(buffer, unit.of(angle), unit);
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Записывает пакет углов в градусах с текущей позиции буфера.
+     * Весь пакет проверяется на диапазон [-360, 360] до записи.
+     * @param degrees Углы в градусах.
+     * @param from Индекс начала (включительно).
+     * @param to Индекс конца (не включительно).
+     * @param unit Единица измерения записи.
+     * @param encoding Способ записи.
+     * @param buffer Буфер.
+     */
+    public static void encode(double[] degrees, int from, int to, AngleUnit unit, AngleEncoding encoding,
+                              ByteBuffer buffer) {
+        int invalid = AngleKernels.firstInvalid(degrees, from, to);
+        if (invalid >= 0) {
+            throw new IllegalArgumentException(
+                    "Угол с индексом " + invalid + " должен быть в диапазоне [-360, 360] градусов.");
+        }
+        int count = to - from;
+        if (buffer.remaining() < batchSize(count, encoding)) {
+            throw new BufferOverflowException();
+        }
+        ByteOrder order = buffer.order();
+        buffer.order(AngleFile.ORDER);
+        try {
+            buffer.put(BATCH).put(descriptor(unit, encoding)).putInt(count);
+            if (unit == AngleUnit.DEGREES && encoding == AngleEncoding.FLOAT64) {
+                buffer.asDoubleBuffer().put(degrees, from, count);
+            } else {
+                putAll(degrees, from, to, unit, encoding, buffer);
+            }
+            buffer.position(buffer.position() + count * encoding.bytes());
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Записывает все углы массива пакетом с текущей позиции буфера.
+     * @param angles Массив углов.
+     * @param unit Единица измерения записи.
+     * @param encoding Способ записи.
+     * @param buffer Буфер.
+     */
+    public static void encode(AngleArray angles, AngleUnit unit, AngleEncoding encoding, ByteBuffer buffer) {
+        int count = angles.length();
+        if (buffer.remaining() < batchSize(count, encoding)) {
+            throw new BufferOverflowException();
+        }
+        ByteOrder order = buffer.order();
+        buffer.order(AngleFile.ORDER);
+        try {
+            buffer.put(BATCH).put(descriptor(unit, encoding)).putInt(count);
+            for (int i = 0; i < count; i++) {
+                encoding.put(buffer, unit.fromDegrees(angles.getDegrees(i)), unit);
+            }
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /* ---------------------------- Чтение ---------------------------- */
+
+    /**
+     * Читает угол с текущей позиции буфера.
+     * @param buffer Буфер с записью одного угла.
+     * @return Угол.
+     */
+    public static Angle decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        ByteOrder order = buffer.order();
+        buffer.order(AngleFile.ORDER);
+        try {
+            if (buffer.remaining() < SINGLE_HEADER_SIZE) {
+                throw new BufferUnderflowException();
+            }
+            if (buffer.get() != SINGLE) {
+                throw new IllegalArgumentException("Буфер не содержит запись угла.");
+            }
+            byte descriptor = buffer.get();
+            AngleUnit unit = unitOf(descriptor);
+            AngleEncoding encoding = encodingOf(descriptor);
+            if (buffer.remaining() < encoding.bytes()) {
+                throw new BufferUnderflowException();
+            }
+            return Angle.degrees(toDegrees(encoding.get(buffer, unit), unit, 0));
+        } catch (RuntimeException e) {
+            buffer.position(start);
+            throw e;
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Возвращает количество углов в пакете с текущей позиции буфера, не сдвигая позицию.
+     * Позволяет заранее выделить массив для {@link #decodeDegrees(ByteBuffer, double[], int)}.
+     * @param buffer Буфер с записью пакета.
+     * @return Количество углов.
+     */
+    public static int batchCount(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < BATCH_HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+        if (buffer.get(start) != BATCH) {
+            throw new IllegalArgumentException("Буфер не содержит запись пакета углов.");
+        }
+        unitOf(buffer.get(start + 1));
+        encodingOf(buffer.get(start + 1));
+        int count = buffer.getInt(start + 2);
+        if (buffer.order() != AngleFile.ORDER) {
+            count = Integer.reverseBytes(count);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Количество углов в пакете не может быть отрицательным.");
+        }
+        return count;
+    }
+
+    /**
+     * Читает пакет углов с текущей позиции буфера в новый массив.
+     * @param buffer Буфер с записью пакета.
+     * @return Углы в градусах.
+     */
+    public static double[] decodeDegrees(ByteBuffer buffer) {
+        double[] degrees = new double[batchCount(buffer)];
+        decodeDegrees(buffer, degrees, 0);
+        return degrees;
+    }
+
+    /**
+     * Читает пакет углов с текущей позиции буфера в переданный массив.
+     * @param buffer Буфер с записью пакета.
+     * @param out Массив для результата.
+     * @param offset Индекс в массиве, с которого записываются углы.
+     * @return Количество прочитанных углов.
+     */
+    public static int decodeDegrees(ByteBuffer buffer, double[] out, int offset) {
+        int count = batchCount(buffer);
+        if (offset < 0 || offset > out.length || out.length - offset < count) {
+            throw new IndexOutOfBoundsException("Пакет из " + count + " углов не помещается в массив длины "
+                    + out.length + " с индекса " + offset + ".");
+        }
+        int start = buffer.position();
+        byte descriptor = buffer.get(start + 1);
+        AngleUnit unit = unitOf(descriptor);
+        AngleEncoding encoding = encodingOf(descriptor);
+        if (buffer.remaining() - BATCH_HEADER_SIZE < (long) count * encoding.bytes()) {
+            throw new BufferUnderflowException();
+        }
+        ByteOrder order = buffer.order();
+        buffer.order(AngleFile.ORDER);
+        try {
+            buffer.position(start + BATCH_HEADER_SIZE);
+            if (encoding == AngleEncoding.FLOAT64) {
+                buffer.asDoubleBuffer().get(out, offset, count);
+            } else {
+                getAll(buffer, unit, encoding, out, offset, count);
+            }
+            if (unit == AngleUnit.RADIANS) {
+                for (int i = offset; i < offset + count; i++) {
+                    out[i] = Angle.radiansToDegrees(out[i]);
+                }
+            }
+            int invalid = AngleKernels.firstInvalid(out, offset, offset + count);
+            if (invalid >= 0) {
+                throw AngleFile.outOfRange(invalid - offset, unit.fromDegrees(out[invalid]), unit);
+            }
+            buffer.position(buffer.position() + count * encoding.bytes());
+            return count;
+        } catch (RuntimeException e) {
+            buffer.position(start);
+            throw e;
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Читает пакет углов с текущей позиции буфера в новый массив углов.
+     * @param buffer Буфер с записью пакета.
+     * @return Массив углов.
+     */
+    public static AngleArray decodeArray(ByteBuffer buffer) {
+        return AngleArray.wrap(decodeDegrees(buffer));
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Записывает значения с текущей позиции буфера, не сдвигая ее. Выбор способа записи вынесен
+     * из цикла, а значения пишутся по абсолютным смещениям, чтобы цикл оставался простым для JIT.
+     * @param degrees Проверенные углы в градусах.
+     * @param from Индекс начала (включительно).
+     * @param to Индекс конца (не включительно).
+     * @param unit Единица измерения записи.
+     * @param encoding Способ записи.
+     * @param buffer Буфер с порядком байтов {@link AngleFile#ORDER}.
+     */
+    private static void putAll(double[] degrees, int from, int to, AngleUnit unit, AngleEncoding encoding,
+                               ByteBuffer buffer) {
+        int position = buffer.position() - from * encoding.bytes();
+        boolean radians = unit == AngleUnit.RADIANS;
+        switch (encoding) {
+            case FLOAT64 -> {
+                // сюда попадают только радианы: градусы FLOAT64 копируются массовой операцией
+                for (int i = from; i < to; i++) {
+                    buffer.putDouble(position + i * Double.BYTES, Angle.degreesToRadians(degrees[i]));
+                }
+            }
+            case FIXED32 -> {
+                for (int i = from; i < to; i++) {
+                    double value = radians ? Angle.degreesToRadians(degrees[i]) : degrees[i];
+                    buffer.putInt(position + i * Integer.BYTES, AngleEncoding.quantize32(value, unit));
+                }
+            }
+            case FLOAT32 -> {
+                for (int i = from; i < to; i++) {
+                    double value = radians ? Angle.degreesToRadians(degrees[i]) : degrees[i];
+                    buffer.putFloat(position + i * Float.BYTES, (float) value);
+                }
+            }
+            case FIXED16 -> {
+                for (int i = from; i < to; i++) {
+                    double value = radians ? Angle.degreesToRadians(degrees[i]) : degrees[i];
+                    buffer.putShort(position + i * Short.BYTES, AngleEncoding.quantize16(value, unit));
+                }
+            }
+        }
+    }
+
+    /**
+     * Читает значения в единицах записи с текущей позиции буфера, не сдвигая ее.
+     * Значения FLOAT64 читаются массовой операцией вызывающим кодом.
+     * @param buffer Буфер с порядком байтов {@link AngleFile#ORDER}.
+     * @param unit Единица измерения записи.
+     * @param encoding Способ записи, кроме FLOAT64.
+     * @param out Массив для результата.
+     * @param offset Индекс в массиве, с которого записываются значения.
+     * @param count Количество значений.
+     */
+    private static void getAll(ByteBuffer buffer, AngleUnit unit, AngleEncoding encoding,
+                               double[] out, int offset, int count) {
+        int position = buffer.position();
+        switch (encoding) {
+            case FIXED32 -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = AngleEncoding.dequantize32(buffer.getInt(position + i * Integer.BYTES), unit);
+                }
+            }
+            case FLOAT32 -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = AngleEncoding.widen(buffer.getFloat(position + i * Float.BYTES), unit);
+                }
+            }
+            case FIXED16 -> {
+                for (int i = 0; i < count; i++) {
+                    out[offset + i] = AngleEncoding.dequantize16(buffer.getShort(position + i * Short.BYTES), unit);
+                }
+            }
+            default -> throw new IllegalStateException("Способ записи " + encoding + " читается массовой операцией.");
+        }
+    }
+
+    /**
+     * Собирает байт с единицей измерения и способом записи.
+     */
+    private static byte descriptor(AngleUnit unit, AngleEncoding encoding) {
+        return (byte) (unit.ordinal() << 4 | encoding.ordinal());
+    }
+
+    private static AngleUnit unitOf(byte descriptor) {
+        AngleUnit[] units = AngleUnit.values();
+        int unit = (descriptor & 0xF0) >>> 4;
+        if (unit >= units.length) {
+            throw new IllegalArgumentException("Неизвестная единица измерения: " + unit + ".");
+        }
+        return units[unit];
+    }
+
+    private static AngleEncoding encodingOf(byte descriptor) {
+        AngleEncoding[] encodings = AngleEncoding.values();
+        int encoding = descriptor & 0x0F;
+        if (encoding >= encodings.length) {
+            throw new IllegalArgumentException("Неизвестный способ записи: " + encoding + ".");
+        }
+        return encodings[encoding];
+    }
+
+    /**
+     * Переводит прочитанное значение в градусы и проверяет диапазон.
+     * @param value Значение в единицах записи.
+     * @param unit Единица измерения.
+     * @param index Индекс значения в записи.
+     * @return Угол в градусах.
+     */
+    private static double toDegrees(double value, AngleUnit unit, int index) {
+        double degrees = unit.toDegrees(value);
+        if (!Angle.isValidDegrees(degrees)) {
+            throw AngleFile.outOfRange(index, value, unit);
+        }
+        return degrees;
+    }
+}
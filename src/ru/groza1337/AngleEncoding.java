@@ -0,0 +1,127 @@
+package ru.groza1337;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Способы записи значений углов в двоичном виде.
+ * Квантованные способы делят диапазон [-bound, bound] единицы измерения ({@link AngleUnit#bound()})
+ * на равные шаги и сохраняют номер шага как целое число со знаком.
+ * Порядковые номера записываются в заголовки файлов и сообщений, поэтому новые способы добавляются только в конец.
+ */
+public enum AngleEncoding {
+    FLOAT64(8),     // double, без потерь
+    FIXED32(4),     // int, шаг 360 / (2^31 - 1) градуса
+    FLOAT32(4),     // float, около 7 значащих цифр
+    FIXED16(2);     // short, шаг 360 / (2^15 - 1) градуса, около 0.011
+
+    /**
+     * Размер одного значения в байтах.
+     */
+    private final int _bytes;
+
+    AngleEncoding(int bytes) {
+        this._bytes = bytes;
+    }
+
+    /**
+     * Возвращает размер одного значения в байтах.
+     * @return Размер значения.
+     */
+    public int bytes() {
+        return this._bytes;
+    }
+
+    /**
+     * Записывает значение этим способом в текущую позицию буфера в порядке байтов буфера.
+     * @param buffer Буфер.
+     * @param value Угол в единицах unit, в диапазоне [-bound, bound].
+     * @param unit Единица измерения.
+     */
+    void put(ByteBuffer buffer, double value, AngleUnit unit) {
+        switch (this) {
+            case FLOAT64 -> buffer.putDouble(value);
+            case FIXED32 -> buffer.putInt(quantize32(value, unit));
+            case FLOAT32 -> buffer.putFloat((float) value);
+            case FIXED16 -> buffer.putShort(quantize16(value, unit));
+        }
+    }
+
+    /**
+     * Читает значение, записанное этим способом, из текущей позиции буфера.
+     * @param buffer Буфер.
+     * @param unit Единица измерения.
+     * @return Угол в единицах unit.
+     */
+    double get(ByteBuffer buffer, AngleUnit unit) {
+        return switch (this) {
+            case FLOAT64 -> buffer.getDouble();
+            case FIXED32 -> dequantize32(buffer.getInt(), unit);
+            case FLOAT32 -> widen(buffer.getFloat(), unit);
+            case FIXED16 -> dequantize16(buffer.getShort(), unit);
+        };
+    }
+
+    /**
+     * Квантует значение в 32-битное целое.
+     * @param value Угол в единицах unit, в диапазоне [-bound, bound].
+     * @param unit Единица измерения.
+     * @return Номер шага.
+     */
+    static int quantize32(double value, AngleUnit unit) {
+        return (int) Math.round(value / unit.bound() * Integer.MAX_VALUE);
+    }
+
+    /**
+     * Восстанавливает значение из 32-битного номера шага.
+     * @param quantized Номер шага.
+     * @param unit Единица измерения.
+     * @return Угол в единицах unit.
+     */
+    static double dequantize32(int quantized, AngleUnit unit) {
+        return clamp(quantized * unit.bound() / Integer.MAX_VALUE, unit);
+    }
+
+    /**
+     * Квантует значение в 16-битное целое.
+     * @param value Угол в единицах unit, в диапазоне [-bound, bound].
+     * @param unit Единица измерения.
+     * @return Номер шага.
+     */
+    static short quantize16(double value, AngleUnit unit) {
+        return (short) Math.round(value / unit.bound() * Short.MAX_VALUE);
+    }
+
+    /**
+     * Восстанавливает значение из 16-битного номера шага.
+     * @param quantized Номер шага.
+     * @param unit Единица измерения.
+     * @return Угол в единицах unit.
+     */
+    static double dequantize16(short quantized, AngleUnit unit) {
+        return clamp(quantized * unit.bound() / Short.MAX_VALUE, unit);
+    }
+
+    /**
+     * Восстанавливает значение, записанное как float. Ограничиваются только значения, не превышающие
+     * границу, округленную до float: так 2π, округленное вверх, остается допустимым углом,
+     * а значения за пределами диапазона возвращаются как есть и отклоняются проверкой диапазона.
+     * @param value Прочитанное значение.
+     * @param unit Единица измерения.
+     * @return Угол в единицах unit.
+     */
+    static double widen(float value, AngleUnit unit) {
+        return Math.abs(value) <= (float) unit.bound() ? clamp(value, unit) : value;
+    }
+
+    /**
+     * Ограничивает восстановленное значение диапазоном [-bound, bound], чтобы ошибка округления
+     * на границе (в том числе 2π, округленного до float) не выводила угол за допустимый диапазон.
+     * @param value Восстановленное значение.
+     * @param unit Единица измерения.
+     * @return Значение в диапазоне.
+     */
+    static double clamp(double value, AngleUnit unit) {
+        double bound = unit.bound();
+        return Math.max(-bound, Math.min(bound, value));
+    }
+}
@@ -0,0 +1,67 @@
+package ru.groza1337;
+
+import java.nio.ByteOrder;
+
+/**
+ * Двоичный формат файла со столбцом углов.
+ * <pre>
+ * смещение  размер  содержимое
+ *  0        4       сигнатура "ANGF"
+ *  4        1       версия формата ({@value #VERSION})
+ *  5        1       единица измерения ({@link AngleUnit#ordinal()})
+ *  6        1       способ записи ({@link AngleEncoding#ordinal()})
+ *  7        1       зарезервировано, 0
+ *  8        8       количество значений
+ * 16        ...     значения подряд
+ * </pre>
+ * Все числа записываются в порядке little-endian. Размер заголовка кратен 8,
+ * поэтому значения FLOAT64 в отображенном в память файле выровнены.
+ */
+final public class AngleFile {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Сигнатура файла: байты "ANGF", прочитанные как int в порядке little-endian.
+     */
+    static final int MAGIC = 'A' | 'N' << 8 | 'G' << 16 | 'F' << 24;
+
+    /**
+     * Версия формата.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * Размер заголовка в байтах.
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * Смещение количества значений в заголовке.
+     */
+    static final int COUNT_OFFSET = 8;
+
+    /**
+     * Порядок байтов всех чисел файла.
+     */
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    private AngleFile() {
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Создает исключение для значения вне диапазона [-360, 360] градусов.
+     * @param index Индекс значения в файле.
+     * @param value Значение в единицах файла.
+     * @param unit Единица измерения.
+     * @return Исключение с описанием ошибки.
+     */
+    static IllegalArgumentException outOfRange(long index, double value, AngleUnit unit) {
+        return new IllegalArgumentException("Значение " + value + " (" + unit + ") с индексом " + index
+                + " вне диапазона [-360, 360] градусов.");
+    }
+}
@@ -0,0 +1,245 @@
+package ru.groza1337;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Чтение двоичного файла формата {@link AngleFile}.
+ * Файл отображается в память через {@link FileChannel#map(FileChannel.MapMode, long, long, Arena)},
+ * значения читаются прямо из отображения без копирования и без выделения памяти на каждое значение.
+ * Все методы отдают углы в градусах и проверяют диапазон [-360, 360] по ходу чтения:
+ * первое значение вне диапазона вызывает {@link IllegalArgumentException} с его индексом.
+ */
+final public class AngleFileReader implements AutoCloseable {
+
+    /* =========================== Свойства =============================== */
+
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(AngleFile.ORDER);
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(AngleFile.ORDER);
+
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(AngleFile.ORDER);
+
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(AngleFile.ORDER);
+
+    private static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(AngleFile.ORDER);
+
+    /**
+     * Арена отображения; закрывается в {@link #close()}.
+     */
+    private final Arena _arena;
+
+    /**
+     * Отображенные значения без заголовка.
+     */
+    private final MemorySegment _values;
+
+    private final AngleUnit _unit;
+
+    private final AngleEncoding _encoding;
+
+    private final long _count;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Приватный конструктор для создания объекта чтения.
+     * @param arena Арена отображения.
+     * @param file Отображенный файл.
+     */
+    private AngleFileReader(Arena arena, MemorySegment file) {
+        if (file.byteSize() < AngleFile.HEADER_SIZE || file.get(INT, 0) != AngleFile.MAGIC) {
+            throw new IllegalArgumentException("Файл не является файлом углов.");
+        }
+        if (file.get(ValueLayout.JAVA_BYTE, 4) != AngleFile.VERSION) {
+            throw new IllegalArgumentException("Неподдерживаемая версия формата: " + file.get(ValueLayout.JAVA_BYTE, 4) + ".");
+        }
+        AngleUnit[] units = AngleUnit.values();
+        AngleEncoding[] encodings = AngleEncoding.values();
+        int unit = file.get(ValueLayout.JAVA_BYTE, 5);
+        int encoding = file.get(ValueLayout.JAVA_BYTE, 6);
+        if (unit < 0 || unit >= units.length || encoding < 0 || encoding >= encodings.length) {
+            throw new IllegalArgumentException("Неизвестная единица измерения или способ записи.");
+        }
+        this._arena = arena;
+        this._unit = units[unit];
+        this._encoding = encodings[encoding];
+        this._count = file.get(LONG, AngleFile.COUNT_OFFSET);
+        long available = (file.byteSize() - AngleFile.HEADER_SIZE) / this._encoding.bytes();
+        if (this._count < 0 || this._count > available) {
+            throw new IllegalArgumentException("Файл содержит " + available + " значений вместо " + this._count + ".");
+        }
+        this._values = file.asSlice(AngleFile.HEADER_SIZE, this._count * this._encoding.bytes());
+    }
+
+    /**
+     * Открывает файл углов и отображает его в память.
+     * @param path Путь к файлу.
+     * @return Объект чтения.
+     * @throws IOException Если файл не удалось открыть.
+     */
+    public static AngleFileReader open(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new AngleFileReader(arena, file);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает единицу измерения значений в файле.
+     * @return Единица измерения.
+     */
+    public AngleUnit unit() {
+        return this._unit;
+    }
+
+    /**
+     * Возвращает способ записи значений в файле.
+     * @return Способ записи.
+     */
+    public AngleEncoding encoding() {
+        return this._encoding;
+    }
+
+    /**
+     * Возвращает количество значений в файле.
+     * @return Количество значений.
+     */
+    public long count() {
+        return this._count;
+    }
+
+    /**
+     * Возвращает значение в градусах.
+     * @param index Индекс значения.
+     * @return Угол в градусах.
+     */
+    public double getDegrees(long index) {
+        if (index < 0 || index >= this._count) {
+            throw new IndexOutOfBoundsException("Индекс " + index + " вне файла из " + this._count + " значений.");
+        }
+        return degreesAt(index);
+    }
+
+    /**
+     * Передает все значения в градусах по порядку.
+     * @param consumer Получатель значений.
+     */
+    public void forEach(DoubleConsumer consumer) {
+        for (long i = 0; i < this._count; i++) {
+            consumer.accept(degreesAt(i));
+        }
+    }
+
+    /**
+     * Читает значения в градусах, начиная с указанного индекса, в переданный массив.
+     * @param from Индекс первого значения.
+     * @param out Массив для результата.
+     * @return Количество прочитанных значений.
+     */
+    public int read(long from, double[] out) {
+        int length = (int) Math.max(0, Math.min(out.length, this._count - from));
+        for (int i = 0; i < length; i++) {
+            out[i] = degreesAt(from + i);
+        }
+        return length;
+    }
+
+    /**
+     * Читает значения в единице файла без перевода в градусы и без проверки диапазона, начиная
+     * с указанного индекса, в переданный массив. Используется там, где значения вне диапазона
+     * учитываются, а не прерывают чтение.
+     * @param from Индекс первого значения.
+     * @param out Массив для результата.
+     * @return Количество прочитанных значений.
+     */
+    int readValues(long from, double[] out) {
+        int length = (int) Math.max(0, Math.min(out.length, this._count - from));
+        for (int i = 0; i < length; i++) {
+            out[i] = valueAt(from + i);
+        }
+        return length;
+    }
+
+    /**
+     * Читает все значения в массив углов. Диапазон проверяется при чтении,
+     * поэтому прочитанный массив используется без копирования.
+     * @return Массив углов.
+     */
+    public AngleArray toAngleArray() {
+        if (this._count > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Файл содержит больше значений, чем помещается в массив.");
+        }
+        double[] degrees = new double[(int) this._count];
+        read(0, degrees);
+        return AngleArray.wrap(degrees);
+    }
+
+    /**
+     * Читает все значения в буфер вне кучи с собственной ареной.
+     * @return Буфер углов.
+     */
+    public OffHeapAngleBuffer toOffHeap() {
+        OffHeapAngleBuffer buffer = OffHeapAngleBuffer.allocate(this._count);
+        try {
+            for (long i = 0; i < this._count; i++) {
+                buffer.setDegrees(i, degreesAt(i));
+            }
+        } catch (RuntimeException e) {
+            buffer.close();
+            throw e;
+        }
+        return buffer;
+    }
+
+    /**
+     * Снимает отображение файла.
+     */
+    @Override
+    public void close() {
+        this._arena.close();
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Читает значение в единице файла без проверки диапазона. Значение FLOAT32 на границе диапазона,
+     * округленной до float, возвращается на границу; значения дальше границы не изменяются.
+     * @param index Индекс значения.
+     * @return Значение в единице файла.
+     */
+    private double valueAt(long index) {
+        return switch (this._encoding) {
+            case FLOAT64 -> this._values.getAtIndex(DOUBLE, index);
+            case FIXED32 -> AngleEncoding.dequantize32(this._values.getAtIndex(INT, index), this._unit);
+            case FLOAT32 -> AngleEncoding.widen(this._values.getAtIndex(FLOAT, index), this._unit);
+            case FIXED16 -> AngleEncoding.dequantize16(this._values.getAtIndex(SHORT, index), this._unit);
+        };
+    }
+
+    /**
+     * Читает значение, переводит его в градусы и проверяет диапазон.
+     * @param index Индекс значения.
+     * @return Угол в градусах.
+     */
+    private double degreesAt(long index) {
+        double value = valueAt(index);
+        double degrees = this._unit.toDegrees(value);
+        if (!Angle.isValidDegrees(degrees)) {
+            throw AngleFile.outOfRange(index, value, this._unit);
+        }
+        return degrees;
+    }
+}
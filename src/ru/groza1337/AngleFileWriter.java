@@ -0,0 +1,166 @@
+package ru.groza1337;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Запись столбца углов в двоичный файл формата {@link AngleFile}.
+ * Значения накапливаются в буфере вне кучи и сбрасываются в файл блоками;
+ * количество значений записывается в заголовок при закрытии.
+ * Каждое значение проверяется на диапазон [-360, 360] градусов до записи.
+ */
+final public class AngleFileWriter implements AutoCloseable {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Размер буфера записи в байтах.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel _channel;
+
+    private final AngleUnit _unit;
+
+    private final AngleEncoding _encoding;
+
+    private final ByteBuffer _buffer;
+
+    /**
+     * Количество записанных значений.
+     */
+    private long _count;
+
+    private boolean _closed;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Приватный конструктор для создания объекта записи.
+     * @param channel Канал файла.
+     * @param unit Единица измерения значений.
+     * @param encoding Способ записи значений.
+     */
+    private AngleFileWriter(FileChannel channel, AngleUnit unit, AngleEncoding encoding) {
+        this._channel = channel;
+        this._unit = unit;
+        this._encoding = encoding;
+        this._buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(AngleFile.ORDER);
+        this._buffer.putInt(AngleFile.MAGIC)
+                .put(AngleFile.VERSION)
+                .put((byte) unit.ordinal())
+                .put((byte) encoding.ordinal())
+                .put((byte) 0)
+                .putLong(0);
+    }
+
+    /**
+     * Создает файл (или перезаписывает существующий) для записи углов.
+     * @param path Путь к файлу.
+     * @param unit Единица измерения значений в файле.
+     * @param encoding Способ записи значений.
+     * @return Объект записи.
+     * @throws IOException Если файл не удалось открыть.
+     */
+    public static AngleFileWriter create(Path path, AngleUnit unit, AngleEncoding encoding) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new AngleFileWriter(channel, unit, encoding);
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает количество записанных значений.
+     * @return Количество значений.
+     */
+    public long count() {
+        return this._count;
+    }
+
+    /**
+     * Записывает значение в единицах измерения файла.
+     * @param value Угол в единицах файла.
+     * @throws IOException Если не удалось записать данные.
+     */
+    public void write(double value) throws IOException {
+        if (!Angle.isValidDegrees(this._unit.toDegrees(value))) {
+            throw AngleFile.outOfRange(this._count, value, this._unit);
+        }
+        if (this._buffer.remaining() < this._encoding.bytes()) {
+            flush();
+        }
+        this._encoding.put(this._buffer, value, this._unit);
+        this._count++;
+    }
+
+    /**
+     * Записывает угол, переводя его в единицы измерения файла.
+     * @param angle Угол.
+     * @throws IOException Если не удалось записать данные.
+     */
+    public void write(Angle angle) throws IOException {
+        write(this._unit.of(angle));
+    }
+
+    /**
+     * Записывает часть массива значений в единицах измерения файла.
+     * @param values Углы в единицах файла.
+     * @param from Индекс начала (включительно).
+     * @param to Индекс конца (не включительно).
+     * @throws IOException Если не удалось записать данные.
+     */
+    public void write(double[] values, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            write(values[i]);
+        }
+    }
+
+    /**
+     * Записывает все углы массива, переводя их в единицы измерения файла.
+     * @param angles Массив углов.
+     * @throws IOException Если не удалось записать данные.
+     */
+    public void write(AngleArray angles) throws IOException {
+        for (int i = 0; i < angles.length(); i++) {
+            write(this._unit.fromDegrees(angles.getDegrees(i)));
+        }
+    }
+
+    /**
+     * Дописывает оставшиеся значения, записывает их количество в заголовок и закрывает файл.
+     * Повторный вызов ничего не делает.
+     * @throws IOException Если не удалось записать данные.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this._closed) {
+            return;
+        }
+        this._closed = true;
+        try {
+            flush();
+            ByteBuffer count = ByteBuffer.allocate(Long.BYTES).order(AngleFile.ORDER).putLong(0, this._count);
+            this._channel.write(count, AngleFile.COUNT_OFFSET);
+        } finally {
+            this._channel.close();
+        }
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Сбрасывает накопленные байты в файл.
+     * @throws IOException Если не удалось записать данные.
+     */
+    private void flush() throws IOException {
+        this._buffer.flip();
+        while (this._buffer.hasRemaining()) {
+            this._channel.write(this._buffer);
+        }
+        this._buffer.clear();
+    }
+}
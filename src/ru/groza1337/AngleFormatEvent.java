@@ -0,0 +1,36 @@
+package ru.groza1337;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JDK Flight Recorder с длительностью форматирования угла в {@link Angle#toString()}
+ * и {@link Angle#toStringInRadians()}. Стек вызова не записывается, чтобы событие оставалось дешевым.
+ * Пока событие не включено ни в одной записи, {@link #TYPE} сообщает об этом одним чтением поля,
+ * и объект события не создается.
+ */
+@Name("ru.groza1337.AngleFormat")
+@Label("Angle Format")
+@Category("Angle")
+@Description("Форматирование угла в строку")
+@StackTrace(false)
+final class AngleFormatEvent extends Event {
+
+    /**
+     * Тип события для проверки {@link EventType#isEnabled()} до создания объекта события.
+     */
+    static final EventType TYPE = EventType.getEventType(AngleFormatEvent.class);
+
+    @Name("unit")
+    @Label("Unit")
+    String _unit;
+
+    @Name("decimals")
+    @Label("Decimals")
+    int _decimals;
+}
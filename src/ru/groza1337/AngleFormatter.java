@@ -0,0 +1,189 @@
+package ru.groza1337;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Locale;
+
+/**
+ * Форматирование углов с фиксированным числом знаков после запятой.
+ * Пишет результат прямо в переданный {@link StringBuilder}, {@link CharBuffer} или {@link Appendable}
+ * без промежуточных строк. Результат совпадает с {@code String.format(Locale.US, "%.Nf", value)},
+ * включая округление: Formatter округляет кратчайшую десятичную запись числа по правилу HALF_UP,
+ * поэтому значения, близкие к середине между соседними результатами, передаются в него напрямую.
+ */
+final public class AngleFormatter {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Число знаков после запятой в {@link Angle#toString()} и {@link Angle#toStringInRadians()}.
+     */
+    public static final int DEFAULT_DECIMALS = 2;
+
+    /**
+     * Степени десяти, допустимые для быстрого пути.
+     */
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L
+    };
+
+    /**
+     * Граница масштабированного значения, до которой дробная часть double еще различима.
+     */
+    private static final double FAST_PATH_LIMIT = 1e15;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    private AngleFormatter() {
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Дописывает число с фиксированным числом знаков после запятой.
+     * @param out Буфер для результата.
+     * @param value Число.
+     * @param decimals Число знаков после запятой.
+     * @return Переданный буфер.
+     */
+    public static StringBuilder appendFixed(StringBuilder out, double value, int decimals) {
+        try {
+            write(out, value, decimals);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return out;
+    }
+
+    /**
+     * Дописывает число с фиксированным числом знаков после запятой.
+     * @param out Буфер для результата.
+     * @param value Число.
+     * @param decimals Число знаков после запятой.
+     * @return Переданный буфер.
+     */
+    public static CharBuffer appendFixed(CharBuffer out, double value, int decimals) {
+        try {
+            write(out, value, decimals);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return out;
+    }
+
+    /**
+     * Дописывает число с фиксированным числом знаков после запятой.
+     * @param out Приемник результата.
+     * @param value Число.
+     * @param decimals Число знаков после запятой.
+     * @return Переданный приемник.
+     * @throws IOException Если приемник не смог принять символы.
+     */
+    public static Appendable appendFixed(Appendable out, double value, int decimals) throws IOException {
+        write(out, value, decimals);
+        return out;
+    }
+
+    /**
+     * Дописывает угол в градусах в формате {@code "45.00 degrees"}.
+     * @param out Буфер для результата.
+     * @param angle Угол.
+     * @param decimals Число знаков после запятой.
+     * @return Переданный буфер.
+     */
+    public static StringBuilder appendDegrees(StringBuilder out, Angle angle, int decimals) {
+        return appendFixed(out, angle.getDegrees(), decimals).append(" degrees");
+    }
+
+    /**
+     * Дописывает угол в градусах в формате {@code "45.00 degrees"}.
+     * @param out Приемник результата.
+     * @param angle Угол.
+     * @param decimals Число знаков после запятой.
+     * @return Переданный приемник.
+     * @throws IOException Если приемник не смог принять символы.
+     */
+    public static Appendable appendDegrees(Appendable out, Angle angle, int decimals) throws IOException {
+        return appendFixed(out, angle.getDegrees(), decimals).append(" degrees");
+    }
+
+    /**
+     * Дописывает угол в радианах в формате {@code "0.79 radians"}.
+     * @param out Буфер для результата.
+     * @param angle Угол.
+     * @param decimals Число знаков после запятой.
+     * @return Переданный буфер.
+     */
+    public static StringBuilder appendRadians(StringBuilder out, Angle angle, int decimals) {
+        return appendFixed(out, angle.getRadians(), decimals).append(" radians");
+    }
+
+    /**
+     * Дописывает угол в радианах в формате {@code "0.79 radians"}.
+     * @param out Приемник результата.
+     * @param angle Угол.
+     * @param decimals Число знаков после запятой.
+     * @return Переданный приемник.
+     * @throws IOException Если приемник не смог принять символы.
+     */
+    public static Appendable appendRadians(Appendable out, Angle angle, int decimals) throws IOException {
+        return appendFixed(out, angle.getRadians(), decimals).append(" radians");
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Записывает число с фиксированным числом знаков после запятой.
+     * @param out Приемник результата.
+     * @param value Число.
+     * @param decimals Число знаков после запятой.
+     * @throws IOException Если приемник не смог принять символы.
+     */
+    private static void write(Appendable out, double value, int decimals) throws IOException {
+        if (decimals < 0) {
+            throw new IllegalArgumentException("Число знаков после запятой не может быть отрицательным.");
+        }
+        double scaled = Math.abs(value) * (decimals < POWERS_OF_TEN.length ? POWERS_OF_TEN[decimals] : Double.NaN);
+        if (!(scaled < FAST_PATH_LIMIT)) {
+            // NaN, бесконечность, слишком большие значения или слишком много знаков
+            out.append(String.format(Locale.US, "%." + decimals + "f", value));
+            return;
+        }
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) <= 8 * Math.ulp(scaled)) {
+            // результат зависит от кратчайшей десятичной записи, решает Formatter
+            out.append(String.format(Locale.US, "%." + decimals + "f", value));
+            return;
+        }
+
+        long digits = (long) floor + (fraction > 0.5 ? 1 : 0);
+        long power = POWERS_OF_TEN[decimals];
+        if (Double.doubleToRawLongBits(value) < 0) {
+            out.append('-');
+        }
+        writeDigits(out, digits / power, 1);
+        if (decimals > 0) {
+            out.append('.');
+            writeDigits(out, digits % power, decimals);
+        }
+    }
+
+    /**
+     * Записывает неотрицательное целое число, дополняя его ведущими нулями.
+     * @param out Приемник результата.
+     * @param number Число.
+     * @param minDigits Минимальное количество цифр.
+     * @throws IOException Если приемник не смог принять символы.
+     */
+    private static void writeDigits(Appendable out, long number, int minDigits) throws IOException {
+        int length = 1;
+        while (length < POWERS_OF_TEN.length && POWERS_OF_TEN[length] <= number) {
+            length++;
+        }
+        for (int i = Math.max(length, minDigits) - 1; i >= 0; i--) {
+            out.append((char) ('0' + (number / POWERS_OF_TEN[i]) % 10));
+        }
+    }
+}
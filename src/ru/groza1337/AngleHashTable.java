@@ -0,0 +1,231 @@
+package ru.groza1337;
+
+import java.util.Arrays;
+
+/**
+ * Общая основа хэш-таблиц с открытой адресацией и ключами-углами: {@link AngleSet},
+ * {@link AngleToLongMap} и {@link AngleToObjectMap}.
+ * <p>
+ * Ключ - биты значения в градусах ({@link Double#doubleToLongBits}), поэтому равенство ключей совпадает
+ * с {@link Angle#equals(Object)}: 0.0 и -0.0, а также -360 и 360 - разные ключи.
+ * Пустая ячейка отмечается битами NaN, которые не могут быть ключом, так как NaN вне диапазона углов.
+ * Коллизии разрешаются линейным пробированием, удаление сдвигает следующие элементы цепочки назад
+ * без меток удаления. Таблица удваивается, когда заполнена наполовину. Значения хранятся в параллельных
+ * массивах подклассов, поэтому на каждый элемент память не выделяется.
+ */
+abstract class AngleHashTable {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Биты пустой ячейки.
+     */
+    static final long EMPTY = Double.doubleToLongBits(Double.NaN);
+
+    /**
+     * Множитель хэширования Фибоначчи: 2^64, деленное на золотое сечение.
+     */
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private static final int MIN_CAPACITY = 8;
+
+    /**
+     * Ключи по ячейкам.
+     */
+    long[] _keys;
+
+    /**
+     * Количество ключей.
+     */
+    int _size;
+
+    /**
+     * Сдвиг, оставляющий от произведения столько старших битов, сколько нужно для номера ячейки.
+     */
+    private int _shift;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает пустую таблицу.
+     * @param expectedSize Ожидаемое количество ключей.
+     */
+    AngleHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Ожидаемый размер не может быть отрицательным.");
+        }
+        int expected = Math.min(Math.max(1, expectedSize), 1 << 29);
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(expected * 2 - 1) << 1);
+        this._keys = newKeys(capacity);
+        this._shift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает количество ключей.
+     * @return Количество ключей.
+     */
+    public int size() {
+        return this._size;
+    }
+
+    /**
+     * Проверяет, пуста ли таблица.
+     * @return true, если ключей нет.
+     */
+    public boolean isEmpty() {
+        return this._size == 0;
+    }
+
+    /**
+     * Удаляет все ключи. Емкость таблицы сохраняется.
+     */
+    public void clear() {
+        Arrays.fill(this._keys, EMPTY);
+        for (int slot = 0; slot < this._keys.length; slot++) {
+            clearValue(slot);
+        }
+        this._size = 0;
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Переводит угол в ключ, проверяя диапазон.
+     * @param degrees Угол в градусах.
+     * @return Биты значения.
+     */
+    static long keyOf(double degrees) {
+        if (!Angle.isValidDegrees(degrees)) {
+            throw new IllegalArgumentException("Угол должен быть в диапазоне [-360, 360] градусов.");
+        }
+        return Double.doubleToLongBits(degrees);
+    }
+
+    /**
+     * Ищет ячейку ключа.
+     * @param key Ключ.
+     * @return Номер ячейки или -1, если ключа нет.
+     */
+    final int find(long key) {
+        int mask = this._keys.length - 1;
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            long current = this._keys[slot];
+            if (current == key) {
+                return slot;
+            }
+            if (current == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Находит ячейку ключа или занимает для него пустую ячейку, при необходимости увеличивая таблицу.
+     * @param key Ключ.
+     * @return Номер ячейки; если ключ добавлен, результат - {@code -(ячейка + 1)}.
+     */
+    final int findOrInsert(long key) {
+        if (2 * (this._size + 1) > this._keys.length) {
+            rehash(this._keys.length * 2);
+        }
+        int mask = this._keys.length - 1;
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            long current = this._keys[slot];
+            if (current == key) {
+                return slot;
+            }
+            if (current == EMPTY) {
+                this._keys[slot] = key;
+                this._size++;
+                return -(slot + 1);
+            }
+        }
+    }
+
+    /**
+     * Удаляет ключ из ячейки и сдвигает назад следующие элементы той же цепочки.
+     * @param slot Номер ячейки.
+     */
+    final void removeAt(int slot) {
+        int mask = this._keys.length - 1;
+        int free = slot;
+        for (int next = (free + 1) & mask; this._keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = home(this._keys[next]);
+            // элемент можно сдвинуть, если свободная ячейка лежит на его пути от домашней ячейки
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                this._keys[free] = this._keys[next];
+                moveValue(next, free);
+                free = next;
+            }
+        }
+        this._keys[free] = EMPTY;
+        clearValue(free);
+        this._size--;
+    }
+
+    /**
+     * Возвращает домашнюю ячейку ключа.
+     */
+    private int home(long key) {
+        return (int) ((key * GOLDEN) >>> this._shift);
+    }
+
+    /**
+     * Переносит ключи и значения в таблицу новой емкости.
+     * @param capacity Новая емкость, степень двойки.
+     */
+    private void rehash(int capacity) {
+        long[] oldKeys = this._keys;
+        Object oldValues = resizeValues(capacity);
+        this._keys = newKeys(capacity);
+        this._shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        int mask = capacity - 1;
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            long key = oldKeys[oldSlot];
+            if (key != EMPTY) {
+                int slot = home(key);
+                while (this._keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                this._keys[slot] = key;
+                copyValue(oldValues, oldSlot, slot);
+            }
+        }
+    }
+
+    private static long[] newKeys(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+
+    /**
+     * Заменяет массив значений массивом новой емкости.
+     * @param capacity Новая емкость.
+     * @return Прежний массив значений или null, если значений нет.
+     */
+    abstract Object resizeValues(int capacity);
+
+    /**
+     * Копирует значение из прежнего массива в новый.
+     * @param oldValues Прежний массив значений.
+     * @param from Ячейка в прежнем массиве.
+     * @param to Ячейка в новом массиве.
+     */
+    abstract void copyValue(Object oldValues, int from, int to);
+
+    /**
+     * Переносит значение между ячейками при удалении.
+     * @param from Исходная ячейка.
+     * @param to Ячейка назначения.
+     */
+    abstract void moveValue(int from, int to);
+
+    /**
+     * Очищает значение ячейки.
+     * @param slot Номер ячейки.
+     */
+    abstract void clearValue(int slot);
+}
@@ -0,0 +1,242 @@
+package ru.groza1337;
+
+import java.util.Arrays;
+
+/**
+ * Неизменяемый отсортированный индекс углов для запросов по диапазону за O(log n).
+ * Углы хранятся в примитивном массиве после приведения так же, как в {@link Angle#determineAngleType()}:
+ * к отрицательным углам прибавляется 360, поэтому значения лежат в [0, 360], а -0.0 заменяется на 0.0.
+ * Индекс строится параллельной сортировкой {@link Arrays#parallelSort(double[])}.
+ * <p>
+ * Диапазон {@code [from, to]} обходится по кругу от {@code from} к {@code to} против часовой стрелки:
+ * если после приведения {@code from > to}, диапазон проходит через 0/360 и состоит из {@code [from, 360]} и {@code [0, to]}.
+ * Границы диапазона включаются. Хранимые 0 и 360 - одна точка круга: диапазон с границей 0 включает углы 360,
+ * а диапазон с границей 360 - углы 0, поэтому {@code [0, 10]} находит пеленг 360, а {@code [355, 360]} - пеленг 0 и -360.
+ */
+final public class AngleIndex {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Приведенные углы в градусах по возрастанию.
+     */
+    private final double[] _sorted;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Приватный конструктор для создания индекса.
+     * @param sorted Приведенные и отсортированные углы.
+     */
+    private AngleIndex(double[] sorted) {
+        this._sorted = sorted;
+    }
+
+    /**
+     * Строит индекс по углам в градусах. Переданный массив не изменяется.
+     * @param degrees Углы в градусах.
+     * @return Индекс углов.
+     */
+    public static AngleIndex of(double[] degrees) {
+        int invalid = AngleKernels.firstInvalid(degrees, 0, degrees.length);
+        if (invalid >= 0) {
+            throw new IllegalArgumentException(
+                    "Угол с индексом " + invalid + " должен быть в диапазоне [-360, 360] градусов.");
+        }
+        double[] sorted = new double[degrees.length];
+        for (int i = 0; i < degrees.length; i++) {
+            sorted[i] = normalize(degrees[i]);
+        }
+        Arrays.parallelSort(sorted);
+        return new AngleIndex(sorted);
+    }
+
+    /**
+     * Строит индекс по массиву углов.
+     * @param angles Массив углов.
+     * @return Индекс углов.
+     */
+    public static AngleIndex of(AngleArray angles) {
+        double[] sorted = new double[angles.length()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = normalize(angles.getDegrees(i));
+        }
+        Arrays.parallelSort(sorted);
+        return new AngleIndex(sorted);
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает количество углов в индексе.
+     * @return Количество углов.
+     */
+    public int size() {
+        return this._sorted.length;
+    }
+
+    /**
+     * Возвращает угол по порядковому номеру в индексе.
+     * @param index Порядковый номер.
+     * @return Приведенный угол в градусах.
+     */
+    public double getDegrees(int index) {
+        return this._sorted[index];
+    }
+
+    /**
+     * Возвращает копию всех приведенных углов по возрастанию.
+     * @return Углы в градусах.
+     */
+    public double[] toArray() {
+        return this._sorted.clone();
+    }
+
+    /* --------------------- Запросы по диапазону ---------------------- */
+
+    /**
+     * Считает углы в диапазоне. Углы 0 и 360 считаются одной точкой.
+     * @param from Начало диапазона в градусах.
+     * @param to Конец диапазона в градусах.
+     * @return Количество углов в диапазоне.
+     */
+    public int count(double from, double to) {
+        double start = normalizeBound(from);
+        double end = normalizeBound(to);
+        if (start > end) {
+            return (this._sorted.length - lowerBound(start)) + upperBound(end);
+        }
+        int count = upperBound(end) - lowerBound(start);
+        if (start == 0 && end < 360) {
+            count += this._sorted.length - lowerBound(360);
+        }
+        if (end == 360 && start > 0) {
+            count += upperBound(0);
+        }
+        return count;
+    }
+
+    /**
+     * Возвращает углы в диапазоне в порядке обхода от начала к концу. Углы 0 и 360 считаются одной точкой:
+     * углы 360 в диапазоне с началом 0 идут первыми, а углы 0 в диапазоне с концом 360 - последними.
+     * @param from Начало диапазона в градусах.
+     * @param to Конец диапазона в градусах.
+     * @return Приведенные углы в градусах.
+     */
+    public double[] range(double from, double to) {
+        double start = normalizeBound(from);
+        double end = normalizeBound(to);
+        if (start > end) {
+            return concat(lowerBound(start), this._sorted.length, 0, upperBound(end));
+        }
+        if (start == 0 && end < 360) {
+            return concat(lowerBound(360), this._sorted.length, 0, upperBound(end));
+        }
+        if (end == 360 && start > 0) {
+            return concat(lowerBound(start), this._sorted.length, 0, upperBound(0));
+        }
+        return Arrays.copyOfRange(this._sorted, lowerBound(start), upperBound(end));
+    }
+
+    /**
+     * Находит ближайший по кругу угол. Расстояние измеряется по кратчайшей дуге,
+     * поэтому для 359 градусов ближайшим может оказаться угол 1 градус.
+     * @param degrees Угол в градусах.
+     * @return Ближайший приведенный угол в градусах или NaN, если индекс пуст.
+     */
+    public double nearest(double degrees) {
+        double target = normalizeBound(degrees);
+        if (this._sorted.length == 0) {
+            return Double.NaN;
+        }
+        int position = lowerBound(target);
+        // соседи по обе стороны, а на краях массива - угол с другой стороны 0/360
+        double after = this._sorted[position == this._sorted.length ? 0 : position];
+        double before = this._sorted[position == 0 ? this._sorted.length - 1 : position - 1];
+        return distance(target, before) <= distance(target, after) ? before : after;
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Приводит угол к [0, 360] так же, как {@link Angle#typeOf(double)}, заменяя -0.0 на 0.0.
+     * @param degrees Угол в градусах.
+     * @return Приведенный угол.
+     */
+    private static double normalize(double degrees) {
+        return degrees < 0 ? degrees + 360 : degrees + 0.0;
+    }
+
+    /**
+     * Проверяет и приводит границу запроса.
+     * @param degrees Граница в градусах.
+     * @return Приведенная граница.
+     */
+    private static double normalizeBound(double degrees) {
+        if (!Angle.isValidDegrees(degrees)) {
+            throw new IllegalArgumentException("Угол должен быть в диапазоне [-360, 360] градусов.");
+        }
+        return normalize(degrees);
+    }
+
+    /**
+     * Склеивает два участка отсортированных углов.
+     * @param from Начало первого участка.
+     * @param to Конец первого участка.
+     * @param headFrom Начало второго участка.
+     * @param headTo Конец второго участка.
+     * @return Углы первого участка, затем второго.
+     */
+    private double[] concat(int from, int to, int headFrom, int headTo) {
+        double[] result = new double[(to - from) + (headTo - headFrom)];
+        System.arraycopy(this._sorted, from, result, 0, to - from);
+        System.arraycopy(this._sorted, headFrom, result, to - from, headTo - headFrom);
+        return result;
+    }
+
+    /**
+     * Возвращает длину кратчайшей дуги между углами из [0, 360].
+     */
+    private static double distance(double a, double b) {
+        double difference = Math.abs(a - b);
+        return Math.min(difference, 360 - difference);
+    }
+
+    /**
+     * Находит первый угол, не меньший значения.
+     * @param value Значение.
+     * @return Индекс угла или размер индекса, если таких углов нет.
+     */
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = this._sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this._sorted[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Находит первый угол, больший значения.
+     * @param value Значение.
+     * @return Индекс угла или размер индекса, если таких углов нет.
+     */
+    private int upperBound(double value) {
+        int low = 0;
+        int high = this._sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this._sorted[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
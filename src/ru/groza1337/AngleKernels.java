@@ -0,0 +1,179 @@
+package ru.groza1337;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Пакетные операции над массивами углов: перевод между градусами и радианами,
+ * проверка диапазона и определение типа угла.
+ * Если JVM запущена с {@code --add-modules jdk.incubator.vector}, используется реализация на Vector API,
+ * иначе скалярная. Результаты обеих реализаций совпадают со скалярными операциями {@link Angle}.
+ * Векторную реализацию можно отключить системным свойством {@value #VECTOR_PROPERTY}{@code =false}.
+ */
+final public class AngleKernels {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Имя системного свойства, разрешающего векторную реализацию.
+     */
+    public static final String VECTOR_PROPERTY = "ru.groza1337.angle.vector";
+
+    /**
+     * Выбранная реализация.
+     */
+    private static final AngleBatchKernel KERNEL = load();
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    private AngleKernels() {
+    }
+
+    /**
+     * Выбирает реализацию пакетных операций.
+     * @return Векторная реализация, если она доступна и разрешена, иначе скалярная.
+     */
+    private static AngleBatchKernel load() {
+        if (Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) {
+            AngleBatchKernel vector = loadVector();
+            if (vector != null) {
+                return vector;
+            }
+        }
+        return new ScalarAngleKernel();
+    }
+
+    /**
+     * Загружает векторную реализацию. Класс загружается по имени, чтобы без модуля
+     * jdk.incubator.vector не возникало ошибок связывания.
+     * @return Векторная реализация или null, если модуль не подключен.
+     */
+    static AngleBatchKernel loadVector() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (AngleBatchKernel) Class.forName("ru.groza1337.VectorAngleKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Проверяет, используется ли векторная реализация.
+     * @return true, если используется Vector API.
+     */
+    public static boolean isVectorized() {
+        return !(KERNEL instanceof ScalarAngleKernel);
+    }
+
+    /**
+     * Переводит углы из градусов в радианы без проверки диапазона.
+     * @param degrees Углы в градусах.
+     * @param radians Массив для результата.
+     * @param length Количество обрабатываемых элементов.
+     */
+    public static void toRadians(double[] degrees, double[] radians, int length) {
+        checkLength(degrees, length);
+        checkLength(radians, length);
+        KERNEL.toRadians(degrees, radians, length);
+    }
+
+    /**
+     * Переводит углы из радианов в градусы без проверки диапазона.
+     * @param radians Углы в радианах.
+     * @param degrees Массив для результата.
+     * @param length Количество обрабатываемых элементов.
+     */
+    public static void toDegrees(double[] radians, double[] degrees, int length) {
+        checkLength(radians, length);
+        checkLength(degrees, length);
+        KERNEL.toDegrees(radians, degrees, length);
+    }
+
+    /**
+     * Ищет первый угол вне диапазона [-360, 360] градусов.
+     * @param degrees Углы в градусах.
+     * @param from Индекс начала (включительно).
+     * @param to Индекс конца (не включительно).
+     * @return Индекс первого недопустимого угла или -1, если все углы в диапазоне.
+     */
+    public static int firstInvalid(double[] degrees, int from, int to) {
+        if (from < 0 || from > to || to > degrees.length) {
+            throw new IndexOutOfBoundsException("Диапазон [" + from + ", " + to + ") вне массива длины " + degrees.length + ".");
+        }
+        return KERNEL.firstInvalid(degrees, from, to);
+    }
+
+    /**
+     * Определяет типы углов так же, как {@link Angle#determineAngleType()}, без проверки диапазона.
+     * @param degrees Углы в градусах.
+     * @param ordinals Массив для порядковых номеров {@link AngleType}.
+     * @param length Количество обрабатываемых элементов.
+     */
+    public static void classify(double[] degrees, int[] ordinals, int length) {
+        checkLength(degrees, length);
+        if (ordinals.length < length) {
+            throw new IndexOutOfBoundsException("Длина массива меньше " + length + ".");
+        }
+        KERNEL.classify(degrees, ordinals, length);
+    }
+
+    /**
+     * Прибавляет к счетчикам количество углов каждого типа без проверки диапазона.
+     * @param degrees Углы в градусах.
+     * @param from Индекс начала (включительно).
+     * @param to Индекс конца (не включительно).
+     * @param counts Счетчики, индексированные порядковым номером {@link AngleType}.
+     */
+    public static void countTypes(double[] degrees, int from, int to, long[] counts) {
+        if (from < 0 || from > to || to > degrees.length) {
+            throw new IndexOutOfBoundsException("Диапазон [" + from + ", " + to + ") вне массива длины " + degrees.length + ".");
+        }
+        checkCounts(counts);
+        KERNEL.countTypes(degrees, from, to, counts);
+    }
+
+    /**
+     * Прибавляет к счетчикам количество углов каждого типа в сегменте памяти со значениями double
+     * в порядке байтов платформы, без проверки диапазона.
+     * @param degrees Сегмент с углами в градусах.
+     * @param from Индекс начала (включительно).
+     * @param to Индекс конца (не включительно).
+     * @param counts Счетчики, индексированные порядковым номером {@link AngleType}.
+     */
+    public static void countTypes(MemorySegment degrees, long from, long to, long[] counts) {
+        long length = degrees.byteSize() / Double.BYTES;
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException("Диапазон [" + from + ", " + to + ") вне сегмента из " + length + " значений.");
+        }
+        checkCounts(counts);
+        KERNEL.countTypes(degrees, from, to, counts);
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Проверяет, что счетчиков хватает на все типы углов.
+     * @param counts Счетчики.
+     */
+    private static void checkCounts(long[] counts) {
+        if (counts.length < AngleType.values().length) {
+            throw new IllegalArgumentException("Счетчиков меньше, чем типов углов.");
+        }
+    }
+
+    /**
+     * Проверяет, что массив содержит не меньше указанного количества элементов.
+     * @param array Массив.
+     * @param length Количество обрабатываемых элементов.
+     */
+    private static void checkLength(double[] array, int length) {
+        if (length < 0 || array.length < length) {
+            throw new IndexOutOfBoundsException("Длина массива меньше " + length + ".");
+        }
+    }
+}
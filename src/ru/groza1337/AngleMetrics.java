@@ -0,0 +1,338 @@
+package ru.groza1337;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Счетчики использования {@link Angle}: созданные объекты и выданные из кэша общие экземпляры по фабрикам,
+ * отказы проверки диапазона по операциям и результаты {@link Angle#determineAngleType()} по типам угла.
+ * Создание объектов и отказы считаются всегда. Определение типа - операция в несколько сравнений,
+ * и атомарное увеличение счетчика замедляет ее в несколько раз, поэтому определения типа считаются
+ * только после включения системным свойством {@value #CLASSIFICATIONS_PROPERTY} или
+ * {@link #setClassificationCounting(boolean)}.
+ * <p>
+ * Счетчики разбиты на полосы в одном {@link AtomicLongArray}: поток увеличивает счетчик своей полосы,
+ * выбранной по идентификатору потока, одной атомарной операцией без блокировок и без регистрации потока.
+ * Полосы разделены отступом больше строки кэша, поэтому потоки разных полос не мешают друг другу,
+ * а потоки одной полосы лишь делят строку кэша. Срез {@link #snapshot()} складывает полосы.
+ * Счетчики читаются срезом или через JMX после {@link #register()}. Отказы проверки диапазона
+ * дополнительно записываются событием JDK Flight Recorder {@code ru.groza1337.AngleValidationFailure},
+ * а время форматирования в {@link Angle#toString()} - событием {@code ru.groza1337.AngleFormat}.
+ */
+final public class AngleMetrics {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Операции {@link Angle}, создающие углы.
+     */
+    public enum Operation {
+        DEGREES,        // Angle.degrees
+        RADIANS,        // Angle.radians
+        TRY_DEGREES,    // Angle.tryDegrees; отказ - возврат null вместо исключения
+        TRY_RADIANS,    // Angle.tryRadians; отказ - возврат null вместо исключения
+        ARITHMETIC      // Сложение и вычитание
+    }
+
+    /**
+     * Имя объекта в JMX.
+     */
+    public static final String OBJECT_NAME = "ru.groza1337:type=AngleMetrics";
+
+    /**
+     * Имя системного свойства, включающего подсчет определений типа угла со старта ({@code true}).
+     */
+    public static final String CLASSIFICATIONS_PROPERTY = "ru.groza1337.metrics.classifications";
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private static final AngleType[] TYPES = AngleType.values();
+
+    // Смещения групп счетчиков в полосе
+    private static final int CREATED = 0;
+
+    private static final int CACHE_HITS = CREATED + OPERATIONS.length;
+
+    private static final int FAILURES = CACHE_HITS + OPERATIONS.length;
+
+    private static final int CLASSIFIED = FAILURES + OPERATIONS.length;
+
+    private static final int SIZE = CLASSIFIED + TYPES.length;
+
+    /**
+     * Количество полос: степень двойки не меньше удвоенного числа процессоров.
+     */
+    private static final int STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4 - 1);
+
+    /**
+     * Расстояние между началами полос: счетчики полосы и отступ в 128 байт до следующей полосы.
+     */
+    private static final int STRIDE = SIZE + 16;
+
+    private static final AtomicLongArray COUNTS = new AtomicLongArray(STRIPES * STRIDE);
+
+    /**
+     * Включен ли подсчет определений типа угла.
+     */
+    private static volatile boolean _classifications = Boolean.getBoolean(CLASSIFICATIONS_PROPERTY);
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    private AngleMetrics() {
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Снимает срез счетчиков. Во время одновременной работы срез может не включать
+     * часть операций, выполненных во время его снятия.
+     * @return Срез счетчиков.
+     */
+    public static Snapshot snapshot() {
+        long[] counts = new long[SIZE];
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            for (int i = 0; i < SIZE; i++) {
+                counts[i] += COUNTS.get(stripe * STRIDE + i);
+            }
+        }
+        return new Snapshot(Arrays.copyOfRange(counts, CREATED, CACHE_HITS),
+                Arrays.copyOfRange(counts, CACHE_HITS, FAILURES),
+                Arrays.copyOfRange(counts, FAILURES, CLASSIFIED),
+                Arrays.copyOfRange(counts, CLASSIFIED, SIZE));
+    }
+
+    /**
+     * Включает или выключает подсчет определений типа угла. Вызовы {@link Angle#determineAngleType()},
+     * выполняемые одновременно с переключением, могут быть учтены по прежнему состоянию.
+     * @param enabled true - считать определения типа, false - не считать.
+     */
+    public static void setClassificationCounting(boolean enabled) {
+        _classifications = enabled;
+    }
+
+    /**
+     * Проверяет, включен ли подсчет определений типа угла.
+     * @return true, если определения типа считаются.
+     */
+    public static boolean isClassificationCounting() {
+        return _classifications;
+    }
+
+    /**
+     * Регистрирует счетчики в платформенном сервере JMX, если они еще не зарегистрированы.
+     * @return Имя объекта в JMX.
+     */
+    public static ObjectName register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                try {
+                    server.registerMBean(new StandardMBean(new Bean(), AngleMetricsMXBean.class, true), name);
+                } catch (InstanceAlreadyExistsException e) {
+                    // зарегистрирован другим потоком между проверкой и регистрацией
+                }
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Не удалось зарегистрировать счетчики углов в JMX.", e);
+        }
+    }
+
+    /* --------------------- Запись событий ---------------------- */
+
+    /**
+     * Учитывает созданный объект угла.
+     * @param operation Операция.
+     */
+    static void recordCreated(Operation operation) {
+        increment(CREATED + operation.ordinal());
+    }
+
+    /**
+     * Учитывает общий экземпляр, выданный из кэша.
+     * @param operation Операция.
+     */
+    static void recordCacheHit(Operation operation) {
+        increment(CACHE_HITS + operation.ordinal());
+    }
+
+    /**
+     * Учитывает значение, не прошедшее проверку диапазона, и записывает событие JFR, если оно включено.
+     * @param operation Операция.
+     * @param degrees Значение в градусах.
+     */
+    static void recordFailure(Operation operation, double degrees) {
+        increment(FAILURES + operation.ordinal());
+        if (!AngleValidationEvent.TYPE.isEnabled()) {
+            return;
+        }
+        AngleValidationEvent event = new AngleValidationEvent();
+        if (event.shouldCommit()) {
+            event._operation = operation.name();
+            event._degrees = degrees;
+            event.commit();
+        }
+    }
+
+    /**
+     * Учитывает определение типа угла, если подсчет определений включен.
+     * @param type Тип угла.
+     */
+    static void recordClassification(AngleType type) {
+        if (_classifications) {
+            increment(CLASSIFIED + type.ordinal());
+        }
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Увеличивает счетчик в полосе текущего потока.
+     */
+    private static void increment(int index) {
+        int stripe = (int) Thread.currentThread().threadId() & (STRIPES - 1);
+        COUNTS.getAndIncrement(stripe * STRIDE + index);
+    }
+
+    /**
+     * Неизменяемый срез счетчиков.
+     */
+    public static final class Snapshot {
+
+        private final long[] _created;
+
+        private final long[] _cacheHits;
+
+        private final long[] _failures;
+
+        private final long[] _classified;
+
+        Snapshot(long[] created, long[] cacheHits, long[] failures, long[] classified) {
+            this._created = created;
+            this._cacheHits = cacheHits;
+            this._failures = failures;
+            this._classified = classified;
+        }
+
+        /**
+         * Возвращает количество объектов, созданных операцией.
+         * @param operation Операция.
+         * @return Количество объектов.
+         */
+        public long created(Operation operation) {
+            return this._created[operation.ordinal()];
+        }
+
+        /**
+         * Возвращает количество общих экземпляров, выданных операцией из кэша.
+         * @param operation Операция.
+         * @return Количество обращений к кэшу.
+         */
+        public long cacheHits(Operation operation) {
+            return this._cacheHits[operation.ordinal()];
+        }
+
+        /**
+         * Возвращает количество отказов проверки диапазона в операции: исключений,
+         * а для {@link Operation#TRY_DEGREES} и {@link Operation#TRY_RADIANS} - возвратов null.
+         * @param operation Операция.
+         * @return Количество отказов.
+         */
+        public long failures(Operation operation) {
+            return this._failures[operation.ordinal()];
+        }
+
+        /**
+         * Возвращает количество результатов {@link Angle#determineAngleType()} типа,
+         * полученных при включенном подсчете определений типа.
+         * @param type Тип угла.
+         * @return Количество определений типа.
+         */
+        public long classified(AngleType type) {
+            return this._classified[type.ordinal()];
+        }
+
+        /**
+         * Возвращает количество созданных объектов по всем операциям.
+         * @return Количество объектов.
+         */
+        public long totalCreated() {
+            return total(this._created);
+        }
+
+        /**
+         * Возвращает количество отказов проверки диапазона по всем операциям.
+         * @return Количество отказов.
+         */
+        public long totalFailures() {
+            return total(this._failures);
+        }
+
+        @Override
+        public String toString() {
+            return "created=" + toMap(OPERATIONS, this._created) + ", cacheHits=" + toMap(OPERATIONS, this._cacheHits)
+                    + ", failures=" + toMap(OPERATIONS, this._failures) + ", classified=" + toMap(TYPES, this._classified);
+        }
+
+        private static long total(long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        private static Map<String, Long> toMap(Enum<?>[] keys, long[] counts) {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (int i = 0; i < keys.length; i++) {
+                map.put(keys[i].name(), counts[i]);
+            }
+            return map;
+        }
+    }
+
+    /**
+     * Представление счетчиков для JMX; каждое чтение атрибута снимает новый срез.
+     */
+    private static final class Bean implements AngleMetricsMXBean {
+
+        @Override
+        public long getCreated() {
+            return snapshot().totalCreated();
+        }
+
+        @Override
+        public long getCacheHits() {
+            return Snapshot.total(snapshot()._cacheHits);
+        }
+
+        @Override
+        public long getFailures() {
+            return snapshot().totalFailures();
+        }
+
+        @Override
+        public Map<String, Long> getCreatedByOperation() {
+            return Snapshot.toMap(OPERATIONS, snapshot()._created);
+        }
+
+        @Override
+        public Map<String, Long> getFailuresByOperation() {
+            return Snapshot.toMap(OPERATIONS, snapshot()._failures);
+        }
+
+        @Override
+        public Map<String, Long> getClassifications() {
+            return Snapshot.toMap(TYPES, snapshot()._classified);
+        }
+    }
+}
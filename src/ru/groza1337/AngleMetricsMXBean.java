@@ -0,0 +1,47 @@
+package ru.groza1337;
+
+import java.util.Map;
+
+/**
+ * Счетчики {@link AngleMetrics} для чтения через JMX.
+ * Регистрируется под именем {@value AngleMetrics#OBJECT_NAME} вызовом {@link AngleMetrics#register()}.
+ */
+public interface AngleMetricsMXBean {
+
+    /**
+     * Возвращает количество созданных объектов {@link Angle}.
+     * @return Количество объектов.
+     */
+    long getCreated();
+
+    /**
+     * Возвращает количество общих экземпляров, выданных из кэша.
+     * @return Количество обращений к кэшу.
+     */
+    long getCacheHits();
+
+    /**
+     * Возвращает количество значений, не прошедших проверку диапазона.
+     * @return Количество отказов.
+     */
+    long getFailures();
+
+    /**
+     * Возвращает количество созданных объектов по операциям.
+     * @return Имя операции и количество.
+     */
+    Map<String, Long> getCreatedByOperation();
+
+    /**
+     * Возвращает количество отказов проверки диапазона по операциям.
+     * @return Имя операции и количество.
+     */
+    Map<String, Long> getFailuresByOperation();
+
+    /**
+     * Возвращает количество вызовов {@link Angle#determineAngleType()} по типам угла
+     * при включенном подсчете ({@link AngleMetrics#setClassificationCounting(boolean)}).
+     * @return Имя типа угла и количество.
+     */
+    Map<String, Long> getClassifications();
+}
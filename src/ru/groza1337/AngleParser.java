@@ -0,0 +1,356 @@
+package ru.groza1337;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Потоковый разбор текстовых углов - обратная операция к {@link Angle#toString()} и {@link Angle#toStringInRadians()}.
+ * Читает прямо из {@link CharSequence} (в том числе {@link java.nio.CharBuffer}) или из {@link ByteBuffer}
+ * с текстом в UTF-8 и не создает строк на каждое значение.
+ * <p>
+ * Значения разделяются переводами строк, запятыми или точками с запятой. Каждое значение - это число
+ * с необязательной единицей измерения через пробел: {@code "45.00 degrees"}, {@code "0.79 radians"}, {@code "12.5"}.
+ * Число без единицы измерения считается в единице, заданной при создании разборщика.
+ * Ошибки не выбрасываются, а передаются в {@link Handler#onError} с номером строки и смещением значения.
+ * <p>
+ * Объект не потокобезопасен.
+ */
+final public class AngleParser {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Виды ошибок разбора.
+     */
+    public enum ParseError {
+        MALFORMED_NUMBER,   // Значение не начинается с числа
+        UNKNOWN_UNIT,       // После числа идет неизвестная единица измерения
+        OUT_OF_RANGE        // Угол вне диапазона [-360, 360] градусов
+    }
+
+    /**
+     * Получатель результатов разбора.
+     */
+    public interface Handler {
+
+        /**
+         * Получает угол, прошедший проверку диапазона.
+         * @param degrees Угол в градусах.
+         */
+        void onAngle(double degrees);
+
+        /**
+         * Получает ошибку разбора значения. По умолчанию ошибки пропускаются.
+         * @param error Вид ошибки.
+         * @param line Номер строки, начиная с 1.
+         * @param offset Смещение начала значения от начала входных данных.
+         */
+        default void onError(ParseError error, int line, int offset) {
+        }
+    }
+
+    /**
+     * Степени десяти, точно представимые в double.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Наибольшее количество значащих цифр, при котором мантисса точно представима в double.
+     */
+    private static final int EXACT_DIGITS = 15;
+
+    /**
+     * Единица измерения чисел без явно указанной единицы.
+     */
+    private final AngleUnit _defaultUnit;
+
+    /**
+     * Позиция, на которой закончилось последнее разобранное число.
+     */
+    private int _numberEnd;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает разборщик, считающий числа без единицы измерения градусами.
+     */
+    public AngleParser() {
+        this(AngleUnit.DEGREES);
+    }
+
+    /**
+     * Создает разборщик с заданной единицей измерения для чисел без единицы.
+     * @param defaultUnit Единица измерения по умолчанию.
+     */
+    public AngleParser(AngleUnit defaultUnit) {
+        this._defaultUnit = defaultUnit;
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Разбирает текст и передает углы и ошибки получателю.
+     * @param input Текст.
+     * @param handler Получатель результатов.
+     * @return Количество углов, переданных получателю.
+     */
+    public int parse(CharSequence input, Handler handler) {
+        int count = 0;
+        int line = 1;
+        int length = input.length();
+        int i = 0;
+        while (i < length) {
+            char c = input.charAt(i);
+            if (c == '\n') {
+                line++;
+                i++;
+            } else if (isBlank(c) || c == ',' || c == ';') {
+                i++;
+            } else {
+                int end = i;
+                while (end < length && !isSeparator(input.charAt(end))) {
+                    end++;
+                }
+                int last = end;
+                while (isBlank(input.charAt(last - 1))) {
+                    last--;
+                }
+                if (parseValue(input, i, last, line, handler)) {
+                    count++;
+                }
+                i = end;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Разбирает текст в кодировке UTF-8 от позиции до границы буфера и передает углы и ошибки получателю.
+     * После разбора позиция буфера равна его границе.
+     * @param input Текст в UTF-8.
+     * @param handler Получатель результатов.
+     * @return Количество углов, переданных получателю.
+     */
+    public int parse(ByteBuffer input, Handler handler) {
+        int count = parse(new Utf8Sequence(input, input.position(), input.limit()), handler);
+        input.position(input.limit());
+        return count;
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Разбирает одно значение: число и необязательную единицу измерения.
+     * @param input Текст.
+     * @param start Начало значения.
+     * @param end Конец значения без завершающих пробелов.
+     * @param line Номер строки.
+     * @param handler Получатель результатов.
+     * @return true, если угол передан получателю.
+     */
+    private boolean parseValue(CharSequence input, int start, int end, int line, Handler handler) {
+        double value = parseNumber(input, start, end);
+        int i = this._numberEnd;
+        if (Double.isNaN(value)) {
+            handler.onError(ParseError.MALFORMED_NUMBER, line, start);
+            return false;
+        }
+        AngleUnit unit = this._defaultUnit;
+        if (i < end) {
+            if (!isBlank(input.charAt(i))) {
+                handler.onError(ParseError.MALFORMED_NUMBER, line, start);
+                return false;
+            }
+            while (isBlank(input.charAt(i))) {
+                i++;
+            }
+            unit = parseUnit(input, i, end);
+            if (unit == null) {
+                handler.onError(ParseError.UNKNOWN_UNIT, line, start);
+                return false;
+            }
+        }
+        double degrees = unit.toDegrees(value);
+        if (!Angle.isValidDegrees(degrees)) {
+            handler.onError(ParseError.OUT_OF_RANGE, line, start);
+            return false;
+        }
+        handler.onAngle(degrees);
+        return true;
+    }
+
+    /**
+     * Разбирает десятичное число. Числа до 15 значащих цифр с небольшим порядком вычисляются точно
+     * одним умножением или делением; остальные передаются в {@link Double#parseDouble(String)}.
+     * Позиция окончания числа сохраняется в {@link #_numberEnd}.
+     * @param input Текст.
+     * @param start Начало числа.
+     * @param end Граница, за которую число не может выходить.
+     * @return Число или NaN, если в начале нет корректного числа.
+     */
+    private double parseNumber(CharSequence input, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            negative = input.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean exact = true;
+        for (; i < end && isDigit(input.charAt(i)); i++) {
+            anyDigit = true;
+            int digit = input.charAt(i) - '0';
+            if (mantissa == 0 && digit == 0) {
+                continue;
+            }
+            if (digits < EXACT_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                digits++;
+            } else {
+                exponent++;
+                exact = false;
+            }
+        }
+        if (i < end && input.charAt(i) == '.') {
+            for (i++; i < end && isDigit(input.charAt(i)); i++) {
+                anyDigit = true;
+                int digit = input.charAt(i) - '0';
+                if (mantissa == 0 && digit == 0) {
+                    exponent--;
+                } else if (digits < EXACT_DIGITS) {
+                    mantissa = mantissa * 10 + digit;
+                    digits++;
+                    exponent--;
+                } else if (digit != 0) {
+                    exact = false;
+                }
+            }
+        }
+        if (!anyDigit) {
+            this._numberEnd = i;
+            return Double.NaN;
+        }
+        if (i < end && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            int j = i + 1;
+            boolean negativeExponent = false;
+            if (j < end && (input.charAt(j) == '-' || input.charAt(j) == '+')) {
+                negativeExponent = input.charAt(j) == '-';
+                j++;
+            }
+            if (j == end || !isDigit(input.charAt(j))) {
+                this._numberEnd = j;
+                return Double.NaN;
+            }
+            int value = 0;
+            for (; j < end && isDigit(input.charAt(j)); j++) {
+                value = Math.min(value * 10 + input.charAt(j) - '0', 100_000);
+            }
+            exponent += negativeExponent ? -value : value;
+            i = j;
+        }
+        this._numberEnd = i;
+
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (exact && exponent >= -22 && exponent <= 22) {
+            double result = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+            return negative ? -result : result;
+        }
+        return Double.parseDouble(input.subSequence(start, i).toString());
+    }
+
+    /**
+     * Определяет единицу измерения по слову.
+     * @param input Текст.
+     * @param start Начало слова.
+     * @param end Конец слова.
+     * @return Единица измерения или null, если слово неизвестно.
+     */
+    private static AngleUnit parseUnit(CharSequence input, int start, int end) {
+        if (matches(input, start, end, "degrees") || matches(input, start, end, "degree")
+                || matches(input, start, end, "deg")) {
+            return AngleUnit.DEGREES;
+        }
+        if (matches(input, start, end, "radians") || matches(input, start, end, "radian")
+                || matches(input, start, end, "rad")) {
+            return AngleUnit.RADIANS;
+        }
+        return null;
+    }
+
+    /**
+     * Сравнивает часть текста со словом без создания подстроки.
+     */
+    private static boolean matches(CharSequence input, int start, int end, String word) {
+        if (end - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (input.charAt(start + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '\n' || c == ',' || c == ';';
+    }
+
+    /**
+     * Представление байтов UTF-8 в виде последовательности символов. Формат значений состоит
+     * из символов ASCII, поэтому каждый байт читается как символ; байты многобайтовых символов
+     * не совпадают ни с цифрами, ни с разделителями и приводят к ошибке разбора значения.
+     */
+    private static final class Utf8Sequence implements CharSequence {
+
+        private final ByteBuffer _buffer;
+
+        private final int _start;
+
+        private final int _end;
+
+        Utf8Sequence(ByteBuffer buffer, int start, int end) {
+            this._buffer = buffer;
+            this._start = start;
+            this._end = end;
+        }
+
+        @Override
+        public int length() {
+            return this._end - this._start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (this._buffer.get(this._start + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new Utf8Sequence(this._buffer, this._start + start, this._start + end);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[length()];
+            this._buffer.get(this._start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,656 @@
+package ru.groza1337;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Конвейер обработки потока углов на {@link Flow} с обратным давлением, целиком внутри процесса.
+ * <p>
+ * Этапы ({@link Stage}) соединены процессорами {@link Flow.Processor} на основе {@link SubmissionPublisher}
+ * и передают друг другу пакеты углов ({@link Batch}), а не отдельные объекты {@link Angle}:
+ * <ol>
+ *     <li>разбор текста через {@link AngleParser};</li>
+ *     <li>проверка диапазона по правилам {@link Angle#degrees(double)} и {@link Angle#radians(double)}
+ *     с переводом в градусы; значения вне диапазона удаляются из пакета и считаются отклоненными;</li>
+ *     <li>приведение к [0, 360] так же, как в {@link Angle#determineAngleType()}: к отрицательным углам прибавляется 360,
+ *     -0.0 заменяется на 0.0, поэтому тип угла не меняется; если приведение выключено, пакеты проходят этап без изменений;</li>
+ *     <li>подсчет углов каждого {@link AngleType};</li>
+ *     <li>сбор итогов ({@link Summary}).</li>
+ * </ol>
+ * Каждый этап запрашивает у предыдущего не больше {@code capacity} пакетов вперед и держит
+ * не больше {@code capacity} пакетов в буфере для следующего. Когда последующий этап не успевает,
+ * буферы заполняются, и {@link #submit(CharSequence)} блокирует источник, а {@link #offer} отбрасывает пакет.
+ * Пакет обрабатывается этапами по очереди и изменяется на месте, поэтому по конвейеру память выделяется
+ * только на разбор текста и на счетчики типов.
+ */
+final public class AnglePipeline implements AutoCloseable {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Этапы конвейера в порядке обработки.
+     */
+    public enum Stage {
+        PARSE,      // Разбор текста
+        VALIDATE,   // Проверка диапазона и перевод в градусы
+        NORMALIZE,  // Приведение к [0, 360]
+        CLASSIFY,   // Подсчет типов углов
+        AGGREGATE   // Сбор итогов
+    }
+
+    /**
+     * Вход конвейера.
+     */
+    private final SubmissionPublisher<Batch> _source;
+
+    /**
+     * Процессоры этапов от разбора до подсчета типов.
+     */
+    private final StageProcessor[] _processors;
+
+    private final Aggregator _aggregator;
+
+    /**
+     * Исполнитель, созданный конвейером и закрываемый в {@link #close()}, или null для внешнего исполнителя.
+     */
+    private final ExecutorService _ownedExecutor;
+
+    /**
+     * Количество пакетов, отброшенных {@link #offer}.
+     */
+    private final LongAdder _dropped = new LongAdder();
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает конвейер для текста в градусах на виртуальных потоках с буфером
+     * {@link Flow#defaultBufferSize()} пакетов на этап.
+     */
+    public AnglePipeline() {
+        this(AngleUnit.DEGREES, null, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Создает конвейер с приведением углов к [0, 360].
+     * @param defaultUnit Единица измерения чисел без единицы в тексте.
+     * @param executor Исполнитель этапов. Этапы блокируются, пока следующий этап не освободит место,
+     *                 поэтому у исполнителя должно хватать потоков на все этапы.
+     * @param capacity Наибольшее количество пакетов, ожидающих каждый этап.
+     */
+    public AnglePipeline(AngleUnit defaultUnit, Executor executor, int capacity) {
+        this(defaultUnit, executor, capacity, true);
+    }
+
+    /**
+     * Создает конвейер.
+     * @param defaultUnit Единица измерения чисел без единицы в тексте.
+     * @param executor Исполнитель этапов. Этапы блокируются, пока следующий этап не освободит место,
+     *                 поэтому у исполнителя должно хватать потоков на все этапы.
+     * @param capacity Наибольшее количество пакетов, ожидающих каждый этап.
+     * @param normalize true - приводить углы к [0, 360], false - передавать проверенные углы без изменений.
+     *                  Тип угла и круговая статистика от приведения не зависят.
+     */
+    public AnglePipeline(AngleUnit defaultUnit, Executor executor, int capacity, boolean normalize) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Емкость буфера должна быть положительной.");
+        }
+        this._ownedExecutor = executor == null ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        Executor stages = executor == null ? this._ownedExecutor : executor;
+        ParseHandler parser = new ParseHandler(new AngleParser(defaultUnit));
+        this._source = new SubmissionPublisher<>(stages, capacity);
+        this._processors = new StageProcessor[]{
+                new StageProcessor(stages, capacity, parser),
+                new StageProcessor(stages, capacity, AnglePipeline::validate),
+                new StageProcessor(stages, capacity, normalize ? AnglePipeline::normalize : batch -> {
+                }),
+                new StageProcessor(stages, capacity, AnglePipeline::classify)
+        };
+        this._aggregator = new Aggregator(capacity, this._dropped);
+        Flow.Publisher<Batch> upstream = this._source;
+        for (StageProcessor processor : this._processors) {
+            upstream.subscribe(processor);
+            upstream = processor;
+        }
+        upstream.subscribe(this._aggregator);
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Передает в конвейер фрагмент текста. Значения не должны разрываться между фрагментами.
+     * Если конвейер заполнен, ждет, пока освободится место.
+     * @param text Текст с углами в формате {@link AngleParser}.
+     * @return Оценка количества пакетов, ожидающих разбора.
+     */
+    public int submit(CharSequence text) {
+        return this._source.submit(Batch.text(text));
+    }
+
+    /**
+     * Передает в конвейер пакет значений. Массив передается без копирования и изменяется конвейером,
+     * поэтому после передачи его нельзя использовать.
+     * @param values Значения.
+     * @param size Количество значений в начале массива.
+     * @param unit Единица измерения значений.
+     * @return Оценка количества пакетов, ожидающих разбора.
+     */
+    public int submit(double[] values, int size, AngleUnit unit) {
+        return this._source.submit(Batch.values(values, size, unit));
+    }
+
+    /**
+     * Передает в конвейер фрагмент текста, ожидая место не дольше заданного времени.
+     * Если место не освободилось, пакет отбрасывается и учитывается в {@link Summary#dropped()}.
+     * @param text Текст с углами в формате {@link AngleParser}.
+     * @param timeout Наибольшее время ожидания.
+     * @param unit Единица времени ожидания.
+     * @return true, если пакет принят, false - если отброшен.
+     */
+    public boolean offer(CharSequence text, long timeout, TimeUnit unit) {
+        if (this._source.offer(Batch.text(text), timeout, unit, (subscriber, batch) -> false) < 0) {
+            this._dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Подписывает получателя на пакеты после подсчета типов, рядом со сбором итогов.
+     * Пакеты общие для всех получателей и не должны изменяться. Медленный получатель
+     * замедляет конвейер так же, как медленный этап. Подписываться нужно до передачи данных.
+     * @param subscriber Получатель пакетов.
+     */
+    public void subscribe(Flow.Subscriber<? super Batch> subscriber) {
+        this._processors[this._processors.length - 1].subscribe(subscriber);
+    }
+
+    /**
+     * Возвращает итоги, которые будут готовы после {@link #close()} и обработки всех пакетов.
+     * @return Будущие итоги; завершаются исключением, если этап завершился с ошибкой.
+     */
+    public CompletableFuture<Summary> result() {
+        return this._aggregator._result;
+    }
+
+    /**
+     * Возвращает количество пакетов, обработанных этапом.
+     * @param stage Этап.
+     * @return Количество пакетов.
+     */
+    public long batches(Stage stage) {
+        return meter(stage)._batches;
+    }
+
+    /**
+     * Возвращает количество значений в пакетах после обработки этапом.
+     * @param stage Этап.
+     * @return Количество значений.
+     */
+    public long values(Stage stage) {
+        return meter(stage)._values;
+    }
+
+    /**
+     * Возвращает время работы этапа без ожидания места в буфере следующего этапа.
+     * @param stage Этап.
+     * @return Время в наносекундах.
+     */
+    public long busyNanos(Stage stage) {
+        return meter(stage)._nanos;
+    }
+
+    /**
+     * Завершает ввод и ждет, пока все принятые пакеты пройдут конвейер. Ошибка этапа
+     * не выбрасывается здесь, а передается через {@link #result()}. Исполнитель, созданный конвейером, закрывается.
+     */
+    @Override
+    public void close() {
+        this._source.close();
+        try {
+            this._aggregator._result.join();
+        } catch (CompletionException e) {
+            // ошибка доступна через result()
+        } finally {
+            if (this._ownedExecutor != null) {
+                this._ownedExecutor.close();
+            }
+        }
+    }
+
+    /* ----------------------------- Этапы ------------------------------ */
+
+    /**
+     * Переводит значения в градусы и удаляет из пакета значения вне диапазона.
+     */
+    private static void validate(Batch batch) {
+        double[] values = batch._values;
+        if (batch._unit == AngleUnit.RADIANS) {
+            for (int i = 0; i < batch._size; i++) {
+                values[i] = Angle.radiansToDegrees(values[i]);
+            }
+            batch._unit = AngleUnit.DEGREES;
+        }
+        int invalid = AngleKernels.firstInvalid(values, 0, batch._size);
+        if (invalid >= 0) {
+            int kept = invalid;
+            for (int i = invalid + 1; i < batch._size; i++) {
+                if (Angle.isValidDegrees(values[i])) {
+                    values[kept++] = values[i];
+                }
+            }
+            batch._rejected += batch._size - kept;
+            batch._size = kept;
+        }
+    }
+
+    /**
+     * Приводит значения к [0, 360], сохраняя тип угла.
+     */
+    private static void normalize(Batch batch) {
+        double[] values = batch._values;
+        for (int i = 0; i < batch._size; i++) {
+            values[i] = values[i] < 0 ? values[i] + 360 : values[i] + 0.0;  // + 0.0 переводит -0.0 в 0.0
+        }
+    }
+
+    /**
+     * Считает углы каждого типа в пакете.
+     */
+    private static void classify(Batch batch) {
+        batch._types = new long[AngleType.values().length];
+        AngleKernels.countTypes(batch._values, 0, batch._size, batch._types);
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    private Meter meter(Stage stage) {
+        return stage == Stage.AGGREGATE ? this._aggregator._meter : this._processors[stage.ordinal()]._meter;
+    }
+
+    /**
+     * Этап разбора: разбирает текст пакета в значения в градусах. Пакеты со значениями проходят без изменений.
+     * Этап получает пакеты по одному, поэтому один разборщик обслуживает все пакеты.
+     */
+    private static final class ParseHandler implements AngleParser.Handler, Consumer<Batch> {
+
+        private final AngleParser _parser;
+
+        /**
+         * Разбираемый пакет.
+         */
+        private Batch _batch;
+
+        ParseHandler(AngleParser parser) {
+            this._parser = parser;
+        }
+
+        @Override
+        public void accept(Batch batch) {
+            if (batch._text == null) {
+                return;
+            }
+            batch._values = new double[Math.max(16, batch._text.length() / 8)];
+            batch._unit = AngleUnit.DEGREES;
+            this._batch = batch;
+            try {
+                this._parser.parse(batch._text, this);
+            } finally {
+                this._batch = null;
+            }
+            batch._text = null;
+        }
+
+        @Override
+        public void onAngle(double degrees) {
+            Batch batch = this._batch;
+            if (batch._size == batch._values.length) {
+                batch._values = Arrays.copyOf(batch._values, batch._size * 2);
+            }
+            batch._values[batch._size++] = degrees;
+        }
+
+        @Override
+        public void onError(AngleParser.ParseError error, int line, int offset) {
+            if (error == AngleParser.ParseError.OUT_OF_RANGE) {
+                this._batch._rejected++;
+            } else {
+                this._batch._malformed++;
+            }
+        }
+    }
+
+    /**
+     * Счетчики этапа. Этап получает пакеты по одному, поэтому счетчики изменяет один поток,
+     * а volatile делает их видимыми для чтения из других потоков.
+     */
+    private static final class Meter {
+
+        private volatile long _batches;
+
+        private volatile long _values;
+
+        private volatile long _nanos;
+
+        void record(int values, long nanos) {
+            this._batches++;
+            this._values += values;
+            this._nanos += nanos;
+        }
+    }
+
+    /**
+     * Этап конвейера: применяет действие к пакету и передает его дальше.
+     * Запрашивает у предыдущего этапа не больше емкости пакетов вперед и по одному пакету после каждого обработанного.
+     * Ошибка действия отменяет подписку и завершает следующие этапы с этой ошибкой.
+     */
+    private static final class StageProcessor extends SubmissionPublisher<Batch> implements Flow.Processor<Batch, Batch> {
+
+        private final Consumer<Batch> _action;
+
+        private final int _demand;
+
+        private final Meter _meter = new Meter();
+
+        private Flow.Subscription _subscription;
+
+        StageProcessor(Executor executor, int capacity, Consumer<Batch> action) {
+            super(executor, capacity);
+            this._action = action;
+            this._demand = capacity;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this._subscription = subscription;
+            subscription.request(this._demand);
+        }
+
+        @Override
+        public void onNext(Batch batch) {
+            if (isClosed()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                this._action.accept(batch);
+            } catch (RuntimeException e) {
+                this._subscription.cancel();
+                closeExceptionally(e);
+                return;
+            }
+            this._meter.record(batch._size, System.nanoTime() - start);
+            submit(batch);
+            this._subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            close();
+        }
+    }
+
+    /**
+     * Последний этап: собирает итоги по всем пакетам.
+     */
+    private static final class Aggregator implements Flow.Subscriber<Batch> {
+
+        private final CompletableFuture<Summary> _result = new CompletableFuture<>();
+
+        private final Meter _meter = new Meter();
+
+        private final int _demand;
+
+        private final LongAdder _dropped;
+
+        private final long[] _types = new long[AngleType.values().length];
+
+        private final AngleStatsAccumulator _stats = new AngleStatsAccumulator();
+
+        private long _rejected;
+
+        private long _malformed;
+
+        private Flow.Subscription _subscription;
+
+        Aggregator(int capacity, LongAdder dropped) {
+            this._demand = capacity;
+            this._dropped = dropped;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this._subscription = subscription;
+            subscription.request(this._demand);
+        }
+
+        @Override
+        public void onNext(Batch batch) {
+            long start = System.nanoTime();
+            AngleClassifier.merge(this._types, batch._types);
+            for (int i = 0; i < batch._size; i++) {
+                this._stats.accept(batch._values[i]);
+            }
+            this._rejected += batch._rejected;
+            this._malformed += batch._malformed;
+            this._meter.record(batch._size, System.nanoTime() - start);
+            this._subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this._result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this._result.complete(new Summary(this._types, this._stats, this._rejected, this._malformed,
+                    this._dropped.sum(), this._meter._batches));
+        }
+    }
+
+    /**
+     * Пакет углов, который передается между этапами. До разбора содержит текст, после проверки -
+     * только значения в градусах из диапазона [-360, 360], после включенного приведения - из [0, 360],
+     * после подсчета типов - количество углов каждого типа. Получатели из {@link #subscribe}
+     * видят пакеты после подсчета типов.
+     */
+    public static final class Batch {
+
+        CharSequence _text;
+
+        double[] _values;
+
+        int _size;
+
+        AngleUnit _unit;
+
+        long[] _types;
+
+        long _rejected;
+
+        long _malformed;
+
+        private Batch() {
+        }
+
+        static Batch text(CharSequence text) {
+            Batch batch = new Batch();
+            batch._text = text;
+            return batch;
+        }
+
+        static Batch values(double[] values, int size, AngleUnit unit) {
+            if (size < 0 || size > values.length) {
+                throw new IndexOutOfBoundsException("Размер пакета " + size + " вне массива длины " + values.length + ".");
+            }
+            Batch batch = new Batch();
+            batch._values = values;
+            batch._size = size;
+            batch._unit = unit;
+            return batch;
+        }
+
+        /**
+         * Возвращает количество углов в пакете.
+         * @return Количество углов.
+         */
+        public int size() {
+            return this._size;
+        }
+
+        /**
+         * Возвращает угол пакета.
+         * @param index Индекс угла.
+         * @return Угол в градусах.
+         */
+        public double getDegrees(int index) {
+            if (index < 0 || index >= this._size) {
+                throw new IndexOutOfBoundsException("Индекс " + index + " вне пакета из " + this._size + " углов.");
+            }
+            return this._values[index];
+        }
+
+        /**
+         * Возвращает количество углов типа в пакете.
+         * @param type Тип угла.
+         * @return Количество углов.
+         */
+        public long count(AngleType type) {
+            return this._types == null ? 0 : this._types[type.ordinal()];
+        }
+
+        /**
+         * Возвращает количество значений пакета вне диапазона.
+         * @return Количество отклоненных значений.
+         */
+        public long rejected() {
+            return this._rejected;
+        }
+
+        /**
+         * Возвращает количество значений пакета, которые не удалось разобрать.
+         * @return Количество ошибок разбора.
+         */
+        public long malformed() {
+            return this._malformed;
+        }
+    }
+
+    /**
+     * Итоги работы конвейера. Итоги нескольких конвейеров объединяются через {@link #merge(Summary)},
+     * например, при обработке нескольких файлов отдельными конвейерами.
+     */
+    public static final class Summary {
+
+        private final long[] _types;
+
+        private final AngleStatsAccumulator _stats;
+
+        private final long _rejected;
+
+        private final long _malformed;
+
+        private final long _dropped;
+
+        private final long _batches;
+
+        Summary(long[] types, AngleStatsAccumulator stats, long rejected, long malformed, long dropped, long batches) {
+            this._types = types;
+            this._stats = stats;
+            this._rejected = rejected;
+            this._malformed = malformed;
+            this._dropped = dropped;
+            this._batches = batches;
+        }
+
+        /**
+         * Возвращает количество принятых углов.
+         * @return Количество углов.
+         */
+        public long accepted() {
+            return this._stats.count();
+        }
+
+        /**
+         * Возвращает количество углов типа.
+         * @param type Тип угла.
+         * @return Количество углов.
+         */
+        public long count(AngleType type) {
+            return this._types[type.ordinal()];
+        }
+
+        /**
+         * Возвращает количество значений вне диапазона.
+         * @return Количество отклоненных значений.
+         */
+        public long rejected() {
+            return this._rejected;
+        }
+
+        /**
+         * Возвращает количество значений, которые не удалось разобрать.
+         * @return Количество ошибок разбора.
+         */
+        public long malformed() {
+            return this._malformed;
+        }
+
+        /**
+         * Возвращает количество пакетов, отброшенных из-за заполненного конвейера.
+         * @return Количество пакетов.
+         */
+        public long dropped() {
+            return this._dropped;
+        }
+
+        /**
+         * Возвращает количество пакетов, прошедших конвейер.
+         * @return Количество пакетов.
+         */
+        public long batches() {
+            return this._batches;
+        }
+
+        /**
+         * Возвращает круговую статистику принятых углов после приведения к [0, 360].
+         * @return Статистика углов.
+         */
+        public AngleStats stats() {
+            return this._stats.toStats();
+        }
+
+        /**
+         * Объединяет итоги с итогами другого конвейера.
+         * @param other Итоги другого конвейера.
+         * @return Новые итоги с суммами счетчиков.
+         */
+        public Summary merge(Summary other) {
+            long[] types = this._types.clone();
+            AngleClassifier.merge(types, other._types);
+            AngleStatsAccumulator stats = new AngleStatsAccumulator().combine(this._stats).combine(other._stats);
+            return new Summary(types, stats, this._rejected + other._rejected, this._malformed + other._malformed,
+                    this._dropped + other._dropped, this._batches + other._batches);
+        }
+
+        @Override
+        public String toString() {
+            return "accepted=" + accepted() + ", rejected=" + this._rejected + ", malformed=" + this._malformed
+                    + ", dropped=" + this._dropped + ", types=" + AngleClassifier.toMap(this._types);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package ru.groza1337;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Множество углов на примитивных значениях без упаковки в объекты.
+ * Углы хранятся как биты значения в градусах в хэш-таблице с открытой адресацией ({@link AngleHashTable}),
+ * и на каждый элемент память не выделяется. Равенство совпадает с {@link Angle#equals(Object)}:
+ * 0.0 и -0.0 считаются разными углами, так же как -360 и 360.
+ * Объект не потокобезопасен.
+ */
+final public class AngleSet extends AngleHashTable {
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает пустое множество.
+     */
+    public AngleSet() {
+        this(16);
+    }
+
+    /**
+     * Создает пустое множество, вмещающее указанное количество углов без увеличения таблицы.
+     * @param expectedSize Ожидаемое количество углов.
+     */
+    public AngleSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Добавляет угол в градусах.
+     * @param degrees Угол в градусах.
+     * @return true, если угла еще не было в множестве.
+     */
+    public boolean add(double degrees) {
+        return findOrInsert(keyOf(degrees)) < 0;
+    }
+
+    /**
+     * Добавляет угол.
+     * @param angle Угол.
+     * @return true, если угла еще не было в множестве.
+     */
+    public boolean add(Angle angle) {
+        return add(angle.getDegrees());
+    }
+
+    /**
+     * Проверяет, есть ли угол в множестве. Для значений вне диапазона возвращает false.
+     * @param degrees Угол в градусах.
+     * @return true, если угол есть в множестве.
+     */
+    public boolean contains(double degrees) {
+        return Angle.isValidDegrees(degrees) && find(Double.doubleToLongBits(degrees)) >= 0;
+    }
+
+    /**
+     * Проверяет, есть ли угол в множестве.
+     * @param angle Угол.
+     * @return true, если угол есть в множестве.
+     */
+    public boolean contains(Angle angle) {
+        return contains(angle.getDegrees());
+    }
+
+    /**
+     * Удаляет угол из множества.
+     * @param degrees Угол в градусах.
+     * @return true, если угол был в множестве.
+     */
+    public boolean remove(double degrees) {
+        int slot = Angle.isValidDegrees(degrees) ? find(Double.doubleToLongBits(degrees)) : -1;
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * Передает все углы множества в градусах в порядке ячеек таблицы.
+     * @param consumer Получатель углов.
+     */
+    public void forEach(DoubleConsumer consumer) {
+        for (long key : this._keys) {
+            if (key != EMPTY) {
+                consumer.accept(Double.longBitsToDouble(key));
+            }
+        }
+    }
+
+    /**
+     * Возвращает углы множества в градусах в порядке ячеек таблицы.
+     * @return Массив углов.
+     */
+    public double[] toArray() {
+        double[] result = new double[this._size];
+        int i = 0;
+        for (long key : this._keys) {
+            if (key != EMPTY) {
+                result[i++] = Double.longBitsToDouble(key);
+            }
+        }
+        return result;
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    @Override
+    Object resizeValues(int capacity) {
+        return null;
+    }
+
+    @Override
+    void copyValue(Object oldValues, int from, int to) {
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+    }
+
+    @Override
+    void clearValue(int slot) {
+    }
+}
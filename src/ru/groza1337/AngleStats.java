@@ -0,0 +1,117 @@
+package ru.groza1337;
+
+/**
+ * Круговая статистика набора углов, полученная из {@link AngleStatsAccumulator}.
+ * Среднее считается как направление суммы единичных векторов, поэтому углы 350 и 10 градусов
+ * дают среднее 0, а не 180. Длина среднего вектора R лежит в [0, 1] и показывает сосредоточенность углов,
+ * круговая дисперсия равна 1 - R.
+ * <p>
+ * Наименьший и наибольший углы - линейные крайние значения после приведения к [0, 360), а не границы
+ * дуги вокруг среднего направления: для углов 350, 355, 5 и 10 градусов среднее равно 0, но наименьший угол - 5,
+ * а наибольший - 355. Дугу, которую занимают углы, по ним определить нельзя, если углы лежат по обе стороны от 0.
+ */
+final public class AngleStats {
+
+    /* =========================== Свойства =============================== */
+
+    private final long _count;
+
+    private final double _meanDegrees;
+
+    private final double _resultantLength;
+
+    private final double _minDegrees;
+
+    private final double _maxDegrees;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает статистику из итоговых значений накопителя.
+     * @param count Количество углов.
+     * @param meanDegrees Среднее направление в градусах или NaN.
+     * @param resultantLength Длина среднего вектора.
+     * @param minDegrees Наименьший угол в [0, 360) или NaN.
+     * @param maxDegrees Наибольший угол в [0, 360) или NaN.
+     */
+    AngleStats(long count, double meanDegrees, double resultantLength, double minDegrees, double maxDegrees) {
+        this._count = count;
+        this._meanDegrees = meanDegrees;
+        this._resultantLength = resultantLength;
+        this._minDegrees = minDegrees;
+        this._maxDegrees = maxDegrees;
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает количество углов.
+     * @return Количество углов.
+     */
+    public long getCount() {
+        return this._count;
+    }
+
+    /**
+     * Возвращает среднее направление в градусах в диапазоне (-180, 180].
+     * @return Среднее направление или NaN, если углов нет или их векторы в сумме дают ноль.
+     */
+    public double getMeanDegrees() {
+        return this._meanDegrees;
+    }
+
+    /**
+     * Возвращает среднее направление в виде угла.
+     * @return Среднее направление или null, если оно не определено.
+     */
+    public Angle getMean() {
+        return Angle.tryDegrees(this._meanDegrees);
+    }
+
+    /**
+     * Возвращает длину среднего вектора: 1 - все углы совпадают, 0 - углы уравновешивают друг друга.
+     * @return Длина среднего вектора в [0, 1] или NaN, если углов нет.
+     */
+    public double getResultantLength() {
+        return this._resultantLength;
+    }
+
+    /**
+     * Возвращает круговую дисперсию 1 - R.
+     * @return Круговая дисперсия в [0, 1] или NaN, если углов нет.
+     */
+    public double getVariance() {
+        return 1 - this._resultantLength;
+    }
+
+    /**
+     * Возвращает линейно наименьший угол после приведения к [0, 360). Не зависит от среднего направления,
+     * поэтому для углов по обе стороны от 0 это не начало дуги, которую они занимают.
+     * @return Наименьший угол в градусах или NaN, если углов нет.
+     */
+    public double getMinDegrees() {
+        return this._minDegrees;
+    }
+
+    /**
+     * Возвращает линейно наибольший угол после приведения к [0, 360). Для углов по обе стороны от 0
+     * это не конец дуги, которую они занимают.
+     * @return Наибольший угол в градусах или NaN, если углов нет.
+     */
+    public double getMaxDegrees() {
+        return this._maxDegrees;
+    }
+
+    /**
+     * Возвращает строковое представление статистики.
+     * @return Статистика в формате строки.
+     */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(96).append("count=").append(this._count).append(", mean=");
+        AngleFormatter.appendFixed(out, this._meanDegrees, AngleFormatter.DEFAULT_DECIMALS).append(" degrees, R=");
+        AngleFormatter.appendFixed(out, this._resultantLength, 4).append(", min=");
+        AngleFormatter.appendFixed(out, this._minDegrees, AngleFormatter.DEFAULT_DECIMALS).append(", max=");
+        return AngleFormatter.appendFixed(out, this._maxDegrees, AngleFormatter.DEFAULT_DECIMALS).toString();
+    }
+}
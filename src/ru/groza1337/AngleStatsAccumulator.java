@@ -0,0 +1,120 @@
+package ru.groza1337;
+
+import java.util.function.DoubleConsumer;
+import java.util.stream.Collector;
+
+/**
+ * Накопитель круговой статистики за один проход с постоянной памятью.
+ * Хранит количество углов, суммы синусов и косинусов и линейно наименьший и наибольший угол,
+ * приведенные к [0, 360) (см. {@link AngleStats#getMinDegrees()}). Принимает значения в градусах как {@link DoubleConsumer} или объекты {@link Angle}.
+ * Частичные результаты объединяются через {@link #combine(AngleStatsAccumulator)}, поэтому накопитель
+ * подходит для параллельных потоков ({@link #collector()}) и для обработки по частям.
+ * Объект не потокобезопасен.
+ */
+final public class AngleStatsAccumulator implements DoubleConsumer {
+
+    /* =========================== Свойства =============================== */
+
+    private long _count;
+
+    private double _sumSin;
+
+    private double _sumCos;
+
+    private double _min = Double.POSITIVE_INFINITY;
+
+    private double _max = Double.NEGATIVE_INFINITY;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает пустой накопитель.
+     */
+    public AngleStatsAccumulator() {
+    }
+
+    /**
+     * Возвращает коллектор, собирающий углы потока в статистику.
+     * @return Коллектор для {@link java.util.stream.Stream#collect(Collector)}.
+     */
+    public static Collector<Angle, AngleStatsAccumulator, AngleStats> collector() {
+        return Collector.of(AngleStatsAccumulator::new, AngleStatsAccumulator::accept,
+                AngleStatsAccumulator::combine, AngleStatsAccumulator::toStats, Collector.Characteristics.UNORDERED);
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Добавляет угол в градусах.
+     * @param degrees Угол в градусах.
+     */
+    @Override
+    public void accept(double degrees) {
+        if (!Angle.isValidDegrees(degrees)) {
+            throw new IllegalArgumentException("Угол должен быть в диапазоне [-360, 360] градусов.");
+        }
+        double radians = Angle.degreesToRadians(degrees);
+        add(degrees, Math.sin(radians), Math.cos(radians));
+    }
+
+    /**
+     * Добавляет угол, используя сохраненные в нем синус и косинус.
+     * @param angle Угол.
+     */
+    public void accept(Angle angle) {
+        add(angle.getDegrees(), angle.sin(), angle.cos());
+    }
+
+    /**
+     * Добавляет к накопителю результаты другого накопителя.
+     * @param other Другой накопитель.
+     * @return Этот накопитель.
+     */
+    public AngleStatsAccumulator combine(AngleStatsAccumulator other) {
+        this._count += other._count;
+        this._sumSin += other._sumSin;
+        this._sumCos += other._sumCos;
+        this._min = Math.min(this._min, other._min);
+        this._max = Math.max(this._max, other._max);
+        return this;
+    }
+
+    /**
+     * Возвращает количество добавленных углов.
+     * @return Количество углов.
+     */
+    public long count() {
+        return this._count;
+    }
+
+    /**
+     * Вычисляет статистику по добавленным углам. Накопитель можно продолжать использовать.
+     * @return Круговая статистика.
+     */
+    public AngleStats toStats() {
+        if (this._count == 0) {
+            return new AngleStats(0, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+        }
+        double length = Math.hypot(this._sumSin, this._sumCos);
+        // длина суммы, неотличимая от ошибки округления, означает неопределенное направление
+        double mean = length <= 1e-12 * this._count ? Double.NaN : Angle.radiansToDegrees(Math.atan2(this._sumSin, this._sumCos));
+        return new AngleStats(this._count, mean, Math.min(1, length / this._count), this._min, this._max);
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Добавляет угол с уже вычисленными синусом и косинусом.
+     * @param degrees Угол в градусах.
+     * @param sin Синус угла.
+     * @param cos Косинус угла.
+     */
+    private void add(double degrees, double sin, double cos) {
+        double normalized = Angle.normalizeDegrees(degrees);
+        this._count++;
+        this._sumSin += sin;
+        this._sumCos += cos;
+        this._min = Math.min(this._min, normalized);
+        this._max = Math.max(this._max, normalized);
+    }
+}
@@ -0,0 +1,346 @@
+package ru.groza1337;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongToDoubleFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Потоки значений углов и компенсированное суммирование пакетов углов.
+ * <p>
+ * Представления {@link DoubleStream} и {@link Spliterator.OfDouble} над {@link AngleArray} и
+ * {@link OffHeapAngleBuffer} отдают углы в градусах без создания объектов {@link Angle} и делятся
+ * пополам с точными размерами ({@link Spliterator#SIZED} и {@link Spliterator#SUBSIZED}).
+ * <p>
+ * Суммы считаются алгоритмом Ноймайера блоками по {@value #BLOCK_SIZE} значений, а суммы блоков
+ * складываются по порядку тем же алгоритмом. Границы блоков не зависят от числа потоков,
+ * поэтому параллельное и последовательное суммирование дают одинаковый до последнего бита результат.
+ * Промежуточные суммы могут выходить за [-360, 360]; итог приводится в диапазон способом {@link AngleArithmetic#WRAP}.
+ * Свертки произвольных потоков {@link #sum(DoubleStream)} и {@link #summing()} собирают значения по порядку
+ * и суммируют их теми же блоками, поэтому результат также не зависит от параллельности.
+ */
+final public class AngleStreams {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Количество значений в блоке суммирования.
+     */
+    static final int BLOCK_SIZE = 4096;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    private AngleStreams() {
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает поток углов массива в градусах.
+     * @param angles Массив углов.
+     * @param parallel true - параллельный поток.
+     * @return Поток углов в градусах.
+     */
+    public static DoubleStream stream(AngleArray angles, boolean parallel) {
+        return StreamSupport.doubleStream(spliterator(angles), parallel);
+    }
+
+    /**
+     * Возвращает поток углов буфера в градусах.
+     * @param angles Буфер углов.
+     * @param parallel true - параллельный поток.
+     * @return Поток углов в градусах.
+     */
+    public static DoubleStream stream(OffHeapAngleBuffer angles, boolean parallel) {
+        return StreamSupport.doubleStream(spliterator(angles), parallel);
+    }
+
+    /**
+     * Возвращает разделитель углов массива в градусах.
+     * @param angles Массив углов.
+     * @return Разделитель с характеристиками SIZED и SUBSIZED.
+     */
+    public static Spliterator.OfDouble spliterator(AngleArray angles) {
+        return new IndexSpliterator(index -> angles.getDegrees((int) index), 0, angles.length());
+    }
+
+    /**
+     * Возвращает разделитель углов буфера в градусах.
+     * @param angles Буфер углов.
+     * @return Разделитель с характеристиками SIZED и SUBSIZED.
+     */
+    public static Spliterator.OfDouble spliterator(OffHeapAngleBuffer angles) {
+        return new IndexSpliterator(angles::getDegrees, 0, angles.length());
+    }
+
+    /* --------------------- Компенсированное суммирование ---------------------- */
+
+    /**
+     * Складывает углы в градусах без приведения в диапазон.
+     * @param degrees Углы в градусах.
+     * @param parallel true - блоки суммируются параллельно.
+     * @return Сумма в градусах.
+     */
+    public static double sumDegrees(double[] degrees, boolean parallel) {
+        return sum(index -> degrees[(int) index], degrees.length, parallel);
+    }
+
+    /**
+     * Складывает углы в градусах и приводит сумму в диапазон [-360, 360].
+     * @param degrees Углы в градусах.
+     * @param parallel true - блоки суммируются параллельно.
+     * @return Сумма углов.
+     */
+    public static Angle sum(double[] degrees, boolean parallel) {
+        return Angle.degrees(AngleArithmetic.WRAP.apply(sumDegrees(degrees, parallel)));
+    }
+
+    /**
+     * Складывает углы массива и приводит сумму в диапазон [-360, 360].
+     * @param angles Массив углов.
+     * @param parallel true - блоки суммируются параллельно.
+     * @return Сумма углов.
+     */
+    public static Angle sum(AngleArray angles, boolean parallel) {
+        double sum = sum(index -> angles.getDegrees((int) index), angles.length(), parallel);
+        return Angle.degrees(AngleArithmetic.WRAP.apply(sum));
+    }
+
+    /**
+     * Складывает углы буфера и приводит сумму в диапазон [-360, 360].
+     * @param angles Буфер углов.
+     * @param parallel true - блоки суммируются параллельно.
+     * @return Сумма углов.
+     */
+    public static Angle sum(OffHeapAngleBuffer angles, boolean parallel) {
+        return Angle.degrees(AngleArithmetic.WRAP.apply(sum(angles::getDegrees, angles.length(), parallel)));
+    }
+
+    /**
+     * Складывает углы и приводит сумму в диапазон [-360, 360].
+     * @param angles Углы.
+     * @param parallel true - блоки суммируются параллельно.
+     * @return Сумма углов.
+     */
+    public static Angle sum(Angle[] angles, boolean parallel) {
+        double sum = sum(index -> angles[(int) index].getDegrees(), angles.length, parallel);
+        return Angle.degrees(AngleArithmetic.WRAP.apply(sum));
+    }
+
+    /* --------------------- Компенсированная свертка ---------------------- */
+
+    /**
+     * Складывает углы потока в градусах и приводит сумму в диапазон [-360, 360].
+     * Параллельный поток собирается параллельно; результат совпадает с последовательным до бита.
+     * <p>
+     * Границы блоков суммирования зависят от положения значения во всем потоке, а не в части,
+     * доставшейся потоку выполнения, поэтому значения сначала собираются по порядку: свертка занимает
+     * O(n) памяти - 8 байт на значение. Без буфера суммы частей пришлось бы объединять по границам,
+     * зависящим от деления потока, и результат мог бы отличаться в последнем разряде.
+     * @param degrees Поток углов в градусах.
+     * @return Сумма углов.
+     */
+    public static Angle sum(DoubleStream degrees) {
+        ValueBuffer buffer = degrees.collect(ValueBuffer::new, ValueBuffer::accept, ValueBuffer::append);
+        return Angle.degrees(AngleArithmetic.WRAP.apply(buffer.sum()));
+    }
+
+    /**
+     * Возвращает собиратель, складывающий углы потока компенсированной суммой и приводящий сумму
+     * в диапазон [-360, 360]. Для параллельного и последовательного потока результат одинаков до бита;
+     * ради этого, как и {@link #sum(DoubleStream)}, собиратель хранит значения до конца свертки
+     * и занимает O(n) памяти - 8 байт на угол.
+     * @return Собиратель суммы углов.
+     */
+    public static Collector<Angle, ?, Angle> summing() {
+        return Collector.of(ValueBuffer::new, (buffer, angle) -> buffer.accept(angle.getDegrees()), ValueBuffer::append,
+                buffer -> Angle.degrees(AngleArithmetic.WRAP.apply(buffer.sum())));
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Складывает значения блоками фиксированного размера и объединяет суммы блоков по порядку.
+     * @param values Значения по индексу.
+     * @param length Количество значений.
+     * @param parallel true - блоки суммируются параллельно.
+     * @return Сумма значений.
+     */
+    private static double sum(LongToDoubleFunction values, long length, boolean parallel) {
+        long blockCount = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (blockCount > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Слишком много значений для суммирования: " + length + ".");
+        }
+        // сумма и компенсация каждого блока
+        double[] partial = new double[2 * (int) blockCount];
+        IntStream blocks = IntStream.range(0, (int) blockCount);
+        (parallel ? blocks.parallel() : blocks).forEach(block -> {
+            NeumaierSum sum = new NeumaierSum();
+            long end = Math.min(length, (long) (block + 1) * BLOCK_SIZE);
+            for (long i = (long) block * BLOCK_SIZE; i < end; i++) {
+                sum.accept(values.applyAsDouble(i));
+            }
+            partial[2 * block] = sum._sum;
+            partial[2 * block + 1] = sum._compensation;
+        });
+        NeumaierSum total = new NeumaierSum();
+        for (double value : partial) {
+            total.accept(value);
+        }
+        return total.value();
+    }
+
+    /**
+     * Сумма Ноймайера: накапливает потерянные при округлении младшие разряды отдельно
+     * и добавляет их к сумме в конце. Ошибка не зависит от количества слагаемых.
+     */
+    private static final class NeumaierSum implements DoubleConsumer {
+
+        private double _sum;
+
+        private double _compensation;
+
+        @Override
+        public void accept(double value) {
+            double t = this._sum + value;
+            if (Math.abs(this._sum) >= Math.abs(value)) {
+                this._compensation += (this._sum - t) + value;
+            } else {
+                this._compensation += (value - t) + this._sum;
+            }
+            this._sum = t;
+        }
+
+        double value() {
+            return this._sum + this._compensation;
+        }
+    }
+
+    /**
+     * Значения свертки в порядке потока, хранящиеся частями по {@value #BLOCK_SIZE}. При объединении
+     * части другого буфера присоединяются без копирования; копируется только неполная последняя часть.
+     */
+    private static final class ValueBuffer implements DoubleConsumer {
+
+        private final List<double[]> _chunks = new ArrayList<>();
+
+        private double[] _last = new double[16];
+
+        private int _lastSize;
+
+        @Override
+        public void accept(double value) {
+            if (this._lastSize == this._last.length) {
+                if (this._lastSize == BLOCK_SIZE) {
+                    this._chunks.add(this._last);
+                    this._last = new double[16];
+                    this._lastSize = 0;
+                } else {
+                    this._last = Arrays.copyOf(this._last, Math.min(BLOCK_SIZE, 2 * this._lastSize));
+                }
+            }
+            this._last[this._lastSize++] = value;
+        }
+
+        ValueBuffer append(ValueBuffer other) {
+            if (this._lastSize > 0) {
+                this._chunks.add(Arrays.copyOf(this._last, this._lastSize));
+            }
+            this._chunks.addAll(other._chunks);
+            this._last = other._last;
+            this._lastSize = other._lastSize;
+            return this;
+        }
+
+        /**
+         * Складывает значения теми же блоками, что и {@link AngleStreams#sum(LongToDoubleFunction, long, boolean)}:
+         * блок - {@value #BLOCK_SIZE} значений подряд от начала потока, независимо от границ частей.
+         * @return Сумма значений.
+         */
+        double sum() {
+            NeumaierSum total = new NeumaierSum();
+            NeumaierSum block = new NeumaierSum();
+            int inBlock = 0;
+            for (int chunk = 0; chunk <= this._chunks.size(); chunk++) {
+                double[] values = chunk < this._chunks.size() ? this._chunks.get(chunk) : this._last;
+                int size = chunk < this._chunks.size() ? values.length : this._lastSize;
+                for (int i = 0; i < size; i++) {
+                    block.accept(values[i]);
+                    if (++inBlock == BLOCK_SIZE) {
+                        total.accept(block._sum);
+                        total.accept(block._compensation);
+                        block = new NeumaierSum();
+                        inBlock = 0;
+                    }
+                }
+            }
+            if (inBlock > 0) {
+                total.accept(block._sum);
+                total.accept(block._compensation);
+            }
+            return total.value();
+        }
+    }
+
+    /**
+     * Разделитель значений по диапазону индексов, делящийся пополам.
+     */
+    private static final class IndexSpliterator implements Spliterator.OfDouble {
+
+        private final LongToDoubleFunction _values;
+
+        private long _index;
+
+        private final long _end;
+
+        IndexSpliterator(LongToDoubleFunction values, long from, long to) {
+            this._values = values;
+            this._index = from;
+            this._end = to;
+        }
+
+        @Override
+        public OfDouble trySplit() {
+            long middle = (this._index + this._end) >>> 1;
+            if (middle <= this._index) {
+                return null;
+            }
+            IndexSpliterator prefix = new IndexSpliterator(this._values, this._index, middle);
+            this._index = middle;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (this._index >= this._end) {
+                return false;
+            }
+            action.accept(this._values.applyAsDouble(this._index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            for (long i = this._index; i < this._end; i++) {
+                action.accept(this._values.applyAsDouble(i));
+            }
+            this._index = this._end;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this._end - this._index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package ru.groza1337;
+
+/**
+ * Отображение углов в числа long на примитивных значениях без упаковки в объекты,
+ * например, для подсчета повторов углов через {@link #addTo(double, long)}.
+ * Ключи хранятся как биты значения в градусах в хэш-таблице с открытой адресацией ({@link AngleHashTable}),
+ * значения - в параллельном массиве long, и на каждую запись память не выделяется.
+ * Равенство ключей совпадает с {@link Angle#equals(Object)}: 0.0 и -0.0 - разные ключи, так же как -360 и 360.
+ * Объект не потокобезопасен.
+ */
+final public class AngleToLongMap extends AngleHashTable {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Получатель записей отображения.
+     */
+    public interface EntryConsumer {
+
+        /**
+         * Получает запись отображения.
+         * @param degrees Ключ - угол в градусах.
+         * @param value Значение.
+         */
+        void accept(double degrees, long value);
+    }
+
+    /**
+     * Значения по ячейкам таблицы.
+     */
+    private long[] _values;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает пустое отображение.
+     */
+    public AngleToLongMap() {
+        this(16);
+    }
+
+    /**
+     * Создает пустое отображение, вмещающее указанное количество записей без увеличения таблицы.
+     * @param expectedSize Ожидаемое количество записей.
+     */
+    public AngleToLongMap(int expectedSize) {
+        super(expectedSize);
+        this._values = new long[this._keys.length];
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Записывает значение для угла.
+     * @param degrees Угол в градусах.
+     * @param value Значение.
+     * @return Прежнее значение или 0, если записи не было.
+     */
+    public long put(double degrees, long value) {
+        int slot = findOrInsert(keyOf(degrees));
+        slot = slot < 0 ? -slot - 1 : slot;
+        long previous = this._values[slot];
+        this._values[slot] = value;
+        return previous;
+    }
+
+    /**
+     * Прибавляет число к значению угла; отсутствующее значение считается нулем.
+     * @param degrees Угол в градусах.
+     * @param delta Прибавляемое число.
+     * @return Новое значение.
+     */
+    public long addTo(double degrees, long delta) {
+        int slot = findOrInsert(keyOf(degrees));
+        slot = slot < 0 ? -slot - 1 : slot;
+        return this._values[slot] += delta;
+    }
+
+    /**
+     * Возвращает значение угла.
+     * @param degrees Угол в градусах.
+     * @param defaultValue Значение, если записи нет.
+     * @return Значение угла или значение по умолчанию.
+     */
+    public long getOrDefault(double degrees, long defaultValue) {
+        int slot = Angle.isValidDegrees(degrees) ? find(Double.doubleToLongBits(degrees)) : -1;
+        return slot < 0 ? defaultValue : this._values[slot];
+    }
+
+    /**
+     * Проверяет, есть ли запись для угла.
+     * @param degrees Угол в градусах.
+     * @return true, если запись есть.
+     */
+    public boolean containsKey(double degrees) {
+        return Angle.isValidDegrees(degrees) && find(Double.doubleToLongBits(degrees)) >= 0;
+    }
+
+    /**
+     * Удаляет запись для угла.
+     * @param degrees Угол в градусах.
+     * @return true, если запись была.
+     */
+    public boolean remove(double degrees) {
+        int slot = Angle.isValidDegrees(degrees) ? find(Double.doubleToLongBits(degrees)) : -1;
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    /**
+     * Передает все записи в порядке ячеек таблицы.
+     * @param consumer Получатель записей.
+     */
+    public void forEach(EntryConsumer consumer) {
+        for (int slot = 0; slot < this._keys.length; slot++) {
+            if (this._keys[slot] != EMPTY) {
+                consumer.accept(Double.longBitsToDouble(this._keys[slot]), this._values[slot]);
+            }
+        }
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    @Override
+    Object resizeValues(int capacity) {
+        long[] old = this._values;
+        this._values = new long[capacity];
+        return old;
+    }
+
+    @Override
+    void copyValue(Object oldValues, int from, int to) {
+        this._values[to] = ((long[]) oldValues)[from];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        this._values[to] = this._values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        this._values[slot] = 0;
+    }
+}
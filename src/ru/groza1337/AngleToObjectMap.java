@@ -0,0 +1,151 @@
+package ru.groza1337;
+
+import java.util.function.DoubleFunction;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Отображение углов в объекты с ключами на примитивных значениях без упаковки,
+ * например, для группировки данных по углу через {@link #computeIfAbsent(double, DoubleFunction)}.
+ * Ключи хранятся как биты значения в градусах в хэш-таблице с открытой адресацией ({@link AngleHashTable}),
+ * значения - в параллельном массиве, и на каждую запись память под ключ не выделяется.
+ * Равенство ключей совпадает с {@link Angle#equals(Object)}: 0.0 и -0.0 - разные ключи, так же как -360 и 360.
+ * Значения null не допускаются. Объект не потокобезопасен.
+ * @param <V> Тип значений.
+ */
+final public class AngleToObjectMap<V> extends AngleHashTable {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Значения по ячейкам таблицы.
+     */
+    private Object[] _values;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает пустое отображение.
+     */
+    public AngleToObjectMap() {
+        this(16);
+    }
+
+    /**
+     * Создает пустое отображение, вмещающее указанное количество записей без увеличения таблицы.
+     * @param expectedSize Ожидаемое количество записей.
+     */
+    public AngleToObjectMap(int expectedSize) {
+        super(expectedSize);
+        this._values = new Object[this._keys.length];
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Записывает значение для угла.
+     * @param degrees Угол в градусах.
+     * @param value Значение, не null.
+     * @return Прежнее значение или null, если записи не было.
+     */
+    public V put(double degrees, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Значение не может быть null.");
+        }
+        int slot = findOrInsert(keyOf(degrees));
+        slot = slot < 0 ? -slot - 1 : slot;
+        V previous = valueAt(slot);
+        this._values[slot] = value;
+        return previous;
+    }
+
+    /**
+     * Возвращает значение угла, создавая его функцией, если записи нет.
+     * @param degrees Угол в градусах.
+     * @param factory Функция создания значения по углу в градусах; не должна возвращать null.
+     * @return Значение угла.
+     */
+    public V computeIfAbsent(double degrees, DoubleFunction<? extends V> factory) {
+        int slot = find(keyOf(degrees));
+        if (slot >= 0) {
+            return valueAt(slot);
+        }
+        V value = factory.apply(degrees);
+        put(degrees, value);
+        return value;
+    }
+
+    /**
+     * Возвращает значение угла.
+     * @param degrees Угол в градусах.
+     * @return Значение или null, если записи нет.
+     */
+    public V get(double degrees) {
+        int slot = Angle.isValidDegrees(degrees) ? find(Double.doubleToLongBits(degrees)) : -1;
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    /**
+     * Проверяет, есть ли запись для угла.
+     * @param degrees Угол в градусах.
+     * @return true, если запись есть.
+     */
+    public boolean containsKey(double degrees) {
+        return Angle.isValidDegrees(degrees) && find(Double.doubleToLongBits(degrees)) >= 0;
+    }
+
+    /**
+     * Удаляет запись для угла.
+     * @param degrees Угол в градусах.
+     * @return Удаленное значение или null, если записи не было.
+     */
+    public V remove(double degrees) {
+        int slot = Angle.isValidDegrees(degrees) ? find(Double.doubleToLongBits(degrees)) : -1;
+        if (slot < 0) {
+            return null;
+        }
+        V previous = valueAt(slot);
+        removeAt(slot);
+        return previous;
+    }
+
+    /**
+     * Передает все записи в порядке ячеек таблицы.
+     * @param consumer Получатель значения и угла в градусах.
+     */
+    public void forEach(ObjDoubleConsumer<? super V> consumer) {
+        for (int slot = 0; slot < this._keys.length; slot++) {
+            if (this._keys[slot] != EMPTY) {
+                consumer.accept(valueAt(slot), Double.longBitsToDouble(this._keys[slot]));
+            }
+        }
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) this._values[slot];
+    }
+
+    @Override
+    Object resizeValues(int capacity) {
+        Object[] old = this._values;
+        this._values = new Object[capacity];
+        return old;
+    }
+
+    @Override
+    void copyValue(Object oldValues, int from, int to) {
+        this._values[to] = ((Object[]) oldValues)[from];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        this._values[to] = this._values[from];
+    }
+
+    @Override
+    void clearValue(int slot) {
+        this._values[slot] = null;
+    }
+}
@@ -0,0 +1,44 @@
+package ru.groza1337;
+
+/**
+ * Единицы измерения углов.
+ */
+public enum AngleUnit {
+    DEGREES,    // Градусы
+    RADIANS;    // Радианы
+
+    /**
+     * Переводит значение в этих единицах в градусы по тем же формулам, что и {@link Angle}.
+     * @param value Угол в этих единицах.
+     * @return Угол в градусах.
+     */
+    public double toDegrees(double value) {
+        return this == DEGREES ? value : Angle.radiansToDegrees(value);
+    }
+
+    /**
+     * Переводит значение в градусах в эти единицы по тем же формулам, что и {@link Angle}.
+     * @param degrees Угол в градусах.
+     * @return Угол в этих единицах.
+     */
+    public double fromDegrees(double degrees) {
+        return this == DEGREES ? degrees : Angle.degreesToRadians(degrees);
+    }
+
+    /**
+     * Возвращает значение угла в этих единицах.
+     * @param angle Угол.
+     * @return Угол в этих единицах.
+     */
+    public double of(Angle angle) {
+        return this == DEGREES ? angle.getDegrees() : angle.getRadians();
+    }
+
+    /**
+     * Возвращает границу допустимого диапазона: 360 градусов или 2π радиан.
+     * @return Наибольшее по модулю допустимое значение.
+     */
+    public double bound() {
+        return fromDegrees(360);
+    }
+}
@@ -0,0 +1,123 @@
+package ru.groza1337;
+
+import java.util.BitSet;
+
+/**
+ * Проверка диапазона углов без исключений. Использует ту же проверку, что и {@link Angle},
+ * с включенными границами [-360, 360] градусов; значения в радианах сначала переводятся в градусы
+ * по формуле {@link Angle#radians(double)}. Одиночные проверки возвращают NaN вместо исключения,
+ * пакетные - индексы недопустимых значений в переданном {@code int[]} или {@link BitSet}.
+ */
+final public class AngleValidation {
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    private AngleValidation() {
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Проверяет, находится ли значение в допустимом диапазоне.
+     * @param value Угол.
+     * @param unit Единица измерения угла.
+     * @return true, если из значения можно создать угол, иначе false.
+     */
+    public static boolean isValid(double value, AngleUnit unit) {
+        return Angle.isValidDegrees(unit.toDegrees(value));
+    }
+
+    /**
+     * Проверяет угол в градусах.
+     * @param degrees Угол в градусах.
+     * @return Переданное значение или NaN, если оно вне диапазона.
+     */
+    public static double checkDegrees(double degrees) {
+        return Angle.isValidDegrees(degrees) ? degrees : Double.NaN;
+    }
+
+    /**
+     * Проверяет угол в радианах и переводит его в градусы.
+     * @param radians Угол в радианах.
+     * @return Угол в градусах или NaN, если он вне диапазона.
+     */
+    public static double checkRadians(double radians) {
+        return checkDegrees(Angle.radiansToDegrees(radians));
+    }
+
+    /* --------------------- Пакетные операции ---------------------- */
+
+    /**
+     * Находит индексы недопустимых значений и записывает их по возрастанию в переданный массив.
+     * Если недопустимых значений больше длины массива, записываются только первые из них.
+     * @param values Углы.
+     * @param unit Единица измерения углов.
+     * @param out Массив для индексов.
+     * @return Общее количество недопустимых значений.
+     */
+    public static int invalidIndices(double[] values, AngleUnit unit, int[] out) {
+        int count = 0;
+        for (int i = firstInvalid(values, unit); i < values.length; i++) {
+            if (!isValid(values[i], unit)) {
+                if (count < out.length) {
+                    out[count] = i;
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Находит недопустимые значения и устанавливает их индексы в переданном наборе.
+     * Остальные биты набора не изменяются.
+     * @param values Углы.
+     * @param unit Единица измерения углов.
+     * @param out Набор индексов.
+     * @return Количество недопустимых значений.
+     */
+    public static int invalidIndices(double[] values, AngleUnit unit, BitSet out) {
+        int count = 0;
+        for (int i = firstInvalid(values, unit); i < values.length; i++) {
+            if (!isValid(values[i], unit)) {
+                out.set(i);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Находит индексы недопустимых значений.
+     * @param values Углы.
+     * @param unit Единица измерения углов.
+     * @return Набор индексов недопустимых значений.
+     */
+    public static BitSet invalidIndices(double[] values, AngleUnit unit) {
+        BitSet result = new BitSet();
+        invalidIndices(values, unit, result);
+        return result;
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Находит первое недопустимое значение. Для градусов используется пакетная проверка
+     * {@link AngleKernels#firstInvalid}, поэтому чистые пакеты проверяются за один быстрый проход.
+     * @param values Углы.
+     * @param unit Единица измерения углов.
+     * @return Индекс первого недопустимого значения или длина массива, если все значения допустимы.
+     */
+    private static int firstInvalid(double[] values, AngleUnit unit) {
+        if (unit == AngleUnit.DEGREES) {
+            int invalid = AngleKernels.firstInvalid(values, 0, values.length);
+            return invalid < 0 ? values.length : invalid;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (!isValid(values[i], unit)) {
+                return i;
+            }
+        }
+        return values.length;
+    }
+}
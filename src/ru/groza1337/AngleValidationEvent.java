@@ -0,0 +1,34 @@
+package ru.groza1337;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Событие JDK Flight Recorder: значение не прошло проверку диапазона [-360, 360] градусов в фабрике
+ * или арифметической операции {@link Angle}. Записывается со стеком вызова, чтобы найти источник значений.
+ * {@link AngleMetrics} проверяет {@link #TYPE} до создания объекта, поэтому без записи JFR отказ стоит
+ * только увеличения счетчика.
+ */
+@Name("ru.groza1337.AngleValidationFailure")
+@Label("Angle Validation Failure")
+@Category("Angle")
+@Description("Значение угла вне диапазона [-360, 360] градусов")
+final class AngleValidationEvent extends Event {
+
+    /**
+     * Тип события; {@link EventType#isEnabled()} истинно, пока событие включено хотя бы в одной записи.
+     */
+    static final EventType TYPE = EventType.getEventType(AngleValidationEvent.class);
+
+    @Name("operation")
+    @Label("Operation")
+    String _operation;
+
+    @Name("degrees")
+    @Label("Degrees")
+    double _degrees;
+}
@@ -0,0 +1,218 @@
+package ru.groza1337;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Угол, который можно атомарно изменять из нескольких потоков без блокировок.
+ * Хранит угол в градусах в виде битов double в поле long, доступ к которому идет через {@link VarHandle},
+ * поэтому обновления не создают объектов. Операции изменения выполняются циклом compare-and-set
+ * и проверяют диапазон по правилам {@link Angle}: по умолчанию результат вне [-360, 360] вызывает
+ * {@link IllegalArgumentException}, а значение не изменяется; варианты с {@link AngleArithmetic}
+ * приводят результат в диапазон без исключений.
+ * Значения сравниваются по битам, как в {@link Double#compare}, поэтому 0.0 и -0.0 различаются.
+ */
+final public class AtomicAngle {
+
+    /* =========================== Свойства =============================== */
+
+    private static final VarHandle BITS;
+
+    static {
+        try {
+            BITS = MethodHandles.lookup().findVarHandle(AtomicAngle.class, "_bits", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Биты значения угла в градусах.
+     */
+    private volatile long _bits;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает нулевой угол.
+     */
+    public AtomicAngle() {
+        this(Angle.ZERO_Angle);
+    }
+
+    /**
+     * Создает угол с начальным значением.
+     * @param initial Начальный угол.
+     */
+    public AtomicAngle(Angle initial) {
+        this._bits = Double.doubleToRawLongBits(initial.getDegrees());
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает текущее значение в градусах.
+     * @return Угол в градусах.
+     */
+    public double getDegrees() {
+        return Double.longBitsToDouble(this._bits);
+    }
+
+    /**
+     * Возвращает текущее значение в радианах.
+     * @return Угол в радианах.
+     */
+    public double getRadians() {
+        return Angle.degreesToRadians(getDegrees());
+    }
+
+    /**
+     * Возвращает текущее значение в виде объекта {@link Angle}.
+     * @return Объект угла.
+     */
+    public Angle get() {
+        return Angle.degrees(getDegrees());
+    }
+
+    /**
+     * Устанавливает значение.
+     * @param angle Угол.
+     */
+    public void set(Angle angle) {
+        this._bits = Double.doubleToRawLongBits(angle.getDegrees());
+    }
+
+    /**
+     * Устанавливает значение в градусах.
+     * @param degrees Угол в градусах.
+     */
+    public void setDegrees(double degrees) {
+        this._bits = Double.doubleToRawLongBits(check(degrees));
+    }
+
+    /**
+     * Устанавливает новое значение, если текущее совпадает с ожидаемым.
+     * @param expectedDegrees Ожидаемое значение в градусах.
+     * @param newDegrees Новое значение в градусах.
+     * @return true, если значение установлено.
+     */
+    public boolean compareAndSet(double expectedDegrees, double newDegrees) {
+        return BITS.compareAndSet(this, Double.doubleToRawLongBits(expectedDegrees),
+                Double.doubleToRawLongBits(check(newDegrees)));
+    }
+
+    /**
+     * Устанавливает новый угол, если текущий совпадает с ожидаемым.
+     * @param expected Ожидаемый угол.
+     * @param newAngle Новый угол.
+     * @return true, если значение установлено.
+     */
+    public boolean compareAndSet(Angle expected, Angle newAngle) {
+        return compareAndSet(expected.getDegrees(), newAngle.getDegrees());
+    }
+
+    /* --------------------- Атомарные обновления ---------------------- */
+
+    /**
+     * Атомарно прибавляет угол в градусах.
+     * @param degrees Прибавляемый угол в градусах.
+     * @return Значение до изменения в градусах.
+     */
+    public double getAndAdd(double degrees) {
+        return getAndAdd(degrees, AngleArithmetic.THROW);
+    }
+
+    /**
+     * Атомарно прибавляет угол в градусах, обрабатывая выход за диапазон выбранным способом.
+     * @param degrees Прибавляемый угол в градусах.
+     * @param arithmetic Способ обработки выхода за диапазон.
+     * @return Значение до изменения в градусах.
+     */
+    public double getAndAdd(double degrees, AngleArithmetic arithmetic) {
+        long previous;
+        double current;
+        double next;
+        do {
+            previous = (long) BITS.getVolatile(this);
+            current = Double.longBitsToDouble(previous);
+            next = check(arithmetic.apply(current + degrees));
+        } while (!BITS.weakCompareAndSet(this, previous, Double.doubleToRawLongBits(next)));
+        return current;
+    }
+
+    /**
+     * Атомарно прибавляет угол в градусах.
+     * @param degrees Прибавляемый угол в градусах.
+     * @return Значение после изменения в градусах.
+     */
+    public double addAndGet(double degrees) {
+        return addAndGet(degrees, AngleArithmetic.THROW);
+    }
+
+    /**
+     * Атомарно прибавляет угол в градусах, обрабатывая выход за диапазон выбранным способом.
+     * @param degrees Прибавляемый угол в градусах.
+     * @param arithmetic Способ обработки выхода за диапазон.
+     * @return Значение после изменения в градусах.
+     */
+    public double addAndGet(double degrees, AngleArithmetic arithmetic) {
+        long previous;
+        double next;
+        do {
+            previous = (long) BITS.getVolatile(this);
+            next = check(arithmetic.apply(Double.longBitsToDouble(previous) + degrees));
+        } while (!BITS.weakCompareAndSet(this, previous, Double.doubleToRawLongBits(next)));
+        return next;
+    }
+
+    /**
+     * Атомарно заменяет значение результатом функции. Функция может вызываться несколько раз
+     * при одновременных изменениях и не должна иметь побочных эффектов.
+     * @param update Функция от текущего значения в градусах.
+     * @return Значение после изменения в градусах.
+     */
+    public double updateAndGet(DoubleUnaryOperator update) {
+        return updateAndGet(update, AngleArithmetic.THROW);
+    }
+
+    /**
+     * Атомарно заменяет значение результатом функции, обрабатывая выход за диапазон выбранным способом.
+     * @param update Функция от текущего значения в градусах.
+     * @param arithmetic Способ обработки выхода за диапазон.
+     * @return Значение после изменения в градусах.
+     */
+    public double updateAndGet(DoubleUnaryOperator update, AngleArithmetic arithmetic) {
+        long previous;
+        double next;
+        do {
+            previous = (long) BITS.getVolatile(this);
+            next = check(arithmetic.apply(update.applyAsDouble(Double.longBitsToDouble(previous))));
+        } while (!BITS.weakCompareAndSet(this, previous, Double.doubleToRawLongBits(next)));
+        return next;
+    }
+
+    /**
+     * Возвращает строковое представление текущего угла в градусах.
+     * @return Угол в градусах в формате строки.
+     */
+    @Override
+    public String toString() {
+        return AngleFormatter.appendFixed(new StringBuilder(16), getDegrees(), AngleFormatter.DEFAULT_DECIMALS)
+                .append(" degrees").toString();
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Проверяет диапазон нового значения.
+     * @param degrees Угол в градусах.
+     * @return Переданное значение.
+     */
+    private static double check(double degrees) {
+        if (!Angle.isValidDegrees(degrees)) {
+            throw new IllegalArgumentException("Угол должен быть в диапазоне [-360, 360] градусов.");
+        }
+        return degrees;
+    }
+}
@@ -0,0 +1,258 @@
+package ru.groza1337;
+
+/**
+ * Угол в двоичных единицах (BAM): полный круг делится на 2^32 равных долей, и угол хранится в int.
+ * Сложение и вычитание выполняются целочисленно и естественно переполняются по кругу,
+ * сравнение и хэш-код работают с целым значением. Значение читается как беззнаковое:
+ * 0 соответствует 0 градусов, 2^30 - 90, 2^31 - 180, поэтому 360 градусов совпадают с 0,
+ * а отрицательные углы переходят в [0, 360): -90 градусов - это 270.
+ * <p>
+ * Перевод в {@link Angle} точен, так как каждое значение BAM точно представляется в double.
+ * Перевод из {@link Angle} округляет угол до ближайшей доли круга (около 8.4e-8 градуса),
+ * поэтому углы, полученные из BAM, переводятся обратно без потерь.
+ * Для плотного хранения поддерживается 16-битная запись, где полный круг равен 2^16.
+ */
+final public class BinaryAngle {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Число долей полного круга в 32-битной записи.
+     */
+    private static final double FULL_CIRCLE = 0x1p32;
+
+    /**
+     * Прямой угол в 32-битной записи.
+     */
+    private static final int RIGHT = 1 << 30;
+
+    /**
+     * Развернутый угол в 32-битной записи.
+     */
+    private static final int STRAIGHT = 1 << 31;
+
+    /**
+     * Значение угла в долях круга, читается как беззнаковое.
+     */
+    private final int _value;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Приватный конструктор для создания объекта угла.
+     * @param value Угол в долях круга.
+     */
+    private BinaryAngle(int value) {
+        this._value = value;
+    }
+
+    /**
+     * Создает угол из 32-битной записи, где полный круг равен 2^32.
+     * @param value Угол в долях круга.
+     * @return Объект угла.
+     */
+    public static BinaryAngle ofBam32(int value) {
+        return new BinaryAngle(value);
+    }
+
+    /**
+     * Создает угол из 16-битной записи, где полный круг равен 2^16.
+     * @param value Угол в долях круга.
+     * @return Объект угла.
+     */
+    public static BinaryAngle ofBam16(short value) {
+        return new BinaryAngle(value << 16);
+    }
+
+    /**
+     * Создает угол в градусах, округляя его до ближайшей доли круга.
+     * @param angle Угол в градусах.
+     * @return Объект угла.
+     */
+    public static BinaryAngle degrees(double angle) {
+        if (!Angle.isValidDegrees(angle)) {
+            throw new IllegalArgumentException("Угол должен быть в диапазоне [-360, 360] градусов.");
+        }
+        return new BinaryAngle(degreesToBam32(angle));
+    }
+
+    /**
+     * Создает угол в радианах, округляя его до ближайшей доли круга.
+     * @param angle Угол в радианах.
+     * @return Объект угла.
+     */
+    public static BinaryAngle radians(double angle) {
+        return degrees(Angle.radiansToDegrees(angle));
+    }
+
+    /**
+     * Создает угол из объекта {@link Angle}, округляя его до ближайшей доли круга.
+     * @param angle Угол.
+     * @return Объект угла.
+     */
+    public static BinaryAngle of(Angle angle) {
+        return new BinaryAngle(degreesToBam32(angle.getDegrees()));
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Переводит 32-битную запись в градусы в диапазоне [0, 360). Перевод точен.
+     * @param value Угол в долях круга.
+     * @return Угол в градусах.
+     */
+    public static double bam32ToDegrees(int value) {
+        return Integer.toUnsignedLong(value) * 360 / FULL_CIRCLE;
+    }
+
+    /**
+     * Переводит угол в градусах в 32-битную запись с округлением до ближайшей доли круга
+     * без проверки диапазона. Углы, отличающиеся на 360 градусов, дают одно и то же значение.
+     * @param degrees Угол в градусах в диапазоне [-360, 360].
+     * @return Угол в долях круга.
+     */
+    public static int degreesToBam32(double degrees) {
+        // произведение не больше 2^32 по модулю, приведение к int отбрасывает полные круги
+        return (int) Math.round(degrees / 360 * FULL_CIRCLE);
+    }
+
+    /**
+     * Возвращает 32-битную запись угла.
+     * @return Угол в долях круга, где полный круг равен 2^32.
+     */
+    public int toBam32() {
+        return this._value;
+    }
+
+    /**
+     * Возвращает 16-битную запись угла с округлением до ближайшей доли.
+     * @return Угол в долях круга, где полный круг равен 2^16.
+     */
+    public short toBam16() {
+        return (short) ((this._value + 0x8000) >>> 16);
+    }
+
+    /**
+     * Возвращает значение угла в градусах в диапазоне [0, 360).
+     * @return Угол в градусах.
+     */
+    public double getDegrees() {
+        return bam32ToDegrees(this._value);
+    }
+
+    /**
+     * Возвращает значение угла в радианах в диапазоне [0, 2π).
+     * @return Угол в радианах.
+     */
+    public double getRadians() {
+        return Angle.degreesToRadians(getDegrees());
+    }
+
+    /**
+     * Переводит угол в объект {@link Angle} в диапазоне [0, 360) градусов без потерь.
+     * @return Объект угла.
+     */
+    public Angle toAngle() {
+        return Angle.degrees(getDegrees());
+    }
+
+    /**
+     * Возвращает строковое представление угла в градусах.
+     * @return Угол в градусах в формате строки.
+     */
+    @Override
+    public String toString() {
+        return AngleFormatter.appendFixed(new StringBuilder(16), getDegrees(), AngleFormatter.DEFAULT_DECIMALS)
+                .append(" degrees").toString();
+    }
+
+    /* --------------------- Арифметические операции ---------------------- */
+
+    /**
+     * Складывает текущий угол с переданным углом. Результат переходит через 360 градусов по кругу.
+     * @param other Угол для сложения.
+     * @return Новый угол как результат сложения.
+     */
+    public BinaryAngle add(BinaryAngle other) {
+        return new BinaryAngle(this._value + other._value);
+    }
+
+    /**
+     * Вычитает переданный угол из текущего угла. Результат переходит через 0 градусов по кругу.
+     * @param other Угол для вычитания.
+     * @return Новый угол как результат вычитания.
+     */
+    public BinaryAngle subtract(BinaryAngle other) {
+        return new BinaryAngle(this._value - other._value);
+    }
+
+    /**
+     * Возвращает угол, дополняющий текущий до полного круга.
+     * @return Новый угол.
+     */
+    public BinaryAngle negate() {
+        return new BinaryAngle(-this._value);
+    }
+
+    /* --------------------- Операции сравнения ---------------------- */
+
+    /**
+     * Сравнивает текущий угол с переданным углом как беззнаковые целые.
+     * @param other Угол для сравнения.
+     * @return 0 - если углы равны, отрицательное число - если текущий угол меньше, положительное - если больше.
+     */
+    public int compare(BinaryAngle other) {
+        return Integer.compareUnsigned(this._value, other._value);
+    }
+
+    /* --------------------- Определение типа угла ---------------------- */
+
+    /**
+     * Определяет тип угла точными целочисленными сравнениями.
+     * Полный круг совпадает с нулем, поэтому {@link AngleType#FULL} не возвращается.
+     * @return Тип угла (острый, тупой, прямой и т.д.).
+     */
+    public AngleType determineAngleType() {
+        return typeOf(this._value);
+    }
+
+    /**
+     * Определяет тип угла по 32-битной записи.
+     * @param value Угол в долях круга.
+     * @return Тип угла.
+     */
+    public static AngleType typeOf(int value) {
+        if (value == RIGHT) {
+            return AngleType.RIGHT;
+        } else if (value == STRAIGHT) {
+            return AngleType.STRAIGHT;
+        } else if (Integer.compareUnsigned(value, RIGHT) < 0) {
+            return AngleType.ACUTE;
+        } else if (Integer.compareUnsigned(value, STRAIGHT) < 0) {
+            return AngleType.OBTUSE;
+        } else {
+            return AngleType.REFLEX;
+        }
+    }
+
+    /* --------------------- Эквивалентность и хэш-код ---------------------- */
+
+    /**
+     * Проверяет эквивалентность двух углов.
+     * @param other Другой объект для сравнения.
+     * @return true, если углы равны, иначе false.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof BinaryAngle && ((BinaryAngle) other)._value == this._value;
+    }
+
+    /**
+     * Возвращает хэш-код для данного угла.
+     * @return Хэш-код угла на основе целого значения.
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this._value);
+    }
+}
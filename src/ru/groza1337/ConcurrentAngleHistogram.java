@@ -0,0 +1,238 @@
+package ru.groza1337;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Гистограмма углов для одновременной записи из многих потоков.
+ * Углы приводятся к [0, 360) и раскладываются по корзинам заданной ширины; параллельно считаются
+ * углы каждого {@link AngleType} и отклоненные значения вне диапазона [-360, 360].
+ * Каждый счетчик - отдельный {@link LongAdder}, который при конкуренции разносит обновления по ячейкам
+ * в разных строках кэша, поэтому запись масштабируется с числом потоков без блокировок.
+ * Согласованный срез для чтения и объединения дает {@link #snapshot()}.
+ */
+final public class ConcurrentAngleHistogram {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Ширина корзины в градусах.
+     */
+    private final double _binWidth;
+
+    /**
+     * Счетчики корзин; корзина i содержит углы из [i * ширина, (i + 1) * ширина).
+     */
+    private final LongAdder[] _bins;
+
+    /**
+     * Счетчики типов углов, индексированные порядковым номером {@link AngleType}.
+     */
+    private final LongAdder[] _types;
+
+    /**
+     * Счетчик отклоненных значений.
+     */
+    private final LongAdder _rejected = new LongAdder();
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает пустую гистограмму.
+     * @param binWidth Ширина корзины в градусах, из (0, 360]. Последняя корзина может быть уже остальных.
+     */
+    public ConcurrentAngleHistogram(double binWidth) {
+        if (!(binWidth > 0 && binWidth <= 360)) {
+            throw new IllegalArgumentException("Ширина корзины должна быть в диапазоне (0, 360] градусов.");
+        }
+        this._binWidth = binWidth;
+        this._bins = newAdders((int) Math.ceil(360 / binWidth));
+        this._types = newAdders(AngleType.values().length);
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Записывает угол в градусах.
+     * @param degrees Угол в градусах.
+     * @return true, если угол записан, false - если он вне диапазона и учтен как отклоненный.
+     */
+    public boolean record(double degrees) {
+        if (!Angle.isValidDegrees(degrees)) {
+            this._rejected.increment();
+            return false;
+        }
+        this._bins[binOf(degrees)].increment();
+        this._types[Angle.typeOf(degrees).ordinal()].increment();
+        return true;
+    }
+
+    /**
+     * Записывает угол.
+     * @param angle Угол.
+     */
+    public void record(Angle angle) {
+        record(angle.getDegrees());
+    }
+
+    /**
+     * Возвращает ширину корзины.
+     * @return Ширина корзины в градусах.
+     */
+    public double binWidth() {
+        return this._binWidth;
+    }
+
+    /**
+     * Возвращает количество корзин.
+     * @return Количество корзин.
+     */
+    public int binCount() {
+        return this._bins.length;
+    }
+
+    /**
+     * Снимает срез счетчиков. Во время одновременной записи срез может не включать
+     * часть записей, сделанных во время его снятия.
+     * @return Срез гистограммы.
+     */
+    public Snapshot snapshot() {
+        long[] bins = new long[this._bins.length];
+        for (int i = 0; i < bins.length; i++) {
+            bins[i] = this._bins[i].sum();
+        }
+        long[] types = new long[this._types.length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = this._types[i].sum();
+        }
+        return new Snapshot(this._binWidth, bins, types, this._rejected.sum());
+    }
+
+    /**
+     * Снимает срез счетчиков и обнуляет их. Записи, сделанные во время снятия среза,
+     * попадают либо в этот срез, либо в следующий.
+     * @return Срез гистограммы.
+     */
+    public Snapshot snapshotAndReset() {
+        long[] bins = new long[this._bins.length];
+        for (int i = 0; i < bins.length; i++) {
+            bins[i] = this._bins[i].sumThenReset();
+        }
+        long[] types = new long[this._types.length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = this._types[i].sumThenReset();
+        }
+        return new Snapshot(this._binWidth, bins, types, this._rejected.sumThenReset());
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Определяет корзину угла.
+     * @param degrees Угол в градусах в диапазоне [-360, 360].
+     * @return Номер корзины.
+     */
+    private int binOf(double degrees) {
+        return Math.min((int) (Angle.normalizeDegrees(degrees) / this._binWidth), this._bins.length - 1);
+    }
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Неизменяемый срез гистограммы. Срезы гистограмм с одинаковой шириной корзины
+     * объединяются через {@link #merge(Snapshot)}, например, при сборе результатов с нескольких узлов.
+     */
+    public static final class Snapshot {
+
+        private final double _binWidth;
+
+        private final long[] _bins;
+
+        private final long[] _types;
+
+        private final long _rejected;
+
+        Snapshot(double binWidth, long[] bins, long[] types, long rejected) {
+            this._binWidth = binWidth;
+            this._bins = bins;
+            this._types = types;
+            this._rejected = rejected;
+        }
+
+        /**
+         * Возвращает ширину корзины.
+         * @return Ширина корзины в градусах.
+         */
+        public double binWidth() {
+            return this._binWidth;
+        }
+
+        /**
+         * Возвращает количество корзин.
+         * @return Количество корзин.
+         */
+        public int binCount() {
+            return this._bins.length;
+        }
+
+        /**
+         * Возвращает количество углов в корзине.
+         * @param bin Номер корзины.
+         * @return Количество углов.
+         */
+        public long count(int bin) {
+            return this._bins[bin];
+        }
+
+        /**
+         * Возвращает количество углов типа.
+         * @param type Тип угла.
+         * @return Количество углов.
+         */
+        public long count(AngleType type) {
+            return this._types[type.ordinal()];
+        }
+
+        /**
+         * Возвращает количество отклоненных значений.
+         * @return Количество значений вне диапазона.
+         */
+        public long rejected() {
+            return this._rejected;
+        }
+
+        /**
+         * Возвращает количество записанных углов без отклоненных.
+         * @return Количество углов.
+         */
+        public long total() {
+            return Arrays.stream(this._types).sum();
+        }
+
+        /**
+         * Объединяет срез с другим срезом.
+         * @param other Срез гистограммы с той же шириной корзины.
+         * @return Новый срез с суммами счетчиков.
+         */
+        public Snapshot merge(Snapshot other) {
+            if (Double.compare(other._binWidth, this._binWidth) != 0) {
+                throw new IllegalArgumentException("Ширины корзин не совпадают.");
+            }
+            long[] bins = this._bins.clone();
+            for (int i = 0; i < bins.length; i++) {
+                bins[i] += other._bins[i];
+            }
+            long[] types = this._types.clone();
+            for (int i = 0; i < types.length; i++) {
+                types[i] += other._types[i];
+            }
+            return new Snapshot(this._binWidth, bins, types, this._rejected + other._rejected);
+        }
+    }
+}
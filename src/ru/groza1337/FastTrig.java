@@ -0,0 +1,151 @@
+package ru.groza1337;
+
+/**
+ * Приближенные синус и косинус по таблице с линейной интерполяцией для пакетной обработки углов в градусах.
+ * Таблица делит полный круг на {@value #TABLE_SIZE} шагов по 360/{@value #TABLE_SIZE} градуса;
+ * ошибка интерполяции не превышает h²/8, где h - шаг в радианах, то есть около 2.9e-7.
+ * С учетом округления табличных значений абсолютная ошибка не превышает {@link #MAX_ERROR}.
+ * Углы должны быть в диапазоне [-360, 360] градусов, как у {@link Angle}; диапазон не проверяется,
+ * и для значений вне него результат не определен.
+ * Для точных значений используются {@link Angle#sin()} и {@link Angle#cos()}.
+ */
+final public class FastTrig {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Количество шагов таблицы на полный круг; степень двойки, чтобы индекс переходил через круг маской.
+     */
+    public static final int TABLE_SIZE = 4096;
+
+    /**
+     * Наибольшая абсолютная ошибка синуса и косинуса по сравнению с {@link Math#sin} и {@link Math#cos}.
+     */
+    public static final double MAX_ERROR = 3e-7;
+
+    /**
+     * Количество шагов таблицы в одном градусе.
+     */
+    private static final double STEPS_PER_DEGREE = TABLE_SIZE / 360.0;
+
+    /**
+     * Сдвиг косинуса относительно синуса - четверть круга.
+     */
+    private static final int QUARTER = TABLE_SIZE / 4;
+
+    private static final int MASK = TABLE_SIZE - 1;
+
+    /**
+     * Значения синуса в узлах таблицы.
+     */
+    private static final double[] SIN = new double[TABLE_SIZE];
+
+    static {
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            SIN[i] = Math.sin(2 * Math.PI * i / TABLE_SIZE);
+        }
+    }
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    private FastTrig() {
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает приближенный синус угла.
+     * @param degrees Угол в градусах.
+     * @return Синус угла с ошибкой не больше {@link #MAX_ERROR}.
+     */
+    public static double sin(double degrees) {
+        return interpolate(degrees * STEPS_PER_DEGREE, 0);
+    }
+
+    /**
+     * Возвращает приближенный косинус угла.
+     * @param degrees Угол в градусах.
+     * @return Косинус угла с ошибкой не больше {@link #MAX_ERROR}.
+     */
+    public static double cos(double degrees) {
+        return interpolate(degrees * STEPS_PER_DEGREE, QUARTER);
+    }
+
+    /* --------------------- Пакетные операции ---------------------- */
+
+    /**
+     * Вычисляет приближенные синусы углов.
+     * @param degrees Углы в градусах.
+     * @param out Массив для результата.
+     * @param length Количество обрабатываемых элементов.
+     */
+    public static void sin(double[] degrees, double[] out, int length) {
+        checkLength(degrees, length);
+        checkLength(out, length);
+        for (int i = 0; i < length; i++) {
+            out[i] = interpolate(degrees[i] * STEPS_PER_DEGREE, 0);
+        }
+    }
+
+    /**
+     * Вычисляет приближенные косинусы углов.
+     * @param degrees Углы в градусах.
+     * @param out Массив для результата.
+     * @param length Количество обрабатываемых элементов.
+     */
+    public static void cos(double[] degrees, double[] out, int length) {
+        checkLength(degrees, length);
+        checkLength(out, length);
+        for (int i = 0; i < length; i++) {
+            out[i] = interpolate(degrees[i] * STEPS_PER_DEGREE, QUARTER);
+        }
+    }
+
+    /**
+     * Вычисляет приближенные синусы и косинусы углов за один проход.
+     * @param degrees Углы в градусах.
+     * @param sin Массив для синусов.
+     * @param cos Массив для косинусов.
+     * @param length Количество обрабатываемых элементов.
+     */
+    public static void sinCos(double[] degrees, double[] sin, double[] cos, int length) {
+        checkLength(degrees, length);
+        checkLength(sin, length);
+        checkLength(cos, length);
+        for (int i = 0; i < length; i++) {
+            double steps = degrees[i] * STEPS_PER_DEGREE;
+            sin[i] = interpolate(steps, 0);
+            cos[i] = interpolate(steps, QUARTER);
+        }
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Интерполирует синус между соседними узлами таблицы.
+     * @param steps Угол в шагах таблицы.
+     * @param shift Сдвиг индекса в шагах.
+     * @return Значение синуса в точке {@code steps + shift}.
+     */
+    private static double interpolate(double steps, int shift) {
+        // сдвиг на полный круг делает значение положительным, и приведение к int совпадает с округлением вниз
+        double positive = steps + TABLE_SIZE;
+        int whole = (int) positive;
+        double fraction = positive - whole;
+        int index = whole + shift;
+        double a = SIN[index & MASK];
+        double b = SIN[(index + 1) & MASK];
+        return a + (b - a) * fraction;
+    }
+
+    /**
+     * Проверяет, что массив содержит не меньше указанного количества элементов.
+     * @param array Массив.
+     * @param length Количество обрабатываемых элементов.
+     */
+    private static void checkLength(double[] array, int length) {
+        if (length < 0 || array.length < length) {
+            throw new IndexOutOfBoundsException("Длина массива меньше " + length + ".");
+        }
+    }
+}
@@ -1,8 +1,539 @@
 package ru.groza1337;
 
-public class Main {
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+
+/**
+ * Пакетная обработка файлов углов из командной строки.
+ * <pre>
+ * java ru.groza1337.Main команда [параметры] файл...
+ * </pre>
+ * Команды:
+ * <ul>
+ *     <li>{@code convert} - переводит текстовые файлы в двоичный формат {@link AngleFile}, а двоичные - в текст;</li>
+ *     <li>{@code validate} - считает принятые, отклоненные и неразобранные значения каждого файла;</li>
+ *     <li>{@code classify} - считает углы каждого {@link AngleType};</li>
+ *     <li>{@code stats} - вычисляет круговую статистику ({@link AngleStats}).</li>
+ * </ul>
+ * Параметры: {@code --unit degrees|radians} - единица чисел без единицы в тексте и единица результата {@code convert};
+ * {@code --encoding FLOAT64|FIXED32|FLOAT32|FIXED16} - способ записи двоичного результата;
+ * {@code --out каталог} - каталог результатов {@code convert} (по умолчанию каталог исходного файла);
+ * {@code --normalize} - приводить углы к [0, 360].
+ * <p>
+ * Каждый файл читается частями в своем виртуальном потоке и обрабатывается отдельным {@link AnglePipeline},
+ * поэтому файлы обрабатываются параллельно, а этапы одного файла - конвейером. Двоичные файлы распознаются
+ * по сигнатуре {@link AngleFile}, остальные читаются как текст в UTF-8. Результат {@code convert} содержит
+ * принятые углы в исходном порядке без изменений, а с {@code --normalize} - приведенные к [0, 360].
+ * Текстовый результат записывает числа кратчайшей записью {@link Double#toString(double)}, поэтому перевод
+ * FLOAT64 в градусах в текст и обратно сохраняет значения до бита. Конвейер передает углы в градусах, поэтому
+ * радианы переводятся в градусы и обратно и после такого перевода могут отличаться в последних разрядах.
+ * В конце выводится пропускная способность каждого этапа: чтения и этапов конвейера.
+ */
+final public class Main {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Команды.
+     */
+    enum Command {
+        CONVERT,    // Перевод между текстом и двоичным форматом
+        VALIDATE,   // Проверка значений
+        CLASSIFY,   // Подсчет типов углов
+        STATS       // Круговая статистика
+    }
+
+    /**
+     * Размер части текстового файла в байтах.
+     */
+    static final int CHUNK_BYTES = 1 << 20;
+
+    /**
+     * Количество значений в части двоичного файла.
+     */
+    static final int CHUNK_VALUES = 1 << 16;
+
+    /**
+     * Наибольшее количество частей, ожидающих каждый этап конвейера.
+     */
+    private static final int CAPACITY = 16;
+
+    private static final String USAGE = """
+            Использование: java ru.groza1337.Main convert|validate|classify|stats [параметры] файл...
+              --unit degrees|radians             единица чисел без единицы и результата convert
+              --encoding FLOAT64|FIXED32|FLOAT32|FIXED16  способ записи двоичного результата convert
+              --out каталог                      каталог результатов convert
+              --normalize                        приводить углы к [0, 360]""";
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    private Main() {
+    }
+
+    /* =========================== Операции ============================== */
+
     public static void main(String[] args) {
-        System.out.println(2 * Math.PI);
+        int status = run(args, System.out, System.err);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Выполняет команду.
+     * @param args Аргументы командной строки.
+     * @param out Поток для результатов.
+     * @param err Поток для ошибок.
+     * @return Код завершения: 0 - успешно, 1 - часть файлов не обработана, 2 - неверные аргументы.
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+        long start = System.nanoTime();
+        List<Job> jobs = new ArrayList<>();
+        try (ExecutorService files = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Path file : options._files) {
+                Job job = new Job(file, options);
+                jobs.add(job);
+                futures.add(files.submit(() -> {
+                    job.run();
+                    return null;
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    jobs.get(i)._error = e.getCause();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    jobs.get(i)._error = e;
+                }
+            }
+        }
+        long wallNanos = System.nanoTime() - start;
+        int status = report(options, jobs, out, err);
+        reportThroughput(jobs, wallNanos, out);
+        return status;
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Выводит результаты команды.
+     * @return Код завершения.
+     */
+    private static int report(Options options, List<Job> jobs, PrintStream out, PrintStream err) {
+        int status = 0;
+        AnglePipeline.Summary total = null;
+        for (Job job : jobs) {
+            if (job._error != null) {
+                err.println(job._file + ": ошибка: " + job._error.getMessage());
+                status = 1;
+                continue;
+            }
+            AnglePipeline.Summary summary = job._summary;
+            total = total == null ? summary : total.merge(summary);
+            switch (options._command) {
+                case CONVERT -> out.println(job._file + " -> " + job._output + ": " + summary.accepted() + " углов");
+                case VALIDATE -> out.println(job._file + ": принято " + summary.accepted() + ", вне диапазона "
+                        + summary.rejected() + ", не разобрано " + summary.malformed());
+                default -> {
+                }
+            }
+        }
+        if (total == null) {
+            return status;
+        }
+        switch (options._command) {
+            case VALIDATE -> out.println("Всего: принято " + total.accepted() + ", вне диапазона "
+                    + total.rejected() + ", не разобрано " + total.malformed());
+            case CLASSIFY -> {
+                for (AngleType type : AngleType.values()) {
+                    out.println(type + ": " + total.count(type));
+                }
+            }
+            case STATS -> out.println(total.stats());
+            default -> {
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Выводит пропускную способность чтения и этапов конвейера, сложенную по всем файлам.
+     * Скорость этапа считается по времени его работы, без ожидания соседних этапов.
+     */
+    private static void reportThroughput(List<Job> jobs, long wallNanos, PrintStream out) {
+        int stages = AnglePipeline.Stage.values().length;
+        long[] values = new long[stages + 1];
+        long[] nanos = new long[stages + 1];
+        long bytes = 0;
+        for (Job job : jobs) {
+            values[0] += job._readValues;
+            nanos[0] += job._readNanos;
+            bytes += job._readBytes;
+            for (int i = 0; i < stages; i++) {
+                values[i + 1] += job._stageValues[i];
+                nanos[i + 1] += job._stageNanos[i];
+            }
+        }
+        out.println("Пропускная способность:");
+        out.println(String.format(Locale.US, "  %-10s %12d значений %10.1f МБ %10.1f мс %10.2f млн/с",
+                "READ", values[0], bytes / 1e6, nanos[0] / 1e6, rate(values[0], nanos[0])));
+        for (AnglePipeline.Stage stage : AnglePipeline.Stage.values()) {
+            int i = stage.ordinal() + 1;
+            out.println(String.format(Locale.US, "  %-10s %12d значений %10s    %10.1f мс %10.2f млн/с",
+                    stage, values[i], "", nanos[i] / 1e6, rate(values[i], nanos[i])));
+        }
+        out.println(String.format(Locale.US, "  %-10s %12d значений %10s    %10.1f мс %10.2f млн/с",
+                "ИТОГО", values[stages], "", wallNanos / 1e6, rate(values[stages], wallNanos)));
+    }
+
+    private static double rate(long values, long nanos) {
+        return nanos == 0 ? 0 : values * 1e3 / nanos;
+    }
+
+    /**
+     * Проверяет, начинается ли файл с сигнатуры {@link AngleFile}.
+     */
+    static boolean isAngleFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES).order(AngleFile.ORDER);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // читаем до заполнения или конца файла
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == AngleFile.MAGIC;
+        }
+    }
+
+    /**
+     * Параметры командной строки.
+     */
+    private static final class Options {
+
+        private Command _command;
+
+        private AngleUnit _unit = AngleUnit.DEGREES;
+
+        private AngleEncoding _encoding = AngleEncoding.FLOAT64;
+
+        private Path _outputDirectory;
+
+        private boolean _normalize;
+
+        private final List<Path> _files = new ArrayList<>();
+
+        /**
+         * Разбирает аргументы.
+         * @param args Аргументы командной строки.
+         * @return Параметры.
+         */
+        static Options parse(String[] args) {
+            if (args.length == 0) {
+                throw new IllegalArgumentException("Не указана команда.");
+            }
+            Options options = new Options();
+            options._command = valueOf(Command.class, args[0], "Неизвестная команда");
+            for (int i = 1; i < args.length; i++) {
+                String arg = args[i];
+                if (!arg.startsWith("--")) {
+                    options._files.add(Path.of(arg));
+                    continue;
+                }
+                if (arg.equals("--normalize")) {
+                    options._normalize = true;
+                    continue;
+                }
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Не указано значение параметра " + arg + ".");
+                }
+                String value = args[++i];
+                switch (arg) {
+                    case "--unit" -> options._unit = valueOf(AngleUnit.class, value, "Неизвестная единица измерения");
+                    case "--encoding" -> options._encoding = valueOf(AngleEncoding.class, value, "Неизвестный способ записи");
+                    case "--out" -> options._outputDirectory = Path.of(value);
+                    default -> throw new IllegalArgumentException("Неизвестный параметр: " + arg + ".");
+                }
+            }
+            if (options._files.isEmpty()) {
+                throw new IllegalArgumentException("Не указаны файлы.");
+            }
+            return options;
+        }
+
+        private static <E extends Enum<E>> E valueOf(Class<E> type, String name, String error) {
+            try {
+                return Enum.valueOf(type, name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(error + ": " + name + ".");
+            }
+        }
     }
-}
 
+    /**
+     * Обработка одного файла: чтение частями, конвейер и, для {@code convert}, запись результата.
+     * Счетчики заполняет поток задачи, а читает основной поток после ее завершения.
+     */
+    private static final class Job {
+
+        private final Path _file;
+
+        private final Options _options;
+
+        private Path _output;
+
+        private AnglePipeline.Summary _summary;
+
+        private Throwable _error;
+
+        private long _readBytes;
+
+        private long _readValues;
+
+        private long _readNanos;
+
+        private final long[] _stageValues = new long[AnglePipeline.Stage.values().length];
+
+        private final long[] _stageNanos = new long[AnglePipeline.Stage.values().length];
+
+        Job(Path file, Options options) {
+            this._file = file;
+            this._options = options;
+        }
+
+        void run() throws IOException {
+            boolean binary = isAngleFile(this._file);
+            Converter converter = null;
+            if (this._options._command == Command.CONVERT) {
+                this._output = outputPath(binary);
+                converter = binary ? Converter.text(this._output, this._options._unit)
+                        : Converter.binary(this._output, this._options._unit, this._options._encoding);
+            }
+            AnglePipeline pipeline = new AnglePipeline(this._options._unit, null, CAPACITY, this._options._normalize);
+            if (converter != null) {
+                pipeline.subscribe(converter);
+            }
+            try (pipeline) {
+                if (binary) {
+                    readBinary(pipeline);
+                } else {
+                    readText(pipeline);
+                }
+            } finally {
+                if (converter != null) {
+                    converter.finish();
+                }
+            }
+            this._summary = pipeline.result().join();
+            if (!binary) {
+                this._readValues = pipeline.values(AnglePipeline.Stage.PARSE);
+            }
+            for (AnglePipeline.Stage stage : AnglePipeline.Stage.values()) {
+                this._stageValues[stage.ordinal()] = pipeline.values(stage);
+                this._stageNanos[stage.ordinal()] = pipeline.busyNanos(stage);
+            }
+        }
+
+        /**
+         * Читает текст частями, разрезая их после последнего разделителя, чтобы значения не разрывались.
+         */
+        private void readText(AnglePipeline pipeline) throws IOException {
+            try (FileChannel channel = FileChannel.open(this._file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate(CHUNK_BYTES);
+                boolean end = false;
+                while (!end) {
+                    long start = System.nanoTime();
+                    end = channel.read(buffer) < 0;
+                    buffer.flip();
+                    int cut = end ? buffer.limit() : lastSeparator(buffer);
+                    if (cut < 0) {
+                        cut = buffer.limit();  // значение длиннее части: передаем часть целиком
+                    }
+                    ByteBuffer chunk = buffer.slice(0, cut);
+                    CharSequence text = StandardCharsets.UTF_8.decode(chunk);
+                    this._readBytes += cut;
+                    buffer.position(cut).compact();
+                    this._readNanos += System.nanoTime() - start;
+                    if (!text.isEmpty()) {
+                        pipeline.submit(text);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Читает двоичный файл частями в массивы значений в единице файла. Диапазон не проверяется при чтении:
+         * значения вне диапазона отклоняет и считает этап проверки, как и для текста.
+         */
+        private void readBinary(AnglePipeline pipeline) {
+            try (AngleFileReader reader = AngleFileReader.open(this._file)) {
+                for (long from = 0; from < reader.count(); ) {
+                    long start = System.nanoTime();
+                    double[] chunk = new double[CHUNK_VALUES];
+                    int read = reader.readValues(from, chunk);
+                    from += read;
+                    this._readValues += read;
+                    this._readBytes += (long) read * reader.encoding().bytes();
+                    this._readNanos += System.nanoTime() - start;
+                    pipeline.submit(chunk, read, reader.unit());
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+
+        /**
+         * Возвращает путь результата {@code convert}: имя исходного файла с расширением .txt или .angf.
+         */
+        private Path outputPath(boolean binary) {
+            String name = this._file.getFileName().toString();
+            int dot = name.lastIndexOf('.');
+            String base = dot > 0 ? name.substring(0, dot) : name;
+            Path directory = this._options._outputDirectory != null ? this._options._outputDirectory
+                    : this._file.toAbsolutePath().getParent();
+            Path output = directory.resolve(base + (binary ? ".txt" : ".angf"));
+            if (output.toAbsolutePath().normalize().equals(this._file.toAbsolutePath().normalize())) {
+                throw new IllegalArgumentException("Результат совпадает с исходным файлом: " + output + ".");
+            }
+            return output;
+        }
+
+        /**
+         * Находит позицию после последнего разделителя значений в буфере.
+         * @return Позиция или -1, если разделителей нет.
+         */
+        private static int lastSeparator(ByteBuffer buffer) {
+            for (int i = buffer.limit() - 1; i >= 0; i--) {
+                byte b = buffer.get(i);
+                if (b == '\n' || b == ',' || b == ';') {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Получатель пакетов конвейера, записывающий углы в файл результата по порядку.
+     * Ошибка записи отменяет подписку и передается из {@link #finish()}.
+     */
+    private abstract static class Converter implements Flow.Subscriber<AnglePipeline.Batch> {
+
+        private final CompletableFuture<Void> _done = new CompletableFuture<>();
+
+        final AngleUnit _unit;
+
+        private Flow.Subscription _subscription;
+
+        Converter(AngleUnit unit) {
+            this._unit = unit;
+        }
+
+        static Converter binary(Path output, AngleUnit unit, AngleEncoding encoding) throws IOException {
+            AngleFileWriter writer = AngleFileWriter.create(output, unit, encoding);
+            return new Converter(unit) {
+                @Override
+                void write(double value) throws IOException {
+                    writer.write(value);
+                }
+
+                @Override
+                void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+
+        static Converter text(Path output, AngleUnit unit) throws IOException {
+            Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+            String suffix = unit == AngleUnit.DEGREES ? " degrees\n" : " radians\n";
+            return new Converter(unit) {
+                @Override
+                void write(double value) throws IOException {
+                    // кратчайшая запись, которая разбирается обратно в то же значение
+                    writer.append(Double.toString(value)).append(suffix);
+                }
+
+                @Override
+                void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+
+        abstract void write(double value) throws IOException;
+
+        abstract void close() throws IOException;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this._subscription = subscription;
+            subscription.request(CAPACITY);
+        }
+
+        @Override
+        public void onNext(AnglePipeline.Batch batch) {
+            try {
+                for (int i = 0; i < batch.size(); i++) {
+                    write(this._unit.fromDegrees(batch.getDegrees(i)));
+                }
+            } catch (IOException e) {
+                this._subscription.cancel();
+                this._done.completeExceptionally(e);
+                return;
+            }
+            this._subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this._done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this._done.complete(null);
+        }
+
+        /**
+         * Ждет окончания записи и закрывает файл результата.
+         * @throws IOException Если запись не удалась.
+         */
+        void finish() throws IOException {
+            try {
+                this._done.join();
+            } catch (RuntimeException e) {
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                throw e;
+            } finally {
+                close();
+            }
+        }
+    }
+}
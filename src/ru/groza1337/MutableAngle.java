@@ -0,0 +1,170 @@
+package ru.groza1337;
+
+/**
+ * Изменяемый накопитель угла для цепочек сложений и вычитаний.
+ * Изменяет значение на месте, не создавая промежуточных объектов {@link Angle}.
+ * Диапазон [-360, 360] проверяется только при получении результата через {@link #toAngle()},
+ * поэтому промежуточные значения могут выходить за его пределы.
+ * Класс не потокобезопасен.
+ */
+final public class MutableAngle {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Текущее значение угла в градусах.
+     */
+    private double _angle;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Создает накопитель с нулевым углом.
+     */
+    public MutableAngle() {
+        this._angle = 0;
+    }
+
+    /**
+     * Создает накопитель, начальное значение которого равно переданному углу.
+     * @param angle Начальный угол.
+     */
+    public MutableAngle(Angle angle) {
+        this._angle = angle.getDegrees();
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает текущее значение в градусах без проверки диапазона.
+     * @return Угол в градусах.
+     */
+    public double getDegrees() {
+        return this._angle;
+    }
+
+    /**
+     * Возвращает текущее значение в радианах без проверки диапазона.
+     * @return Угол в радианах.
+     */
+    public double getRadians() {
+        return Angle.degreesToRadians(this._angle);
+    }
+
+    /**
+     * Устанавливает значение, равное переданному углу.
+     * @param angle Новый угол.
+     * @return Этот накопитель.
+     */
+    public MutableAngle set(Angle angle) {
+        this._angle = angle.getDegrees();
+        return this;
+    }
+
+    /**
+     * Устанавливает значение в градусах.
+     * @param degrees Новый угол в градусах.
+     * @return Этот накопитель.
+     */
+    public MutableAngle setDegrees(double degrees) {
+        this._angle = degrees;
+        return this;
+    }
+
+    /**
+     * Проверяет, находится ли текущее значение в диапазоне [-360, 360] градусов.
+     * @return true, если значение в диапазоне, иначе false.
+     */
+    public boolean isValid() {
+        return Angle.isValidDegrees(this._angle);
+    }
+
+    /**
+     * Создает неизменяемый угол из текущего значения.
+     * @return Объект угла.
+     */
+    public Angle toAngle() {
+        return Angle.degrees(this._angle);
+    }
+
+    /**
+     * Создает неизменяемый угол из текущего значения, обрабатывая выход за диапазон выбранным способом.
+     * @param arithmetic Способ обработки выхода за диапазон.
+     * @return Объект угла.
+     */
+    public Angle toAngle(AngleArithmetic arithmetic) {
+        return Angle.degrees(arithmetic.apply(this._angle));
+    }
+
+    /* --------------------- Арифметические операции ---------------------- */
+
+    /**
+     * Прибавляет переданный угол.
+     * @param other Угол для сложения.
+     * @return Этот накопитель.
+     */
+    public MutableAngle add(Angle other) {
+        this._angle += other.getDegrees();
+        return this;
+    }
+
+    /**
+     * Прибавляет угол в градусах.
+     * @param degrees Угол в градусах для сложения.
+     * @return Этот накопитель.
+     */
+    public MutableAngle addDegrees(double degrees) {
+        this._angle += degrees;
+        return this;
+    }
+
+    /**
+     * Прибавляет угол в радианах.
+     * @param radians Угол в радианах для сложения.
+     * @return Этот накопитель.
+     */
+    public MutableAngle addRadians(double radians) {
+        this._angle += Angle.radiansToDegrees(radians);
+        return this;
+    }
+
+    /**
+     * Вычитает переданный угол.
+     * @param other Угол для вычитания.
+     * @return Этот накопитель.
+     */
+    public MutableAngle subtract(Angle other) {
+        this._angle -= other.getDegrees();
+        return this;
+    }
+
+    /**
+     * Вычитает угол в градусах.
+     * @param degrees Угол в градусах для вычитания.
+     * @return Этот накопитель.
+     */
+    public MutableAngle subtractDegrees(double degrees) {
+        this._angle -= degrees;
+        return this;
+    }
+
+    /**
+     * Вычитает угол в радианах.
+     * @param radians Угол в радианах для вычитания.
+     * @return Этот накопитель.
+     */
+    public MutableAngle subtractRadians(double radians) {
+        this._angle -= Angle.radiansToDegrees(radians);
+        return this;
+    }
+
+    /**
+     * Возвращает строковое представление текущего значения.
+     * @return Угол в градусах в формате строки.
+     */
+    @Override
+    public String toString() {
+        return AngleFormatter.appendFixed(new StringBuilder(16), this._angle, AngleFormatter.DEFAULT_DECIMALS)
+                .append(" degrees").toString();
+    }
+}
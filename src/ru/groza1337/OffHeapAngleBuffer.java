@@ -0,0 +1,304 @@
+package ru.groza1337;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Буфер углов вне кучи Java на основе {@link MemorySegment}.
+ * Хранит значения в градусах как double в порядке байтов платформы, по 8 байт на угол без заголовков объектов.
+ * Поддерживает те же операции, что и {@link Angle}, прямо над памятью сегмента, а объекты {@link Angle}
+ * создаются только по запросу. Память освобождается детерминированно при закрытии {@link Arena}:
+ * собственной - в {@link #close()}, переданной - владельцем арены.
+ */
+final public class OffHeapAngleBuffer implements AutoCloseable {
+
+    /* =========================== Свойства =============================== */
+
+    /**
+     * Арена, которой владеет буфер, или null, если арену передали снаружи.
+     */
+    private final Arena _arena;
+
+    /**
+     * Память с углами в градусах.
+     */
+    private final MemorySegment _segment;
+
+    /**
+     * Количество углов.
+     */
+    private final long _length;
+
+    /* ---------------------------- Порождение ---------------------------- */
+
+    /**
+     * Приватный конструктор для создания буфера.
+     * @param arena Собственная арена или null.
+     * @param segment Память с углами.
+     */
+    private OffHeapAngleBuffer(Arena arena, MemorySegment segment) {
+        this._arena = arena;
+        this._segment = segment;
+        this._length = segment.byteSize() / Double.BYTES;
+    }
+
+    /**
+     * Создает буфер нулевых углов в собственной разделяемой арене, которая закрывается в {@link #close()}.
+     * @param length Количество углов.
+     * @return Буфер углов.
+     */
+    public static OffHeapAngleBuffer allocate(long length) {
+        Arena arena = Arena.ofShared();
+        try {
+            return new OffHeapAngleBuffer(arena, allocateSegment(arena, length));
+        } catch (RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Создает буфер нулевых углов в переданной арене. Памятью управляет владелец арены.
+     * @param arena Арена.
+     * @param length Количество углов.
+     * @return Буфер углов.
+     */
+    public static OffHeapAngleBuffer allocate(Arena arena, long length) {
+        return new OffHeapAngleBuffer(null, allocateSegment(arena, length));
+    }
+
+    /**
+     * Создает буфер с копией значений в градусах в собственной разделяемой арене.
+     * @param degrees Углы в градусах.
+     * @return Буфер углов.
+     */
+    public static OffHeapAngleBuffer copyOf(double[] degrees) {
+        int invalid = AngleKernels.firstInvalid(degrees, 0, degrees.length);
+        if (invalid >= 0) {
+            throw outOfRange(invalid);
+        }
+        OffHeapAngleBuffer buffer = allocate(degrees.length);
+        MemorySegment.copy(degrees, 0, buffer._segment, ValueLayout.JAVA_DOUBLE, 0, degrees.length);
+        return buffer;
+    }
+
+    /**
+     * Выделяет память под углы.
+     * @param arena Арена.
+     * @param length Количество углов.
+     * @return Сегмент памяти, заполненный нулями.
+     */
+    private static MemorySegment allocateSegment(Arena arena, long length) {
+        if (length < 0 || length > Long.MAX_VALUE / Double.BYTES) {
+            throw new IllegalArgumentException("Недопустимое количество углов: " + length + ".");
+        }
+        return arena.allocate(length * Double.BYTES, Double.BYTES);
+    }
+
+    /* =========================== Операции ============================== */
+
+    /**
+     * Возвращает количество углов в буфере.
+     * @return Количество углов.
+     */
+    public long length() {
+        return this._length;
+    }
+
+    /**
+     * Возвращает сегмент памяти с углами в градусах только для чтения.
+     * @return Сегмент памяти.
+     */
+    public MemorySegment segment() {
+        return this._segment.asReadOnly();
+    }
+
+    /**
+     * Возвращает значение угла в градусах.
+     * @param index Индекс угла.
+     * @return Угол в градусах.
+     */
+    public double getDegrees(long index) {
+        return this._segment.getAtIndex(ValueLayout.JAVA_DOUBLE, index);
+    }
+
+    /**
+     * Возвращает значение угла в радианах.
+     * @param index Индекс угла.
+     * @return Угол в радианах.
+     */
+    public double getRadians(long index) {
+        return Angle.degreesToRadians(getDegrees(index));
+    }
+
+    /**
+     * Возвращает угол по индексу в виде объекта {@link Angle}.
+     * @param index Индекс угла.
+     * @return Объект угла.
+     */
+    public Angle get(long index) {
+        return Angle.degrees(getDegrees(index));
+    }
+
+    /**
+     * Записывает угол по индексу.
+     * @param index Индекс угла.
+     * @param angle Угол.
+     */
+    public void set(long index, Angle angle) {
+        this._segment.setAtIndex(ValueLayout.JAVA_DOUBLE, index, angle.getDegrees());
+    }
+
+    /**
+     * Записывает угол в градусах по индексу.
+     * @param index Индекс угла.
+     * @param degrees Угол в градусах.
+     */
+    public void setDegrees(long index, double degrees) {
+        if (!Angle.isValidDegrees(degrees)) {
+            throw outOfRange(index);
+        }
+        this._segment.setAtIndex(ValueLayout.JAVA_DOUBLE, index, degrees);
+    }
+
+    /**
+     * Записывает значения в радианах, начиная с указанного индекса, в переданный массив.
+     * @param from Индекс первого угла.
+     * @param out Массив для результата.
+     */
+    public void copyRadians(long from, double[] out) {
+        MemorySegment.copy(this._segment, ValueLayout.JAVA_DOUBLE, from * Double.BYTES, out, 0, out.length);
+        AngleKernels.toRadians(out, out, out.length);
+    }
+
+    /* --------------------- Арифметические операции ---------------------- */
+
+    /**
+     * Прибавляет угол к углу с указанным индексом.
+     * @param index Индекс угла.
+     * @param other Угол для сложения.
+     */
+    public void add(long index, Angle other) {
+        setDegrees(index, getDegrees(index) + other.getDegrees());
+    }
+
+    /**
+     * Вычитает угол из угла с указанным индексом.
+     * @param index Индекс угла.
+     * @param other Угол для вычитания.
+     */
+    public void subtract(long index, Angle other) {
+        setDegrees(index, getDegrees(index) - other.getDegrees());
+    }
+
+    /**
+     * Складывает каждый угол с углом другого буфера с тем же индексом.
+     * При выходе за диапазон выбрасывается одно исключение, а буфер не изменяется.
+     * @param other Буфер углов для сложения.
+     */
+    public void addAll(OffHeapAngleBuffer other) {
+        checkLength(other);
+        for (long i = 0; i < this._length; i++) {
+            if (!Angle.isValidDegrees(getDegrees(i) + other.getDegrees(i))) {
+                throw outOfRange(i);
+            }
+        }
+        for (long i = 0; i < this._length; i++) {
+            this._segment.setAtIndex(ValueLayout.JAVA_DOUBLE, i, getDegrees(i) + other.getDegrees(i));
+        }
+    }
+
+    /**
+     * Вычитает из каждого угла угол другого буфера с тем же индексом.
+     * При выходе за диапазон выбрасывается одно исключение, а буфер не изменяется.
+     * @param other Буфер углов для вычитания.
+     */
+    public void subtractAll(OffHeapAngleBuffer other) {
+        checkLength(other);
+        for (long i = 0; i < this._length; i++) {
+            if (!Angle.isValidDegrees(getDegrees(i) - other.getDegrees(i))) {
+                throw outOfRange(i);
+            }
+        }
+        for (long i = 0; i < this._length; i++) {
+            this._segment.setAtIndex(ValueLayout.JAVA_DOUBLE, i, getDegrees(i) - other.getDegrees(i));
+        }
+    }
+
+    /* --------------------- Операции сравнения ---------------------- */
+
+    /**
+     * Сравнивает два угла буфера.
+     * @param first Индекс первого угла.
+     * @param second Индекс второго угла.
+     * @return 0 - если углы равны, отрицательное число - если первый меньше, положительное - если больше.
+     */
+    public int compare(long first, long second) {
+        return Double.compare(getDegrees(first), getDegrees(second));
+    }
+
+    /**
+     * Сравнивает угол буфера с переданным углом.
+     * @param index Индекс угла.
+     * @param other Угол для сравнения.
+     * @return 0 - если углы равны, отрицательное число - если угол буфера меньше, положительное - если больше.
+     */
+    public int compare(long index, Angle other) {
+        return Double.compare(getDegrees(index), other.getDegrees());
+    }
+
+    /* --------------------- Определение типа угла ---------------------- */
+
+    /**
+     * Определяет тип угла с указанным индексом.
+     * @param index Индекс угла.
+     * @return Тип угла.
+     */
+    public AngleType determineAngleType(long index) {
+        return Angle.typeOf(getDegrees(index));
+    }
+
+    /**
+     * Считает углы каждого типа параллельно.
+     * @return Количество углов, индексированное порядковым номером {@link AngleType}.
+     */
+    public long[] countByType() {
+        return AngleClassifier.countByType(this._segment);
+    }
+
+    /* --------------------- Освобождение памяти ---------------------- */
+
+    /**
+     * Освобождает память, если буфер владеет своей ареной. Память в переданной арене
+     * освобождается при закрытии этой арены.
+     */
+    @Override
+    public void close() {
+        if (this._arena != null) {
+            this._arena.close();
+        }
+    }
+
+    /* --------------------- Вспомогательные методы ---------------------- */
+
+    /**
+     * Проверяет, что длины буферов совпадают.
+     * @param other Другой буфер.
+     */
+    private void checkLength(OffHeapAngleBuffer other) {
+        if (other._length != this._length) {
+            throw new IllegalArgumentException("Длины буферов не совпадают.");
+        }
+    }
+
+    /**
+     * Создает исключение для угла вне диапазона.
+     * @param index Индекс недопустимого угла.
+     * @return Исключение с описанием ошибки.
+     */
+    private static IllegalArgumentException outOfRange(long index) {
+        return new IllegalArgumentException(
+                "Угол с индексом " + index + " должен быть в диапазоне [-360, 360] градусов.");
+    }
+}
@@ -0,0 +1,55 @@
+package ru.groza1337;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Скалярная реализация пакетных операций, используемая без модуля jdk.incubator.vector.
+ */
+final class ScalarAngleKernel implements AngleBatchKernel {
+
+    @Override
+    public void toRadians(double[] degrees, double[] radians, int length) {
+        for (int i = 0; i < length; i++) {
+            radians[i] = Angle.degreesToRadians(degrees[i]);
+        }
+    }
+
+    @Override
+    public void toDegrees(double[] radians, double[] degrees, int length) {
+        for (int i = 0; i < length; i++) {
+            degrees[i] = Angle.radiansToDegrees(radians[i]);
+        }
+    }
+
+    @Override
+    public int firstInvalid(double[] degrees, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Angle.isValidDegrees(degrees[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void classify(double[] degrees, int[] ordinals, int length) {
+        for (int i = 0; i < length; i++) {
+            ordinals[i] = Angle.typeOf(degrees[i]).ordinal();
+        }
+    }
+
+    @Override
+    public void countTypes(double[] degrees, int from, int to, long[] counts) {
+        for (int i = from; i < to; i++) {
+            counts[Angle.typeOf(degrees[i]).ordinal()]++;
+        }
+    }
+
+    @Override
+    public void countTypes(MemorySegment degrees, long from, long to, long[] counts) {
+        for (long i = from; i < to; i++) {
+            counts[Angle.typeOf(degrees.getAtIndex(ValueLayout.JAVA_DOUBLE, i)).ordinal()]++;
+        }
+    }
+}
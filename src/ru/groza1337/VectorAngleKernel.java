@@ -0,0 +1,168 @@
+package ru.groza1337;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Реализация пакетных операций на Vector API.
+ * Загружается только через {@link AngleKernels}, когда модуль jdk.incubator.vector подключен.
+ * Ветвления {@link Angle#determineAngleType()} заменены масками: результат собирается наложением
+ * типов от наименее приоритетного условия к наиболее приоритетному.
+ */
+final class VectorAngleKernel implements AngleBatchKernel {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Вид целочисленного вектора с тем же числом элементов, что и {@link #DOUBLES}.
+     */
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+
+    private final ScalarAngleKernel _tail = new ScalarAngleKernel();
+
+    @Override
+    public void toRadians(double[] degrees, double[] radians, int length) {
+        int bound = DOUBLES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, degrees, i).mul(Math.PI).div(180).intoArray(radians, i);
+        }
+        for (; i < length; i++) {
+            radians[i] = Angle.degreesToRadians(degrees[i]);
+        }
+    }
+
+    @Override
+    public void toDegrees(double[] radians, double[] degrees, int length) {
+        int bound = DOUBLES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, radians, i).mul(180).div(Math.PI).intoArray(degrees, i);
+        }
+        for (; i < length; i++) {
+            degrees[i] = Angle.radiansToDegrees(radians[i]);
+        }
+    }
+
+    @Override
+    public int firstInvalid(double[] degrees, int from, int to) {
+        int bound = from + DOUBLES.loopBound(to - from);
+        int i = from;
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, degrees, i);
+            // сравнения с NaN ложны, поэтому NaN попадает в недопустимые, как и в Angle.isValidDegrees
+            VectorMask<Double> invalid = v.compare(VectorOperators.GE, -360)
+                    .and(v.compare(VectorOperators.LE, 360))
+                    .not();
+            if (invalid.anyTrue()) {
+                return i + invalid.firstTrue();
+            }
+        }
+        return _tail.firstInvalid(degrees, i, to);
+    }
+
+    @Override
+    public void classify(double[] degrees, int[] ordinals, int length) {
+        int bound = DOUBLES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, degrees, i);
+            v = v.add(360, v.compare(VectorOperators.LT, 0));  // отрицательные углы делаем положительными
+            IntVector.broadcast(INTS, AngleType.REFLEX.ordinal())
+                    .blend(AngleType.FULL.ordinal(), v.compare(VectorOperators.EQ, 360).cast(INTS))
+                    .blend(AngleType.OBTUSE.ordinal(), v.compare(VectorOperators.LT, 180).cast(INTS))
+                    .blend(AngleType.STRAIGHT.ordinal(), v.compare(VectorOperators.EQ, 180).cast(INTS))
+                    .blend(AngleType.ACUTE.ordinal(), v.compare(VectorOperators.LT, 90).cast(INTS))
+                    .blend(AngleType.RIGHT.ordinal(), v.compare(VectorOperators.EQ, 90).cast(INTS))
+                    .intoArray(ordinals, i);
+        }
+        for (; i < length; i++) {
+            ordinals[i] = Angle.typeOf(degrees[i]).ordinal();
+        }
+    }
+
+    @Override
+    public void countTypes(double[] degrees, int from, int to, long[] counts) {
+        TypeCounter counter = new TypeCounter();
+        int bound = from + DOUBLES.loopBound(to - from);
+        int i = from;
+        for (; i < bound; i += DOUBLES.length()) {
+            counter.add(DoubleVector.fromArray(DOUBLES, degrees, i));
+        }
+        counter.addTo(counts, i - from);
+        _tail.countTypes(degrees, i, to, counts);
+    }
+
+    @Override
+    public void countTypes(MemorySegment degrees, long from, long to, long[] counts) {
+        if (!degrees.isNative()) {
+            // Vector API читает из кучи только сегменты над byte[]
+            _tail.countTypes(degrees, from, to, counts);
+            return;
+        }
+        TypeCounter counter = new TypeCounter();
+        long bound = from + DOUBLES.loopBound(to - from);
+        long i = from;
+        for (; i < bound; i += DOUBLES.length()) {
+            counter.add(DoubleVector.fromMemorySegment(DOUBLES, degrees, i * Double.BYTES, ByteOrder.nativeOrder()));
+        }
+        counter.addTo(counts, i - from);
+        _tail.countTypes(degrees, i, to, counts);
+    }
+
+    /**
+     * Счетчик типов углов без ветвлений по значениям. Считает, сколько углов достигли и превысили
+     * границы 90 и 180, сколько равны 360 и сколько равны NaN; количество углов каждого типа -
+     * разности соседних счетчиков.
+     */
+    private static final class TypeCounter {
+
+        private long _reached90;
+
+        private long _above90;
+
+        private long _reached180;
+
+        private long _above180;
+
+        private long _full;
+
+        private long _nan;
+
+        /**
+         * Учитывает углы из вектора.
+         * @param v Углы в градусах.
+         */
+        void add(DoubleVector v) {
+            v = v.add(360, v.compare(VectorOperators.LT, 0));  // отрицательные углы делаем положительными
+            this._reached90 += v.compare(VectorOperators.GE, 90).trueCount();
+            this._above90 += v.compare(VectorOperators.GT, 90).trueCount();
+            this._reached180 += v.compare(VectorOperators.GE, 180).trueCount();
+            this._above180 += v.compare(VectorOperators.GT, 180).trueCount();
+            this._full += v.compare(VectorOperators.EQ, 360).trueCount();
+            this._nan += v.test(VectorOperators.IS_NAN).trueCount();
+        }
+
+        /**
+         * Прибавляет накопленные количества к счетчикам типов.
+         * @param counts Счетчики, индексированные порядковым номером {@link AngleType}.
+         * @param total Количество учтенных углов.
+         */
+        void addTo(long[] counts, long total) {
+            counts[AngleType.ACUTE.ordinal()] += total - this._reached90 - this._nan;
+            counts[AngleType.RIGHT.ordinal()] += this._reached90 - this._above90;
+            counts[AngleType.OBTUSE.ordinal()] += this._above90 - this._reached180;
+            counts[AngleType.STRAIGHT.ordinal()] += this._reached180 - this._above180;
+            counts[AngleType.REFLEX.ordinal()] += this._above180 - this._full + this._nan;
+            counts[AngleType.FULL.ordinal()] += this._full;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleArrayTest {
+
+    // 1. **Создание**: Проверка создания массива из градусов и радианов
+    @Nested
+    class CreationTests {
+
+        /**
+         * Тест для создания массива из значений в градусах.
+         */
+        @Test
+        void testDegrees() {
+            AngleArray array = AngleArray.degrees(0, 90, -180, 360);
+            assertEquals(4, array.length(), "Длина массива должна совпадать с количеством значений.");
+            assertEquals(-180, array.getDegrees(2), "Значение в градусах должно сохраняться без изменений.");
+            assertEquals(Angle.degrees(90), array.get(1), "Метод get должен возвращать равный угол.");
+        }
+
+        /**
+         * Тест для создания массива из значений в радианах.
+         */
+        @Test
+        void testRadians() {
+            AngleArray array = AngleArray.radians(0, Math.PI, -2 * Math.PI);
+            assertEquals(Angle.radians(Math.PI).getDegrees(), array.getDegrees(1),
+                    "Перевод из радианов должен совпадать с Angle.radians.");
+            assertEquals(Angle.radians(-2 * Math.PI).getRadians(), array.getRadians(2),
+                    "Перевод в радианы должен совпадать с Angle.getRadians.");
+        }
+
+        /**
+         * Тесты для создания массива со значением вне диапазона.
+         * Ожидаем IllegalArgumentException, в сообщении указан индекс.
+         */
+        @ParameterizedTest(name = "{1}")
+        @CsvSource({
+                "370, 'Угол 370 градусов вне диапазона'",
+                "-360.01, 'Угол -360.01 градусов вне диапазона'",
+                "NaN, 'NaN вне диапазона'"
+        })
+        void testDegrees_OutOfBounds(double invalid, String description) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> AngleArray.degrees(10, invalid, 20), description);
+            assertTrue(exception.getMessage().contains("1"), "Сообщение должно содержать индекс угла.");
+        }
+
+        /**
+         * Тест для создания массива из радианов вне диапазона.
+         */
+        @Test
+        void testRadians_OutOfBounds() {
+            assertThrows(IllegalArgumentException.class, () -> AngleArray.radians(0, 6.3),
+                    "Угол 6.3 радиан вне диапазона должен вызывать исключение.");
+        }
+    }
+
+    // 2. **Пакетные операции**: Проверка сложения, вычитания и конвертации
+    @Nested
+    class BulkOperationTests {
+
+        /**
+         * Тест для пакетного сложения. Результат должен совпадать с Angle.add.
+         */
+        @ParameterizedTest(name = "Сложение {0} и {1}")
+        @CsvSource({
+                "90, 30",
+                "-180, 180",
+                "300, 60",
+                "-200, -160"
+        })
+        void testAddAll(double first, double second) {
+            AngleArray array = AngleArray.degrees(first, second);
+            array.addAll(AngleArray.degrees(second, first));
+            double expected = Angle.degrees(first).add(Angle.degrees(second)).getDegrees();
+            assertEquals(expected, array.getDegrees(0), "Пакетное сложение должно совпадать с Angle.add.");
+            assertEquals(expected, array.getDegrees(1), "Пакетное сложение должно совпадать с Angle.add.");
+        }
+
+        /**
+         * Тест для пакетного вычитания. Результат должен совпадать с Angle.subtract.
+         */
+        @ParameterizedTest(name = "Вычитание {1} из {0}")
+        @CsvSource({
+                "180, 60",
+                "0, 360",
+                "-180, 180"
+        })
+        void testSubtractAll(double first, double second) {
+            AngleArray array = AngleArray.degrees(first);
+            array.subtractAll(AngleArray.degrees(second));
+            assertEquals(Angle.degrees(first).subtract(Angle.degrees(second)).getDegrees(), array.getDegrees(0),
+                    "Пакетное вычитание должно совпадать с Angle.subtract.");
+        }
+
+        /**
+         * Тест на то, что при выходе за диапазон массив остается неизменным.
+         */
+        @Test
+        void testAddAll_OutOfBoundsKeepsValues() {
+            AngleArray array = AngleArray.degrees(10, 300, 20);
+            assertThrows(IllegalArgumentException.class, () -> array.addAll(AngleArray.degrees(10, 100, 20)),
+                    "Сумма 400 градусов должна вызывать исключение.");
+            assertEquals(10, array.getDegrees(0), "Массив не должен изменяться при ошибке.");
+            assertEquals(300, array.getDegrees(1), "Массив не должен изменяться при ошибке.");
+        }
+
+        /**
+         * Тест для пакетного перевода в радианы и обратно.
+         */
+        @Test
+        void testToRadiansAndBack() {
+            AngleArray array = AngleArray.degrees(45, -90, 360);
+            double[] radians = new double[array.length()];
+            array.toRadians(radians);
+            assertEquals(Angle.degrees(45).getRadians(), radians[0], "Перевод должен совпадать с Angle.getRadians.");
+
+            AngleArray restored = new AngleArray(radians.length);
+            restored.fromRadians(radians);
+            assertEquals(-90, restored.getDegrees(1), 1e-12, "Обратный перевод должен восстанавливать угол.");
+        }
+
+        /**
+         * Тест на несовпадение длин массивов.
+         */
+        @Test
+        void testLengthMismatch() {
+            AngleArray array = new AngleArray(2);
+            assertThrows(IllegalArgumentException.class, () -> array.addAll(new AngleArray(3)),
+                    "Массивы разной длины должны вызывать исключение.");
+            assertThrows(IllegalArgumentException.class, () -> array.toRadians(new double[1]),
+                    "Массив результата другой длины должен вызывать исключение.");
+        }
+    }
+
+    // 3. **Тригонометрия**: Проверка точных и приближенных синусов и косинусов
+    @Nested
+    class TrigonometryTests {
+
+        /**
+         * Тест на совпадение с методами Angle и приближенного режима с точным.
+         */
+        @Test
+        void testSinCos() {
+            AngleArray array = AngleArray.degrees(0, 30, 90, -135, 359.9);
+            double[] sin = new double[array.length()];
+            double[] cos = new double[array.length()];
+            double[] fastSin = new double[array.length()];
+            double[] fastCos = new double[array.length()];
+            array.sinCos(sin, cos);
+            array.fastSinCos(fastSin, fastCos);
+            for (int i = 0; i < array.length(); i++) {
+                assertEquals(array.get(i).sin(), sin[i], "Синус должен совпадать с Angle.sin.");
+                assertEquals(array.get(i).cos(), cos[i], "Косинус должен совпадать с Angle.cos.");
+                assertEquals(sin[i], fastSin[i], FastTrig.MAX_ERROR, "Приближенный синус.");
+                assertEquals(cos[i], fastCos[i], FastTrig.MAX_ERROR, "Приближенный косинус.");
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleClassifierTest {
+
+    /**
+     * Создает углы со значениями, попадающими во все типы.
+     */
+    private static double[] sample(int length) {
+        Random random = new Random(length);
+        double[] degrees = new double[length];
+        for (int i = 0; i < length; i++) {
+            degrees[i] = i % 4 == 0 ? random.nextInt(9) * 90 - 360 : random.nextDouble() * 720 - 360;
+        }
+        return degrees;
+    }
+
+    /**
+     * Считает углы каждого типа по одному через determineAngleType.
+     */
+    private static long[] expected(double[] degrees) {
+        long[] counts = new long[AngleType.values().length];
+        for (double angle : degrees) {
+            counts[Angle.degrees(angle).determineAngleType().ordinal()]++;
+        }
+        return counts;
+    }
+
+    // 1. **Источники данных**: Результат должен совпадать с determineAngleType для любого источника
+    @Nested
+    class SourceTests {
+
+        /**
+         * Тест для массивов размером меньше и больше порога деления задачи.
+         */
+        @ParameterizedTest(name = "Массив из {0} углов, параллелизм {1}")
+        @CsvSource({
+                "0, 1",
+                "100, 2",
+                "16384, 4",
+                "100000, 1",
+                "100000, 4"
+        })
+        void testArray(int length, int parallelism) {
+            double[] degrees = sample(length);
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                assertArrayEquals(expected(degrees), AngleClassifier.countByType(degrees, pool),
+                        "Подсчет по массиву должен совпадать с determineAngleType.");
+                assertArrayEquals(expected(degrees), AngleClassifier.countByType(MemorySegment.ofArray(degrees), pool),
+                        "Подсчет по сегменту памяти должен совпадать с determineAngleType.");
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        /**
+         * Тест на сегмент с неполным последним значением.
+         */
+        @Test
+        void testPartialSegment() {
+            MemorySegment segment = MemorySegment.ofArray(new byte[3 * Double.BYTES + 5]);
+            assertThrows(IllegalArgumentException.class, () -> AngleClassifier.countByType(segment),
+                    "Размер сегмента, не кратный 8 байтам, должен вызывать исключение.");
+            assertArrayEquals(new long[AngleType.values().length], AngleClassifier.countByType(MemorySegment.ofArray(new byte[0])),
+                    "Пустой сегмент.");
+        }
+
+        /**
+         * Тест для последовательного и параллельного потока.
+         */
+        @Test
+        void testStream() {
+            double[] degrees = sample(50_000);
+            assertArrayEquals(expected(degrees), AngleClassifier.countByType(Arrays.stream(degrees)),
+                    "Подсчет по потоку должен совпадать с determineAngleType.");
+            assertArrayEquals(expected(degrees), AngleClassifier.countByType(Arrays.stream(degrees).parallel()),
+                    "Подсчет по параллельному потоку должен совпадать с determineAngleType.");
+        }
+    }
+
+    // 2. **Гистограмма**: Проверка представления в виде EnumMap
+    @Nested
+    class HistogramTests {
+
+        /**
+         * Тест на то, что гистограмма содержит все типы углов.
+         */
+        @Test
+        void testHistogram() {
+            EnumMap<AngleType, Long> histogram = AngleClassifier.histogram(new double[]{90, -270, 45, 180, 360, 200});
+            assertEquals(2, histogram.get(AngleType.RIGHT), "Углы 90 и -270 должны быть прямыми.");
+            assertEquals(1, histogram.get(AngleType.ACUTE), "Угол 45 должен быть острым.");
+            assertEquals(0, histogram.get(AngleType.OBTUSE), "Тупых углов нет.");
+            assertEquals(AngleType.values().length, histogram.size(), "Гистограмма должна содержать все типы.");
+        }
+    }
+}
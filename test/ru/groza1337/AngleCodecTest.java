@@ -0,0 +1,208 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleCodecTest {
+
+    private static final double[] DEGREES = {0, 45, -90, 180.5, 270.25, 359.9, 360, -360, -0.5, 12.345};
+
+    // 1. **Один угол**: Запись и чтение одного угла во всех способах записи
+    @Nested
+    class SingleTests {
+
+        /**
+         * Тест на запись и чтение одного угла.
+         */
+        @ParameterizedTest(name = "Угол {0}, единица {1}, способ записи {2}")
+        @CsvSource({
+                "123.456, DEGREES, FLOAT64, 0",
+                "-360, DEGREES, FLOAT64, 0",
+                "123.456, RADIANS, FLOAT64, 1e-12",
+                "123.456, DEGREES, FLOAT32, 1e-5",
+                "360, RADIANS, FLOAT32, 0",
+                "123.456, DEGREES, FIXED32, 1e-6",
+                "-360, RADIANS, FIXED32, 0",
+                "123.456, DEGREES, FIXED16, 0.006",
+                "-123.456, RADIANS, FIXED16, 0.006"
+        })
+        void testRoundTrip(double degrees, AngleUnit unit, AngleEncoding encoding, double tolerance) {
+            ByteBuffer buffer = ByteBuffer.allocate(AngleCodec.singleSize(encoding));
+            AngleCodec.encode(Angle.degrees(degrees), unit, encoding, buffer);
+            assertFalse(buffer.hasRemaining(), "Запись должна занимать ровно вычисленный размер.");
+            buffer.flip();
+            assertEquals(degrees, AngleCodec.decode(buffer).getDegrees(), tolerance, "Восстановленный угол.");
+            assertFalse(buffer.hasRemaining(), "Чтение должно сдвигать позицию за запись.");
+        }
+
+        /**
+         * Тест на размер и заголовок записи.
+         */
+        @Test
+        void testLayout() {
+            ByteBuffer buffer = ByteBuffer.allocate(16);
+            AngleCodec.encode(Angle.degrees(90), AngleUnit.RADIANS, AngleEncoding.FIXED16, buffer);
+            assertEquals(4, buffer.position(), "Заголовок из 2 байтов и значение из 2 байтов.");
+            assertEquals(AngleCodec.SINGLE, buffer.get(0), "Тип записи.");
+            assertEquals(0x13, buffer.get(1), "Единица измерения в старших битах, способ записи в младших.");
+        }
+    }
+
+    // 2. **Пакеты**: Запись и чтение пакетов углов
+    @Nested
+    class BatchTests {
+
+        /**
+         * Тест на запись и чтение пакета во всех сочетаниях единиц и способов записи.
+         */
+        @ParameterizedTest(name = "Единица {0}, способ записи {1}")
+        @CsvSource({
+                "DEGREES, FLOAT64, 0",
+                "RADIANS, FLOAT64, 1e-12",
+                "DEGREES, FLOAT32, 1e-4",
+                "RADIANS, FLOAT32, 1e-4",
+                "DEGREES, FIXED32, 1e-6",
+                "RADIANS, FIXED32, 1e-6",
+                "DEGREES, FIXED16, 0.006",
+                "RADIANS, FIXED16, 0.006"
+        })
+        void testRoundTrip(AngleUnit unit, AngleEncoding encoding, double tolerance) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) AngleCodec.batchSize(DEGREES.length, encoding));
+            AngleCodec.encode(DEGREES, 0, DEGREES.length, unit, encoding, buffer);
+            assertFalse(buffer.hasRemaining(), "Запись должна занимать ровно вычисленный размер.");
+            buffer.flip();
+            assertEquals(DEGREES.length, AngleCodec.batchCount(buffer), "Количество углов в заголовке.");
+            assertEquals(0, buffer.position(), "Чтение количества не сдвигает позицию.");
+            assertArrayEquals(DEGREES, AngleCodec.decodeDegrees(buffer), tolerance, "Восстановленные углы.");
+            assertFalse(buffer.hasRemaining(), "Чтение должно сдвигать позицию за запись.");
+        }
+
+        /**
+         * Тест на запись части массива и массива углов, чтение в массив со смещением.
+         */
+        @Test
+        void testRangesAndArrays() {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+            AngleCodec.encode(DEGREES, 2, 5, AngleUnit.DEGREES, AngleEncoding.FLOAT64, buffer);
+            AngleCodec.encode(AngleArray.degrees(10, 20), AngleUnit.RADIANS, AngleEncoding.FIXED32, buffer);
+            buffer.flip();
+            double[] out = new double[5];
+            assertEquals(3, AngleCodec.decodeDegrees(buffer, out, 1), "Количество прочитанных углов.");
+            assertArrayEquals(new double[]{0, -90, 180.5, 270.25, 0}, out, "Углы записываются с указанного индекса.");
+            AngleArray array = AngleCodec.decodeArray(buffer);
+            assertEquals(2, array.length(), "Длина массива углов.");
+            assertEquals(20, array.getDegrees(1), 1e-6, "Значение в массиве углов.");
+        }
+
+        /**
+         * Тест на сохранение порядка байтов буфера и запись в буфер с порядком big-endian.
+         */
+        @Test
+        void testByteOrder() {
+            ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.BIG_ENDIAN);
+            AngleCodec.encode(DEGREES, 0, 3, AngleUnit.DEGREES, AngleEncoding.FLOAT64, buffer);
+            assertEquals(ByteOrder.BIG_ENDIAN, buffer.order(), "Порядок байтов буфера восстанавливается.");
+            assertEquals(3, buffer.order(ByteOrder.LITTLE_ENDIAN).getInt(2), "Количество записано в little-endian.");
+            buffer.order(ByteOrder.BIG_ENDIAN).flip();
+            assertEquals(3, AngleCodec.batchCount(buffer), "Количество читается независимо от порядка байтов буфера.");
+            assertArrayEquals(new double[]{0, 45, -90}, AngleCodec.decodeDegrees(buffer), "Восстановленные углы.");
+        }
+    }
+
+    // 3. **Ошибки**: Значения вне диапазона, нехватка места и поврежденные записи
+    @Nested
+    class ErrorTests {
+
+        /**
+         * Тест на угол вне диапазона при записи.
+         */
+        @Test
+        void testEncodeOutOfRange() {
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            assertThrows(IllegalArgumentException.class,
+                    () -> AngleCodec.encode(new double[]{1, 400}, 0, 2, AngleUnit.DEGREES, AngleEncoding.FLOAT64, buffer),
+                    "Угол вне диапазона должен вызывать исключение.");
+            assertEquals(0, buffer.position(), "При ошибке буфер не изменяется.");
+        }
+
+        /**
+         * Тест на нехватку места и данных.
+         */
+        @Test
+        void testShortBuffers() {
+            ByteBuffer small = ByteBuffer.allocate(9);
+            assertThrows(BufferOverflowException.class,
+                    () -> AngleCodec.encode(Angle.degrees(1), AngleUnit.DEGREES, AngleEncoding.FLOAT64, small),
+                    "Нехватка места должна вызывать исключение.");
+            assertEquals(0, small.position(), "При нехватке места буфер не изменяется.");
+
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            AngleCodec.encode(DEGREES, 0, 4, AngleUnit.DEGREES, AngleEncoding.FIXED32, buffer);
+            buffer.flip().limit(buffer.limit() - 1);
+            assertThrows(BufferUnderflowException.class, () -> AngleCodec.decodeDegrees(buffer),
+                    "Обрезанный пакет должен вызывать исключение.");
+            assertEquals(0, buffer.position(), "При нехватке данных позиция не меняется.");
+        }
+
+        /**
+         * Тест на поврежденные записи.
+         */
+        @Test
+        void testCorrupted() {
+            ByteBuffer buffer = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(AngleCodec.SINGLE).put((byte) 0x00).putDouble(400).flip();
+            assertThrows(IllegalArgumentException.class, () -> AngleCodec.decode(buffer),
+                    "Значение вне диапазона должно вызывать исключение.");
+            assertEquals(0, buffer.position(), "При ошибке позиция не меняется.");
+
+            buffer.put(1, (byte) 0x0F);
+            assertThrows(IllegalArgumentException.class, () -> AngleCodec.decode(buffer),
+                    "Неизвестный способ записи должен вызывать исключение.");
+            assertThrows(IllegalArgumentException.class, () -> AngleCodec.decodeDegrees(buffer),
+                    "Запись одного угла не читается как пакет.");
+
+            ByteBuffer batch = ByteBuffer.allocate(64);
+            AngleCodec.encode(DEGREES, 0, 2, AngleUnit.DEGREES, AngleEncoding.FLOAT64, batch);
+            batch.flip();
+            batch.order(ByteOrder.LITTLE_ENDIAN).putDouble(AngleCodec.BATCH_HEADER_SIZE + 8, -361);
+            assertThrows(IllegalArgumentException.class, () -> AngleCodec.decodeDegrees(batch),
+                    "Значение пакета вне диапазона должно вызывать исключение.");
+            assertThrows(IndexOutOfBoundsException.class, () -> AngleCodec.decodeDegrees(batch, new double[1], 0),
+                    "Пакет, не помещающийся в массив, должен вызывать исключение.");
+        }
+
+        /**
+         * Тест на значение FLOAT32 вне диапазона: оно не ограничивается до границы, а отклоняется.
+         */
+        @ParameterizedTest
+        @CsvSource({
+                "DEGREES, 720",
+                "DEGREES, -1e30",
+                "RADIANS, 7",
+                "RADIANS, 1e30"
+        })
+        void testFloat32OutOfRange(AngleUnit unit, float value) {
+            byte descriptor = (byte) (unit.ordinal() << 4 | AngleEncoding.FLOAT32.ordinal());
+            ByteBuffer single = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+            single.put(AngleCodec.SINGLE).put(descriptor).putFloat(value).flip();
+            assertThrows(IllegalArgumentException.class, () -> AngleCodec.decode(single),
+                    "Значение FLOAT32 вне диапазона должно вызывать исключение.");
+            assertEquals(0, single.position(), "При ошибке позиция не меняется.");
+
+            ByteBuffer batch = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN);
+            batch.put(AngleCodec.BATCH).put(descriptor).putInt(2).putFloat(1).putFloat(value).flip();
+            assertThrows(IllegalArgumentException.class, () -> AngleCodec.decodeDegrees(batch),
+                    "Значение пакета FLOAT32 вне диапазона должно вызывать исключение.");
+            assertEquals(0, batch.position(), "При ошибке позиция не меняется.");
+        }
+    }
+}
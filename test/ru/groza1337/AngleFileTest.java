@@ -0,0 +1,168 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleFileTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Записывает углы в градусах в файл с заданной единицей измерения и способом записи.
+     */
+    private Path write(AngleUnit unit, AngleEncoding encoding, double... degrees) throws IOException {
+        Path path = directory.resolve(unit + "-" + encoding + ".ang");
+        try (AngleFileWriter writer = AngleFileWriter.create(path, unit, encoding)) {
+            for (double angle : degrees) {
+                writer.write(Angle.degrees(angle));
+            }
+        }
+        return path;
+    }
+
+    // 1. **Запись и чтение**: Значения должны восстанавливаться после записи
+    @Nested
+    class RoundTripTests {
+
+        /**
+         * Тест на запись без потерь в градусах.
+         */
+        @Test
+        void testFloat64Degrees() throws IOException {
+            double[] degrees = {0, 45.5, -180, 360, -360, 12.345678};
+            Path path = write(AngleUnit.DEGREES, AngleEncoding.FLOAT64, degrees);
+            assertEquals(AngleFile.HEADER_SIZE + degrees.length * 8L, Files.size(path), "Размер файла.");
+            try (AngleFileReader reader = AngleFileReader.open(path)) {
+                assertEquals(AngleUnit.DEGREES, reader.unit(), "Единица измерения из заголовка.");
+                assertEquals(AngleEncoding.FLOAT64, reader.encoding(), "Способ записи из заголовка.");
+                assertEquals(degrees.length, reader.count(), "Количество значений из заголовка.");
+                double[] restored = new double[degrees.length];
+                assertEquals(degrees.length, reader.read(0, restored), "Должны быть прочитаны все значения.");
+                assertArrayEquals(degrees, restored, "Значения должны совпадать без потерь.");
+            }
+        }
+
+        /**
+         * Тест на запись с квантованием и в радианах.
+         */
+        @ParameterizedTest(name = "Единица {0}, способ записи {1}")
+        @CsvSource({
+                "DEGREES, FIXED32, 1e-6",
+                "RADIANS, FIXED32, 1e-6",
+                "RADIANS, FLOAT64, 1e-6",
+                "DEGREES, FLOAT32, 1e-6",
+                "RADIANS, FLOAT32, 1e-4",
+                "DEGREES, FIXED16, 0.006",
+                "RADIANS, FIXED16, 0.006"
+        })
+        void testOtherEncodings(AngleUnit unit, AngleEncoding encoding, double tolerance) throws IOException {
+            double[] degrees = {0, 90, -270.25, 360, -360};
+            Path path = write(unit, encoding, degrees);
+            try (AngleFileReader reader = AngleFileReader.open(path)) {
+                List<Double> restored = new ArrayList<>();
+                reader.forEach(restored::add);
+                assertEquals(degrees.length, restored.size(), "Должны быть прочитаны все значения.");
+                for (int i = 0; i < degrees.length; i++) {
+                    assertEquals(degrees[i], restored.get(i), tolerance, "Значение с индексом " + i);
+                }
+            }
+        }
+
+        /**
+         * Тест на чтение в массив углов и в буфер вне кучи.
+         */
+        @Test
+        void testBulkLoad() throws IOException {
+            Path path = write(AngleUnit.DEGREES, AngleEncoding.FLOAT64, 10, 20, 30);
+            try (AngleFileReader reader = AngleFileReader.open(path);
+                 OffHeapAngleBuffer buffer = reader.toOffHeap()) {
+                AngleArray array = reader.toAngleArray();
+                assertEquals(20, array.getDegrees(1), "Значение в массиве углов.");
+                assertEquals(30, buffer.getDegrees(2), "Значение в буфере вне кучи.");
+            }
+        }
+    }
+
+    // 2. **Ошибки**: Проверка значений вне диапазона и поврежденных файлов
+    @Nested
+    class ErrorTests {
+
+        /**
+         * Тест на то, что запись значения вне диапазона вызывает исключение.
+         */
+        @Test
+        void testWriteOutOfBounds() throws IOException {
+            try (AngleFileWriter writer = AngleFileWriter.create(directory.resolve("bad.ang"), AngleUnit.RADIANS,
+                    AngleEncoding.FLOAT64)) {
+                assertThrows(IllegalArgumentException.class, () -> writer.write(6.3),
+                        "Значение 6.3 радиан вне диапазона.");
+                assertEquals(0, writer.count(), "Недопустимое значение не должно записываться.");
+            }
+        }
+
+        /**
+         * Тест на повторное закрытие файла.
+         */
+        @Test
+        void testCloseTwice() throws IOException {
+            Path file = directory.resolve("twice.ang");
+            AngleFileWriter writer = AngleFileWriter.create(file, AngleUnit.DEGREES, AngleEncoding.FLOAT64);
+            writer.write(45);
+            writer.close();
+            assertDoesNotThrow(writer::close, "Повторное закрытие ничего не делает.");
+            try (AngleFileReader reader = AngleFileReader.open(file)) {
+                assertEquals(1, reader.count(), "Количество значений записано один раз.");
+                assertEquals(45, reader.getDegrees(0), "Значение.");
+            }
+        }
+
+        /**
+         * Тест на то, что значение вне диапазона обнаруживается при чтении с указанием индекса.
+         */
+        @Test
+        void testReadOutOfBounds() throws IOException {
+            ByteBuffer content = ByteBuffer.allocate(AngleFile.HEADER_SIZE + 16).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(AngleFile.MAGIC).put(AngleFile.VERSION)
+                    .put((byte) AngleUnit.DEGREES.ordinal()).put((byte) AngleEncoding.FLOAT64.ordinal()).put((byte) 0)
+                    .putLong(2).putDouble(45).putDouble(400);
+            Path path = Files.write(directory.resolve("corrupt.ang"), content.array());
+            try (AngleFileReader reader = AngleFileReader.open(path)) {
+                assertEquals(45, reader.getDegrees(0), "Первое значение допустимо.");
+                IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                        () -> reader.forEach(value -> { }), "Значение 400 вне диапазона.");
+                assertTrue(exception.getMessage().contains("1"), "Сообщение должно содержать индекс значения.");
+            }
+        }
+
+        /**
+         * Тест на файл другого формата и обрезанный файл.
+         */
+        @Test
+        void testInvalidFiles() throws IOException {
+            Path text = Files.writeString(directory.resolve("text.ang"), "45.00 degrees\n");
+            assertThrows(IllegalArgumentException.class, () -> AngleFileReader.open(text),
+                    "Текстовый файл не является файлом углов.");
+
+            Path path = write(AngleUnit.DEGREES, AngleEncoding.FLOAT64, 1, 2, 3);
+            byte[] truncated = Files.readAllBytes(path);
+            Path cut = Files.write(directory.resolve("cut.ang"), Arrays.copyOf(truncated, truncated.length - 4));
+            assertThrows(IllegalArgumentException.class, () -> AngleFileReader.open(cut),
+                    "Обрезанный файл содержит меньше значений, чем указано в заголовке.");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleFormatterTest {
+
+    // 1. **Совпадение с String.format**: Проверка форматирования и округления
+    @Nested
+    class FormatCompatibilityTests {
+
+        /**
+         * Тесты на совпадение с String.format, включая половинные значения и отрицательный ноль.
+         */
+        @ParameterizedTest(name = "Форматирование {0} с {1} знаками")
+        @CsvSource({
+                "0, 2",
+                "-0.0, 2",
+                "-0.001, 2",
+                "0.125, 2",
+                "1.005, 2",
+                "2.675, 2",
+                "-0.005, 2",
+                "359.995, 2",
+                "-359.995, 2",
+                "123.445, 2",
+                "0.5, 0",
+                "-2.5, 0",
+                "6.283185307179586, 5",
+                "1e-20, 2",
+                "NaN, 2",
+                "Infinity, 2",
+                "1e300, 2",
+                "45, 17"
+        })
+        void testMatchesStringFormat(double value, int decimals) {
+            assertEquals(String.format(Locale.US, "%." + decimals + "f", value),
+                    AngleFormatter.appendFixed(new StringBuilder(), value, decimals).toString(),
+                    "Результат должен совпадать с String.format.");
+        }
+
+        /**
+         * Тест на совпадение с String.format для случайных углов и разного числа знаков.
+         */
+        @Test
+        void testRandomValuesMatchStringFormat() {
+            Random random = new Random(1337);
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < 100_000; i++) {
+                double value = i % 2 == 0
+                        ? random.nextDouble() * 720 - 360
+                        : (random.nextInt(720_001) - 360_000) / 1000.0;
+                int decimals = random.nextInt(7);
+                builder.setLength(0);
+                assertEquals(String.format(Locale.US, "%." + decimals + "f", value),
+                        AngleFormatter.appendFixed(builder, value, decimals).toString(),
+                        "Результат должен совпадать с String.format для " + value);
+            }
+        }
+
+        /**
+         * Тест на отрицательное число знаков после запятой.
+         */
+        @Test
+        void testNegativeDecimals() {
+            assertThrows(IllegalArgumentException.class, () -> AngleFormatter.appendFixed(new StringBuilder(), 1, -1),
+                    "Отрицательное число знаков должно вызывать исключение.");
+        }
+    }
+
+    // 2. **Приемники**: Проверка записи в разные приемники
+    @Nested
+    class TargetTests {
+
+        /**
+         * Тест на дописывание в StringBuilder без изменения существующего содержимого.
+         */
+        @Test
+        void testStringBuilder() {
+            StringBuilder builder = new StringBuilder("angle=");
+            AngleFormatter.appendDegrees(builder, Angle.degrees(45), 2);
+            assertEquals("angle=45.00 degrees", builder.toString(), "Текст должен дописываться в конец.");
+        }
+
+        /**
+         * Тест на запись в CharBuffer.
+         */
+        @Test
+        void testCharBuffer() {
+            CharBuffer buffer = CharBuffer.allocate(32);
+            AngleFormatter.appendFixed(buffer, -90.125, 1);
+            buffer.flip();
+            assertEquals("-90.1", buffer.toString(), "Значение должно записываться в CharBuffer.");
+        }
+
+        /**
+         * Тест на запись в произвольный Appendable.
+         */
+        @Test
+        void testAppendable() throws IOException {
+            StringWriter writer = new StringWriter();
+            AngleFormatter.appendRadians(writer, Angle.degrees(45), 3);
+            assertEquals("0.785 radians", writer.toString(), "Значение должно записываться в Appendable.");
+        }
+
+        /**
+         * Тест на то, что toString и toStringInRadians сохраняют прежний формат.
+         */
+        @Test
+        void testAngleToString() {
+            Angle angle = Angle.degrees(-123.456);
+            assertEquals(String.format(Locale.US, "%.2f degrees", angle.getDegrees()), angle.toString(),
+                    "Формат toString не должен меняться.");
+            assertEquals(String.format(Locale.US, "%.2f radians", angle.getRadians()), angle.toStringInRadians(),
+                    "Формат toStringInRadians не должен меняться.");
+        }
+    }
+}
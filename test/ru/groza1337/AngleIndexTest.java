@@ -0,0 +1,134 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleIndexTest {
+
+    private static final AngleIndex INDEX = AngleIndex.of(new double[]{355, -5, 10, 0, 180, 90, 360, -0.0, 350, 5});
+
+    // 1. **Построение**: Приведение и сортировка
+    @Nested
+    class BuildTests {
+
+        /**
+         * Тест на приведение отрицательных углов и сортировку.
+         */
+        @Test
+        void testNormalizedAndSorted() {
+            assertArrayEquals(new double[]{0, 0, 5, 10, 90, 180, 350, 355, 355, 360}, INDEX.toArray(),
+                    "Отрицательные углы приводятся прибавлением 360, -0.0 заменяется на 0.0.");
+            assertEquals(10, INDEX.size(), "Размер индекса.");
+        }
+
+        /**
+         * Тест на угол вне диапазона.
+         */
+        @Test
+        void testOutOfRange() {
+            assertThrows(IllegalArgumentException.class, () -> AngleIndex.of(new double[]{1, 400}),
+                    "Угол вне диапазона должен вызывать исключение.");
+            assertThrows(IllegalArgumentException.class, () -> INDEX.count(0, 361),
+                    "Граница вне диапазона должна вызывать исключение.");
+        }
+    }
+
+    // 2. **Запросы**: Диапазоны, в том числе через 0/360, и ближайший угол
+    @Nested
+    class QueryTests {
+
+        /**
+         * Тест на количество углов в диапазоне.
+         */
+        @ParameterizedTest(name = "В диапазоне [{0}, {1}] {2} углов")
+        @CsvSource({
+                "0, 10, 5",
+                "350, 10, 8",
+                "-10, 10, 8",
+                "90, 180, 2",
+                "181, 349, 0",
+                "0, 360, 10",
+                "355, 355, 2",
+                "355, 360, 5",
+                "-360, 5, 4",
+                "0, 0, 3",
+                "360, 360, 3"
+        })
+        void testCount(double from, double to, int expected) {
+            assertEquals(expected, INDEX.count(from, to), "Количество углов в диапазоне.");
+            assertEquals(expected, INDEX.range(from, to).length, "Длина диапазона.");
+        }
+
+        /**
+         * Тест на порядок углов в диапазоне через 0/360.
+         */
+        @Test
+        void testRangeAcrossSeam() {
+            assertArrayEquals(new double[]{350, 355, 355, 360, 0, 0, 5, 10}, INDEX.range(350, 10),
+                    "Диапазон через 0/360 обходится от начала к концу.");
+        }
+
+        /**
+         * Тест на углы 0 и 360 как одну точку на границе диапазона.
+         */
+        @Test
+        void testSeamBounds() {
+            assertArrayEquals(new double[]{360, 0, 0, 5, 10}, INDEX.range(0, 10),
+                    "Пеленг 360 входит в диапазон с началом 0.");
+            assertArrayEquals(new double[]{355, 355, 360, 0, 0}, INDEX.range(355, 360),
+                    "Пеленги 0 и -360 входят в диапазон с концом 360.");
+            AngleIndex bearings = AngleIndex.of(new double[]{-360, 360, 180});
+            assertEquals(2, bearings.count(0, 10), "Пеленги -360 и 360 в [0, 10].");
+            assertEquals(2, bearings.count(350, 360), "Пеленги -360 и 360 в [350, 360].");
+            assertEquals(3, bearings.count(0, 360), "Полный круг.");
+        }
+
+        /**
+         * Тест на ближайший угол по кругу.
+         */
+        @ParameterizedTest(name = "Ближайший к {0} - {1}")
+        @CsvSource({
+                "91, 90",
+                "134, 90",
+                "136, 180",
+                "300, 350",
+                "-1, 360",
+                "-359.5, 0",
+                "358, 360"
+        })
+        void testNearest(double degrees, double expected) {
+            assertEquals(expected, INDEX.nearest(degrees), "Ближайший угол.");
+        }
+
+        /**
+         * Тест на совпадение запросов с линейным перебором.
+         */
+        @Test
+        void testMatchesLinearScan() {
+            Random random = new Random(18);
+            double[] degrees = new double[20_000];
+            for (int i = 0; i < degrees.length; i++) {
+                degrees[i] = random.nextDouble() * 720 - 360;
+            }
+            AngleIndex index = AngleIndex.of(AngleArray.degrees(degrees));
+            for (int query = 0; query < 200; query++) {
+                double from = random.nextDouble() * 360;
+                double to = random.nextDouble() * 360;
+                int expected = 0;
+                for (double value : degrees) {
+                    double normalized = value < 0 ? value + 360 : value;
+                    boolean inside = from <= to ? normalized >= from && normalized <= to : normalized >= from || normalized <= to;
+                    expected += inside ? 1 : 0;
+                }
+                assertEquals(expected, index.count(from, to), "Количество в [" + from + ", " + to + "].");
+            }
+            assertTrue(Double.isNaN(AngleIndex.of(new double[0]).nearest(10)), "Пустой индекс не имеет ближайшего угла.");
+        }
+    }
+}
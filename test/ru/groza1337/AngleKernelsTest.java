@@ -0,0 +1,148 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class AngleKernelsTest {
+
+    /**
+     * Набор значений с границами типов углов, отрицательным нулем и значениями вне диапазона.
+     */
+    private static double[] sample(int length) {
+        double[] special = {
+                0, -0.0, 90, -270, 89.999, 90.001, 180, -180, 179.5, 360, -360, 359.999,
+                -0.001, 270, -90, 361, -361, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+        Random random = new Random(22);
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = i < special.length ? special[i]
+                    : i % 3 == 0 ? random.nextInt(721) - 360
+                    : random.nextDouble() * 720 - 360;
+        }
+        return values;
+    }
+
+    // 1. **Совпадение со скалярными операциями**: Результаты фасада должны совпадать с Angle
+    @Nested
+    class ScalarEquivalenceTests {
+
+        /**
+         * Тест на совпадение пакетного перевода с Angle.
+         */
+        @Test
+        void testConversions() {
+            double[] degrees = sample(1001);
+            double[] radians = new double[degrees.length];
+            double[] restored = new double[degrees.length];
+            AngleKernels.toRadians(degrees, radians, degrees.length);
+            AngleKernels.toDegrees(radians, restored, radians.length);
+            for (int i = 0; i < degrees.length; i++) {
+                assertEquals(Angle.degreesToRadians(degrees[i]), radians[i], "Перевод в радианы для индекса " + i);
+                assertEquals(Angle.radiansToDegrees(radians[i]), restored[i], "Перевод в градусы для индекса " + i);
+            }
+        }
+
+        /**
+         * Тест на совпадение классификации с determineAngleType.
+         */
+        @Test
+        void testClassify() {
+            double[] degrees = sample(1001);
+            int[] ordinals = new int[degrees.length];
+            AngleKernels.classify(degrees, ordinals, degrees.length);
+            for (int i = 0; i < degrees.length; i++) {
+                assertEquals(Angle.typeOf(degrees[i]).ordinal(), ordinals[i], "Тип угла " + degrees[i]);
+            }
+        }
+
+        /**
+         * Тест на совпадение подсчета типов с determineAngleType.
+         */
+        @Test
+        void testCountTypes() {
+            double[] degrees = sample(1001);
+            long[] expected = new long[AngleType.values().length];
+            for (int i = 10; i < degrees.length; i++) {
+                expected[Angle.typeOf(degrees[i]).ordinal()]++;
+            }
+            long[] counts = new long[AngleType.values().length];
+            AngleKernels.countTypes(degrees, 10, degrees.length, counts);
+            assertArrayEquals(expected, counts, "Подсчет типов должен совпадать с determineAngleType.");
+        }
+
+        /**
+         * Тест на поиск первого значения вне диапазона.
+         */
+        @Test
+        void testFirstInvalid() {
+            double[] degrees = new double[100];
+            assertEquals(-1, AngleKernels.firstInvalid(degrees, 0, degrees.length), "Все углы в диапазоне.");
+            degrees[77] = Double.NaN;
+            degrees[90] = 400;
+            assertEquals(77, AngleKernels.firstInvalid(degrees, 0, degrees.length), "NaN вне диапазона.");
+            assertEquals(90, AngleKernels.firstInvalid(degrees, 78, degrees.length), "Поиск должен начинаться с from.");
+            assertEquals(-1, AngleKernels.firstInvalid(degrees, 0, 77), "Поиск должен заканчиваться перед to.");
+        }
+    }
+
+    // 2. **Векторная реализация**: Проверяется только при подключенном модуле jdk.incubator.vector
+    @Nested
+    class VectorKernelTests {
+
+        /**
+         * Тест на побитное совпадение векторной и скалярной реализаций.
+         */
+        @Test
+        void testVectorMatchesScalar() {
+            AngleBatchKernel vector = AngleKernels.loadVector();
+            assumeTrue(vector != null, "Модуль jdk.incubator.vector не подключен.");
+            AngleBatchKernel scalar = new ScalarAngleKernel();
+
+            for (int length : new int[]{0, 1, 3, 7, 64, 1001}) {
+                double[] degrees = sample(length);
+                double[] expected = new double[length];
+                double[] actual = new double[length];
+                scalar.toRadians(degrees, expected, length);
+                vector.toRadians(degrees, actual, length);
+                assertArrayEquals(expected, actual, "Перевод в радианы, длина " + length);
+                scalar.toDegrees(degrees, expected, length);
+                vector.toDegrees(degrees, actual, length);
+                assertArrayEquals(expected, actual, "Перевод в градусы, длина " + length);
+
+                int[] expectedTypes = new int[length];
+                int[] actualTypes = new int[length];
+                scalar.classify(degrees, expectedTypes, length);
+                vector.classify(degrees, actualTypes, length);
+                assertArrayEquals(expectedTypes, actualTypes, "Классификация, длина " + length);
+
+                for (int from = 0; from < length; from += 5) {
+                    assertEquals(scalar.firstInvalid(degrees, from, length), vector.firstInvalid(degrees, from, length),
+                            "Поиск недопустимого угла с индекса " + from);
+
+                    long[] expectedCounts = new long[AngleType.values().length];
+                    long[] actualCounts = new long[AngleType.values().length];
+                    scalar.countTypes(degrees, from, length, expectedCounts);
+                    vector.countTypes(degrees, from, length, actualCounts);
+                    assertArrayEquals(expectedCounts, actualCounts, "Подсчет типов с индекса " + from);
+
+                    try (Arena arena = Arena.ofConfined()) {
+                        MemorySegment segment = arena.allocate((long) length * Double.BYTES, Double.BYTES);
+                        MemorySegment.copy(MemorySegment.ofArray(degrees), 0, segment, 0, segment.byteSize());
+                        Arrays.fill(actualCounts, 0);
+                        vector.countTypes(segment, from, length, actualCounts);
+                        assertArrayEquals(expectedCounts, actualCounts, "Подсчет типов в сегменте с индекса " + from);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleMapTest {
+
+    // 1. **AngleToLongMap**: Подсчет и совпадение с HashMap
+    @Nested
+    class LongMapTests {
+
+        /**
+         * Тест на основные операции.
+         */
+        @Test
+        void testOperations() {
+            AngleToLongMap map = new AngleToLongMap();
+            assertEquals(0, map.put(45, 7), "Прежнего значения нет.");
+            assertEquals(7, map.put(45, 8), "Прежнее значение.");
+            assertEquals(3, map.addTo(-0.0, 3), "Прибавление к отсутствующему значению.");
+            assertEquals(-1, map.getOrDefault(0.0, -1), "0.0 и -0.0 - разные ключи.");
+            assertTrue(map.containsKey(-0.0), "Ключ -0.0 есть.");
+            assertTrue(map.remove(45), "Удаление существующего ключа.");
+            assertFalse(map.remove(45), "Повторное удаление.");
+            assertEquals(1, map.size(), "Размер отображения.");
+        }
+
+        /**
+         * Тест на совпадение с HashMap на случайных операциях.
+         */
+        @Test
+        void testMatchesHashMap() {
+            Random random = new Random(21);
+            AngleToLongMap map = new AngleToLongMap(1);
+            Map<Angle, Long> expected = new HashMap<>();
+            for (int i = 0; i < 100_000; i++) {
+                double degrees = random.nextInt(2001) * 0.36 - 360;
+                if (random.nextInt(4) == 0) {
+                    assertEquals(expected.remove(Angle.degrees(degrees)) != null, map.remove(degrees), "Удаление.");
+                } else {
+                    assertEquals((long) expected.merge(Angle.degrees(degrees), 1L, Long::sum), map.addTo(degrees, 1), "Подсчет.");
+                }
+            }
+            assertEquals(expected.size(), map.size(), "Размер.");
+            Map<Angle, Long> actual = new HashMap<>();
+            map.forEach((degrees, value) -> actual.put(Angle.degrees(degrees), value));
+            assertEquals(expected, actual, "Записи отображения.");
+        }
+    }
+
+    // 2. **AngleToObjectMap**: Группировка по углу
+    @Nested
+    class ObjectMapTests {
+
+        /**
+         * Тест на группировку значений по углу.
+         */
+        @Test
+        void testGrouping() {
+            AngleToObjectMap<List<String>> map = new AngleToObjectMap<>();
+            String[] names = {"a", "b", "c", "d", "e"};
+            double[] headings = {90, 180, 90, -0.0, 0.0};
+            for (int i = 0; i < names.length; i++) {
+                map.computeIfAbsent(headings[i], degrees -> new ArrayList<>()).add(names[i]);
+            }
+            assertEquals(List.of("a", "c"), map.get(90), "Группа 90 градусов.");
+            assertEquals(List.of("d"), map.get(-0.0), "Группа -0.0 отдельно от 0.0.");
+            assertEquals(4, map.size(), "Количество групп.");
+            assertEquals(List.of("b"), map.remove(180), "Удаленная группа.");
+            assertNull(map.get(180), "Группы больше нет.");
+            assertNull(map.get(Double.NaN), "NaN не может быть ключом.");
+            assertThrows(IllegalArgumentException.class, () -> map.put(10, null), "Значение null.");
+
+            List<String> all = new ArrayList<>();
+            map.forEach((group, degrees) -> all.addAll(group));
+            all.sort(null);
+            assertEquals(List.of("a", "c", "d", "e"), all, "Все значения.");
+        }
+
+        /**
+         * Тест на совпадение с HashMap при росте таблицы и удалениях.
+         */
+        @Test
+        void testMatchesHashMap() {
+            Random random = new Random(22);
+            AngleToObjectMap<Integer> map = new AngleToObjectMap<>(0);
+            Map<Angle, Integer> expected = new HashMap<>();
+            for (int i = 0; i < 100_000; i++) {
+                double degrees = random.nextInt(3001) * 0.24 - 360;
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(Angle.degrees(degrees)), map.remove(degrees), "Удаление.");
+                } else {
+                    assertEquals(expected.put(Angle.degrees(degrees), i), map.put(degrees, i), "Запись.");
+                }
+            }
+            for (Map.Entry<Angle, Integer> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), map.get(entry.getKey().getDegrees()), "Значение " + entry.getKey());
+            }
+            assertEquals(expected.size(), map.size(), "Размер.");
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package ru.groza1337;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleMetricsTest {
+
+    // 1. **Счетчики**: Созданные объекты, обращения к кэшу, отказы и типы углов
+    @Nested
+    class CounterTests {
+
+        /**
+         * Тест на учет созданных объектов и общих экземпляров из кэша.
+         */
+        @Test
+        void testCreated() {
+            AngleMetrics.Snapshot before = AngleMetrics.snapshot();
+            Angle.degrees(12.345);
+            Angle.degrees(90);
+            Angle.radians(0.5);
+            Angle.degrees(10.123).add(Angle.degrees(0.456));
+            AngleMetrics.Snapshot after = AngleMetrics.snapshot();
+            assertTrue(after.created(AngleMetrics.Operation.DEGREES) - before.created(AngleMetrics.Operation.DEGREES) >= 3,
+                    "Созданные фабрикой degrees объекты.");
+            assertTrue(after.cacheHits(AngleMetrics.Operation.DEGREES) - before.cacheHits(AngleMetrics.Operation.DEGREES) >= 1,
+                    "Прямой угол выдается из кэша.");
+            assertTrue(after.created(AngleMetrics.Operation.RADIANS) > before.created(AngleMetrics.Operation.RADIANS),
+                    "Созданные фабрикой radians объекты.");
+            assertTrue(after.created(AngleMetrics.Operation.ARITHMETIC) > before.created(AngleMetrics.Operation.ARITHMETIC),
+                    "Созданные сложением объекты.");
+            assertTrue(after.totalCreated() - before.totalCreated() >= 5, "Общее количество объектов.");
+        }
+
+        /**
+         * Тест на учет отказов проверки диапазона по операциям.
+         */
+        @ParameterizedTest(name = "Операция {0}")
+        @CsvSource({"DEGREES", "RADIANS", "TRY_DEGREES", "TRY_RADIANS", "ARITHMETIC"})
+        void testFailures(AngleMetrics.Operation operation) {
+            AngleMetrics.Snapshot before = AngleMetrics.snapshot();
+            switch (operation) {
+                case DEGREES -> assertThrows(IllegalArgumentException.class, () -> Angle.degrees(400));
+                case RADIANS -> assertThrows(IllegalArgumentException.class, () -> Angle.radians(7));
+                case TRY_DEGREES -> assertNull(Angle.tryDegrees(-400), "Угол вне диапазона.");
+                case TRY_RADIANS -> assertNull(Angle.tryRadians(-7), "Угол вне диапазона.");
+                case ARITHMETIC -> assertThrows(IllegalArgumentException.class,
+                        () -> Angle.degrees(300).add(Angle.degrees(300)));
+            }
+            AngleMetrics.Snapshot after = AngleMetrics.snapshot();
+            assertTrue(after.failures(operation) > before.failures(operation), "Отказ операции " + operation);
+            assertTrue(after.totalFailures() > before.totalFailures(), "Общее количество отказов.");
+        }
+
+        /**
+         * Тест на учет определения типа угла.
+         */
+        @ParameterizedTest(name = "Угол {0} градусов")
+        @CsvSource({"45, ACUTE", "90, RIGHT", "120, OBTUSE", "180, STRAIGHT", "270, REFLEX", "360, FULL"})
+        void testClassified(double degrees, AngleType type) {
+            Angle angle = Angle.degrees(degrees);
+            AngleMetrics.setClassificationCounting(true);
+            try {
+                AngleMetrics.Snapshot before = AngleMetrics.snapshot();
+                assertEquals(type, angle.determineAngleType(), "Тип угла.");
+                AngleMetrics.Snapshot after = AngleMetrics.snapshot();
+                assertTrue(after.classified(type) > before.classified(type), "Определение типа " + type);
+            } finally {
+                AngleMetrics.setClassificationCounting(false);
+            }
+        }
+
+        /**
+         * Тест на выключенный по умолчанию подсчет определений типа угла.
+         */
+        @Test
+        void testClassificationCountingDisabled() {
+            assertFalse(AngleMetrics.isClassificationCounting(), "Подсчет определений типа выключен по умолчанию.");
+            Angle angle = Angle.degrees(45);
+            AngleMetrics.Snapshot before = AngleMetrics.snapshot();
+            assertEquals(AngleType.ACUTE, angle.determineAngleType(), "Тип угла.");
+            AngleMetrics.Snapshot after = AngleMetrics.snapshot();
+            assertEquals(before.classified(AngleType.ACUTE), after.classified(AngleType.ACUTE),
+                    "Выключенный подсчет не изменяет счетчик.");
+        }
+
+        /**
+         * Тест на точность счетчиков при одновременной работе многих виртуальных потоков.
+         */
+        @Test
+        void testConcurrent() {
+            AngleMetrics.setClassificationCounting(true);
+            AngleMetrics.Snapshot before = AngleMetrics.snapshot();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int task = 0; task < 200; task++) {
+                    executor.execute(() -> {
+                        for (int i = 0; i < 1000; i++) {
+                            Angle.degrees(12.345).determineAngleType();
+                        }
+                    });
+                }
+            } finally {
+                AngleMetrics.setClassificationCounting(false);
+            }
+            AngleMetrics.Snapshot after = AngleMetrics.snapshot();
+            assertEquals(200_000, after.created(AngleMetrics.Operation.DEGREES) - before.created(AngleMetrics.Operation.DEGREES),
+                    "Увеличения счетчика не должны теряться.");
+            assertEquals(200_000, after.classified(AngleType.ACUTE) - before.classified(AngleType.ACUTE),
+                    "Определения типа не должны теряться.");
+        }
+
+        /**
+         * Тест на строковое представление среза.
+         */
+        @Test
+        void testToString() {
+            String text = AngleMetrics.snapshot().toString();
+            assertTrue(text.startsWith("created={DEGREES="), text);
+            assertTrue(text.contains("classified={"), text);
+        }
+    }
+
+    // 2. **JMX**: Чтение счетчиков через платформенный сервер
+    @Nested
+    class JmxTests {
+
+        /**
+         * Тест на регистрацию и чтение атрибутов.
+         */
+        @Test
+        void testAttributes() throws Exception {
+            ObjectName name = AngleMetrics.register();
+            assertEquals(name, AngleMetrics.register(), "Повторная регистрация не выполняется.");
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertTrue(server.isRegistered(new ObjectName(AngleMetrics.OBJECT_NAME)), "Объект зарегистрирован.");
+
+            Angle.degrees(33.3);
+            Angle.tryDegrees(1000);
+            long created = (Long) server.getAttribute(name, "Created");
+            long failures = (Long) server.getAttribute(name, "Failures");
+            assertTrue(created >= 1, "Атрибут Created.");
+            assertTrue(failures >= 1, "Атрибут Failures.");
+
+            TabularData byOperation = (TabularData) server.getAttribute(name, "FailuresByOperation");
+            CompositeData row = byOperation.get(new Object[]{AngleMetrics.Operation.TRY_DEGREES.name()});
+            assertNotNull(row, "Строка операции TRY_DEGREES.");
+            assertTrue((Long) row.get("value") >= 1, "Отказы tryDegrees.");
+            TabularData classifications = (TabularData) server.getAttribute(name, "Classifications");
+            assertEquals(AngleType.values().length, classifications.size(), "Строка для каждого типа угла.");
+        }
+    }
+
+    // 3. **JFR**: События отказа проверки и форматирования
+    @Nested
+    class FlightRecorderTests {
+
+        @TempDir
+        Path directory;
+
+        /**
+         * Тест на запись событий во время записи JFR.
+         */
+        @Test
+        void testEvents() throws IOException {
+            Path file = directory.resolve("angles.jfr");
+            try (Recording recording = new Recording()) {
+                recording.enable("ru.groza1337.AngleValidationFailure");
+                recording.enable("ru.groza1337.AngleFormat").withThreshold(Duration.ZERO);
+                recording.start();
+                Angle.tryDegrees(725.5);
+                assertThrows(IllegalArgumentException.class, () -> Angle.radians(-10));
+                Angle.degrees(12.5).toString();
+                Angle.degrees(12.5).toStringInRadians();
+                recording.stop();
+                recording.dump(file);
+            }
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            List<RecordedEvent> failures = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("ru.groza1337.AngleValidationFailure")).toList();
+            List<RecordedEvent> formats = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("ru.groza1337.AngleFormat")).toList();
+
+            assertEquals(2, failures.size(), "События отказа проверки.");
+            assertEquals("TRY_DEGREES", failures.get(0).getString("operation"), "Операция отказа.");
+            assertEquals(725.5, failures.get(0).getDouble("degrees"), "Значение отказа.");
+            assertEquals("RADIANS", failures.get(1).getString("operation"), "Операция отказа.");
+            assertNotNull(failures.get(0).getStackTrace(), "Стек вызова отказа.");
+
+            assertEquals(2, formats.size(), "События форматирования.");
+            assertEquals("DEGREES", formats.get(0).getString("unit"), "Единица строки.");
+            assertEquals("RADIANS", formats.get(1).getString("unit"), "Единица строки.");
+            assertEquals(AngleFormatter.DEFAULT_DECIMALS, formats.get(0).getInt("decimals"), "Знаки после запятой.");
+        }
+    }
+}
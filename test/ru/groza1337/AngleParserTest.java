@@ -0,0 +1,155 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleParserTest {
+
+    /**
+     * Получатель, сохраняющий углы и ошибки для проверки.
+     */
+    private static final class Collector implements AngleParser.Handler {
+
+        final List<Double> angles = new ArrayList<>();
+
+        final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void onAngle(double degrees) {
+            angles.add(degrees);
+        }
+
+        @Override
+        public void onError(AngleParser.ParseError error, int line, int offset) {
+            errors.add(error + "@" + line + ":" + offset);
+        }
+    }
+
+    // 1. **Формат проекта**: Разбор строк, которые выдают toString и toStringInRadians
+    @Nested
+    class OwnFormatTests {
+
+        /**
+         * Тест на разбор вывода toString и toStringInRadians.
+         */
+        @ParameterizedTest(name = "Разбор угла {0} градусов")
+        @CsvSource({
+                "0",
+                "45",
+                "-180",
+                "359.99",
+                "-360"
+        })
+        void testRoundTrip(double degrees) {
+            Angle angle = Angle.degrees(degrees);
+            Collector collector = new Collector();
+            AngleParser parser = new AngleParser();
+            parser.parse(angle.toString() + "\n" + angle.toStringInRadians(), collector);
+            assertEquals(2, collector.angles.size(), "Должны быть разобраны оба значения.");
+            assertEquals(degrees, collector.angles.get(0), 0.005, "Значение в градусах.");
+            assertEquals(degrees, collector.angles.get(1), 0.5, "Значение в радианах с двумя знаками.");
+        }
+
+        /**
+         * Тест на CSV с числами без единицы измерения.
+         */
+        @Test
+        void testCsv() {
+            Collector collector = new Collector();
+            int count = new AngleParser().parse("1.5,2;3\r\n  -4 , 5e1\n\n,", collector);
+            assertEquals(5, count, "Должны быть разобраны все значения.");
+            assertEquals(List.of(1.5, 2.0, 3.0, -4.0, 50.0), collector.angles, "Значения CSV.");
+            assertTrue(collector.errors.isEmpty(), "Пустые значения не являются ошибками.");
+        }
+
+        /**
+         * Тест на единицу измерения по умолчанию.
+         */
+        @Test
+        void testDefaultUnit() {
+            Collector collector = new Collector();
+            new AngleParser(AngleUnit.RADIANS).parse("3.141592653589793, 90 deg", collector);
+            assertEquals(Angle.radians(Math.PI).getDegrees(), collector.angles.get(0), "Число без единицы - радианы.");
+            assertEquals(90, collector.angles.get(1), "Явная единица измерения важнее единицы по умолчанию.");
+        }
+    }
+
+    // 2. **Ошибки**: Ошибки передаются получателю с номером строки и смещением
+    @Nested
+    class ErrorTests {
+
+        /**
+         * Тест на разные виды ошибок.
+         */
+        @Test
+        void testErrors() {
+            Collector collector = new Collector();
+            String input = "10\nabc\n400 degrees\n12 furlongs\n7.5x\n1e\n20";
+            int count = new AngleParser().parse(input, collector);
+            assertEquals(2, count, "Допустимыми являются только первое и последнее значения.");
+            assertEquals(List.of(10.0, 20.0), collector.angles, "Допустимые значения.");
+            assertEquals(List.of(
+                    "MALFORMED_NUMBER@2:3",
+                    "OUT_OF_RANGE@3:7",
+                    "UNKNOWN_UNIT@4:19",
+                    "MALFORMED_NUMBER@5:31",
+                    "MALFORMED_NUMBER@6:36"
+            ), collector.errors, "Ошибки с номерами строк и смещениями.");
+        }
+    }
+
+    // 3. **Источники и точность**: Разбор из буферов и совпадение с Double.parseDouble
+    @Nested
+    class SourceTests {
+
+        /**
+         * Тест на разбор из CharBuffer и ByteBuffer в UTF-8.
+         */
+        @Test
+        void testBuffers() {
+            String text = "45.00 degrees\n0.79 radians\n";
+            Collector chars = new Collector();
+            new AngleParser().parse(CharBuffer.wrap(text), chars);
+
+            ByteBuffer bytes = ByteBuffer.wrap(("ignored " + text).getBytes(StandardCharsets.UTF_8));
+            bytes.position(8);
+            Collector utf8 = new Collector();
+            new AngleParser().parse(bytes, utf8);
+
+            assertEquals(chars.angles, utf8.angles, "Результаты разбора из разных буферов должны совпадать.");
+            assertEquals(bytes.limit(), bytes.position(), "Буфер должен быть прочитан до конца.");
+        }
+
+        /**
+         * Тест на совпадение чисел с Double.parseDouble.
+         */
+        @Test
+        void testMatchesParseDouble() {
+            Random random = new Random(11);
+            AngleParser parser = new AngleParser();
+            double[] result = new double[1];
+            for (int i = 0; i < 50_000; i++) {
+                String text = switch (i % 4) {
+                    case 0 -> Double.toString(random.nextDouble() * 720 - 360);
+                    case 1 -> String.format(Locale.US, "%.2f", random.nextDouble() * 720 - 360);
+                    case 2 -> Integer.toString(random.nextInt(721) - 360);
+                    default -> String.format(Locale.US, "%.17f", random.nextDouble() * 720 - 360);
+                };
+                parser.parse(text, degrees -> result[0] = degrees);
+                assertEquals(Double.parseDouble(text), result[0], "Разбор числа " + text);
+            }
+        }
+    }
+}
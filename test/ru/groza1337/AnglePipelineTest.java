@@ -0,0 +1,173 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnglePipelineTest {
+
+    // 1. **Этапы**: Разбор, проверка, приведение, подсчет типов и итоги
+    @Nested
+    class StageTests {
+
+        /**
+         * Тест на обработку текста.
+         */
+        @Test
+        void testText() {
+            AnglePipeline pipeline = new AnglePipeline();
+            try (pipeline) {
+                pipeline.submit("45, 90\n-90 degrees\n3.14159 radians\n");
+                pipeline.submit("abc; 400; 360\n180");
+            }
+            AnglePipeline.Summary summary = pipeline.result().join();
+            assertEquals(6, summary.accepted(), "Количество принятых углов.");
+            assertEquals(1, summary.rejected(), "Угол 400 вне диапазона.");
+            assertEquals(1, summary.malformed(), "Значение abc не разобрано.");
+            assertEquals(1, summary.count(AngleType.ACUTE), "Острые углы.");
+            assertEquals(1, summary.count(AngleType.RIGHT), "Прямые углы.");
+            assertEquals(1, summary.count(AngleType.OBTUSE), "Тупые углы: 3.14159 радиан.");
+            assertEquals(1, summary.count(AngleType.STRAIGHT), "Развернутые углы.");
+            assertEquals(1, summary.count(AngleType.REFLEX), "Рефлексные углы: -90 градусов.");
+            assertEquals(1, summary.count(AngleType.FULL), "Полный угол сохраняет тип после приведения.");
+            assertEquals(2, summary.batches(), "Количество пакетов.");
+        }
+
+        /**
+         * Тест на пакеты значений в радианах и градусах с приведением или без него и удалением значений вне диапазона.
+         */
+        @ParameterizedTest(name = "Приведение {0}")
+        @CsvSource({"true, 315 0 10 270", "false, -45 -0.0 10 -90"})
+        void testValues(boolean normalize, String expected) {
+            List<Double> seen = Collections.synchronizedList(new ArrayList<>());
+            AnglePipeline pipeline = new AnglePipeline(AngleUnit.DEGREES, null, Flow.defaultBufferSize(), normalize);
+            pipeline.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(AnglePipeline.Batch batch) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        seen.add(batch.getDegrees(i));
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            try (pipeline) {
+                pipeline.submit(new double[]{-45, 500, -0.0, 10, 99}, 4, AngleUnit.DEGREES);
+                pipeline.submit(new double[]{-Math.PI / 2, 7}, 2, AngleUnit.RADIANS);
+            }
+            AnglePipeline.Summary summary = pipeline.result().join();
+            assertEquals(Arrays.stream(expected.split(" ")).map(Double::valueOf).toList(), seen,
+                    "Значения вне диапазона удаляются, остальные приводятся к [0, 360] только с приведением.");
+            assertEquals(2, summary.count(AngleType.REFLEX), "Тип угла не зависит от приведения: -45 и -90 градусов.");
+            assertEquals(2, summary.count(AngleType.ACUTE), "Тип угла не зависит от приведения: 0 и 10 градусов.");
+            assertEquals(2, summary.rejected(), "Значения 500 градусов и 7 радиан вне диапазона.");
+            assertEquals(4, pipeline.values(AnglePipeline.Stage.AGGREGATE), "Значения на последнем этапе.");
+            assertEquals(6, pipeline.values(AnglePipeline.Stage.PARSE), "Значения до проверки.");
+            assertEquals(2, pipeline.batches(AnglePipeline.Stage.CLASSIFY), "Пакеты на этапе подсчета типов.");
+        }
+
+        /**
+         * Тест на круговую статистику итогов.
+         */
+        @Test
+        void testStats() {
+            AnglePipeline pipeline = new AnglePipeline();
+            try (pipeline) {
+                pipeline.submit("350\n10\n");
+            }
+            AngleStats stats = pipeline.result().join().stats();
+            assertEquals(0, Math.min(stats.getMeanDegrees(), 360 - stats.getMeanDegrees()), 1e-9,
+                    "Среднее 350 и 10 градусов - 0 градусов.");
+        }
+    }
+
+    // 2. **Обратное давление**: Ограниченный буфер и отбрасывание пакетов
+    @Nested
+    class BackpressureTests {
+
+        /**
+         * Тест на отбрасывание пакетов, когда медленный получатель заполняет конвейер.
+         */
+        @Test
+        void testOffer() {
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            AnglePipeline pipeline = new AnglePipeline(AngleUnit.DEGREES, executor, 1);
+            Flow.Subscription[] slow = new Flow.Subscription[1];
+            pipeline.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    slow[0] = subscription;  // ничего не запрашивает, пока тест не разрешит
+                }
+
+                @Override
+                public void onNext(AnglePipeline.Batch batch) {
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            int accepted = 0;
+            int dropped = 0;
+            for (int i = 0; i < 100; i++) {
+                if (pipeline.offer("1, 2, 3", 10, TimeUnit.MILLISECONDS)) {
+                    accepted++;
+                } else {
+                    dropped++;
+                }
+            }
+            assertTrue(dropped > 0, "Заполненный конвейер должен отбрасывать пакеты.");
+            assertTrue(accepted <= 16, "Конвейер принимает не больше пакетов, чем помещается в буферы этапов.");
+            slow[0].request(Long.MAX_VALUE);
+            pipeline.close();
+            AnglePipeline.Summary summary = pipeline.result().join();
+            assertEquals(dropped, summary.dropped(), "Отброшенные пакеты учитываются в итогах.");
+            assertEquals(accepted * 3L, summary.accepted(), "Все принятые пакеты проходят конвейер.");
+            executor.close();
+        }
+
+        /**
+         * Тест на неверную емкость и передачу после закрытия.
+         */
+        @Test
+        void testErrors() {
+            assertThrows(IllegalArgumentException.class, () -> new AnglePipeline(AngleUnit.DEGREES, null, 0),
+                    "Емкость должна быть положительной.");
+            AnglePipeline pipeline = new AnglePipeline();
+            pipeline.close();
+            assertThrows(IllegalStateException.class, () -> pipeline.submit("1"),
+                    "После закрытия данные не принимаются.");
+            try (AnglePipeline open = new AnglePipeline()) {
+                assertThrows(IndexOutOfBoundsException.class, () -> open.submit(new double[1], 2, AngleUnit.DEGREES),
+                        "Размер пакета больше массива.");
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleSetTest {
+
+    // 1. **Равенство**: Совпадение с Angle.equals
+    @Nested
+    class EqualityTests {
+
+        /**
+         * Тест на то, что 0.0 и -0.0, а также -360 и 360 - разные элементы, как в Angle.equals.
+         */
+        @Test
+        void testSignedZero() {
+            AngleSet set = new AngleSet();
+            assertTrue(set.add(0.0), "0.0 добавляется.");
+            assertTrue(set.add(Angle.degrees(-0.0)), "-0.0 - другой угол.");
+            assertTrue(set.add(360), "360 добавляется.");
+            assertTrue(set.add(-360), "-360 - другой угол.");
+            assertFalse(set.add(Angle.ZERO_Angle), "0.0 уже есть.");
+            assertEquals(4, set.size(), "Размер множества.");
+            assertNotEquals(Angle.degrees(0.0), Angle.degrees(-0.0), "Angle.equals тоже различает 0.0 и -0.0.");
+        }
+
+        /**
+         * Тест на значения вне диапазона.
+         */
+        @Test
+        void testOutOfRange() {
+            AngleSet set = new AngleSet();
+            assertThrows(IllegalArgumentException.class, () -> set.add(Double.NaN), "NaN не может быть элементом.");
+            assertThrows(IllegalArgumentException.class, () -> set.add(361), "Угол вне диапазона.");
+            assertFalse(set.contains(Double.NaN), "NaN не содержится в множестве.");
+            assertFalse(set.remove(400), "Угол вне диапазона не удаляется.");
+        }
+    }
+
+    // 2. **Операции**: Совпадение с HashSet при добавлении и удалении
+    @Nested
+    class OperationTests {
+
+        /**
+         * Тест на случайную последовательность операций с проверкой по HashSet.
+         */
+        @Test
+        void testMatchesHashSet() {
+            Random random = new Random(21);
+            AngleSet set = new AngleSet(4);
+            Set<Angle> expected = new HashSet<>();
+            for (int i = 0; i < 200_000; i++) {
+                // небольшой набор значений дает много повторов и удалений из середины цепочек
+                double degrees = random.nextInt(4001) * 0.18 - 360;
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(Angle.degrees(degrees)), set.remove(degrees), "Удаление " + degrees);
+                } else {
+                    assertEquals(expected.add(Angle.degrees(degrees)), set.add(degrees), "Добавление " + degrees);
+                }
+                assertEquals(expected.size(), set.size(), "Размер после операции " + i);
+            }
+            for (Angle angle : expected) {
+                assertTrue(set.contains(angle), "Множество должно содержать " + angle);
+            }
+            double[] actual = set.toArray();
+            double[] sorted = expected.stream().mapToDouble(Angle::getDegrees).sorted().toArray();
+            Arrays.sort(actual);
+            assertArrayEquals(sorted, actual, "Элементы множества.");
+
+            set.clear();
+            assertTrue(set.isEmpty(), "После очистки множество пусто.");
+            assertFalse(set.contains(sorted[0]), "После очистки элементов нет.");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleStatsAccumulatorTest {
+
+    /**
+     * Собирает статистику по углам в градусах.
+     */
+    private static AngleStats statsOf(double... degrees) {
+        AngleStatsAccumulator accumulator = new AngleStatsAccumulator();
+        Arrays.stream(degrees).forEach(accumulator);
+        return accumulator.toStats();
+    }
+
+    // 1. **Круговое среднее**: Проверка среднего направления и длины среднего вектора
+    @Nested
+    class MeanTests {
+
+        /**
+         * Тест на среднее направление, в том числе через границу 0/360 и ±180.
+         */
+        @ParameterizedTest(name = "Среднее {0} и {1} равно {2}")
+        @CsvSource({
+                "350, 10, 0",
+                "-170, 170, 180",
+                "30, 60, 45",
+                "-360, 360, 0",
+                "-90, 270, -90"
+        })
+        void testMean(double first, double second, double expected) {
+            AngleStats stats = statsOf(first, second);
+            assertEquals(expected, stats.getMeanDegrees(), 1e-9, "Круговое среднее.");
+            assertEquals(2, stats.getCount(), "Количество углов.");
+        }
+
+        /**
+         * Тест на длину среднего вектора и круговую дисперсию.
+         */
+        @Test
+        void testResultantLength() {
+            AngleStats same = statsOf(42, 42, 42);
+            assertEquals(1, same.getResultantLength(), 1e-12, "Совпадающие углы дают R = 1.");
+            assertEquals(0, same.getVariance(), 1e-12, "Совпадающие углы дают нулевую дисперсию.");
+
+            AngleStats opposite = statsOf(0, 90, 180, 270);
+            assertEquals(0, opposite.getResultantLength(), 1e-12, "Уравновешенные углы дают R = 0.");
+            assertTrue(Double.isNaN(opposite.getMeanDegrees()), "Среднее уравновешенных углов не определено.");
+            assertNull(opposite.getMean(), "Неопределенное среднее - null.");
+        }
+
+        /**
+         * Тест на пустой накопитель.
+         */
+        @Test
+        void testEmpty() {
+            AngleStats stats = new AngleStatsAccumulator().toStats();
+            assertEquals(0, stats.getCount(), "Пустой накопитель.");
+            assertTrue(Double.isNaN(stats.getResultantLength()), "R пустого набора не определена.");
+            assertTrue(Double.isNaN(stats.getMinDegrees()), "Наименьший угол пустого набора не определен.");
+        }
+    }
+
+    // 2. **Наименьший и наибольший угол**: Приведение к [0, 360)
+    @Nested
+    class MinMaxTests {
+
+        /**
+         * Тест на наименьший и наибольший угол после приведения.
+         */
+        @Test
+        void testMinMax() {
+            AngleStats stats = statsOf(-90, 10, 360, -0.0, 200);
+            assertEquals(0, stats.getMinDegrees(), "360 и -0.0 приводятся к 0.");
+            assertEquals(270, stats.getMaxDegrees(), "-90 приводится к 270.");
+        }
+
+        /**
+         * Тест на то, что наименьший и наибольший угол линейные и не зависят от среднего направления.
+         */
+        @Test
+        void testLinearAcrossZero() {
+            AngleStats stats = statsOf(350, 355, 5, 10);
+            assertEquals(0, stats.getMeanDegrees(), 1e-9, "Среднее направление - 0 градусов.");
+            assertEquals(5, stats.getMinDegrees(), "Линейно наименьший угол.");
+            assertEquals(355, stats.getMaxDegrees(), "Линейно наибольший угол.");
+        }
+
+        /**
+         * Тест на угол вне диапазона.
+         */
+        @Test
+        void testOutOfRange() {
+            assertThrows(IllegalArgumentException.class, () -> new AngleStatsAccumulator().accept(400.0),
+                    "Угол вне диапазона должен вызывать исключение.");
+        }
+    }
+
+    // 3. **Объединение**: Параллельный коллектор и объединение частичных результатов
+    @Nested
+    class CombineTests {
+
+        /**
+         * Тест на совпадение последовательного, параллельного и частичного сбора.
+         */
+        @Test
+        void testCombine() {
+            Random random = new Random(16);
+            double[] degrees = new double[100_000];
+            for (int i = 0; i < degrees.length; i++) {
+                degrees[i] = 100 + random.nextGaussian() * 30;
+            }
+            AngleStats sequential = statsOf(degrees);
+            AngleStats parallel = Arrays.stream(degrees).parallel().mapToObj(Angle::degrees)
+                    .collect(AngleStatsAccumulator.collector());
+
+            AngleStatsAccumulator first = new AngleStatsAccumulator();
+            AngleStatsAccumulator second = new AngleStatsAccumulator();
+            IntStream.range(0, degrees.length).forEach(i -> (i < 1234 ? first : second).accept(degrees[i]));
+            AngleStats sharded = first.combine(second).toStats();
+
+            for (AngleStats stats : new AngleStats[]{parallel, sharded}) {
+                assertEquals(sequential.getCount(), stats.getCount(), "Количество углов.");
+                assertEquals(sequential.getMeanDegrees(), stats.getMeanDegrees(), 1e-9, "Среднее.");
+                assertEquals(sequential.getResultantLength(), stats.getResultantLength(), 1e-12, "Длина вектора.");
+                assertEquals(sequential.getMinDegrees(), stats.getMinDegrees(), "Наименьший угол.");
+                assertEquals(sequential.getMaxDegrees(), stats.getMaxDegrees(), "Наибольший угол.");
+            }
+            assertEquals(100, sequential.getMeanDegrees(), 1, "Среднее нормального распределения около 100.");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleStreamsTest {
+
+    /**
+     * Создает случайные углы в градусах.
+     */
+    private static double[] randomDegrees(int length, long seed) {
+        Random random = new Random(seed);
+        double[] degrees = new double[length];
+        for (int i = 0; i < length; i++) {
+            degrees[i] = random.nextDouble() * 720 - 360;
+        }
+        return degrees;
+    }
+
+    // 1. **Потоки**: Представления массива и буфера в виде потоков
+    @Nested
+    class StreamTests {
+
+        /**
+         * Тест на характеристики и деление разделителя.
+         */
+        @Test
+        void testSpliterator() {
+            Spliterator.OfDouble spliterator = AngleStreams.spliterator(AngleArray.degrees(randomDegrees(1001, 1)));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED),
+                    "Разделитель должен знать точный размер.");
+            Spliterator.OfDouble prefix = spliterator.trySplit();
+            assertNotNull(prefix, "Разделитель должен делиться.");
+            assertEquals(500, prefix.getExactSizeIfKnown(), "Размер первой половины.");
+            assertEquals(501, spliterator.getExactSizeIfKnown(), "Размер второй половины.");
+        }
+
+        /**
+         * Тест на совпадение потоков с исходными значениями.
+         */
+        @Test
+        void testStreams() {
+            double[] degrees = randomDegrees(10_000, 2);
+            AngleArray array = AngleArray.degrees(degrees);
+            assertArrayEquals(degrees, AngleStreams.stream(array, true).toArray(), "Поток массива углов.");
+            try (OffHeapAngleBuffer buffer = OffHeapAngleBuffer.copyOf(degrees)) {
+                assertArrayEquals(degrees, AngleStreams.stream(buffer, true).toArray(), "Поток буфера углов.");
+                assertEquals(degrees.length, AngleStreams.stream(buffer, false).count(), "Количество значений.");
+            }
+        }
+    }
+
+    // 2. **Суммирование**: Точность и независимость от параллельности
+    @Nested
+    class SumTests {
+
+        /**
+         * Тест на побитовое совпадение последовательной и параллельной суммы.
+         */
+        @Test
+        void testParallelMatchesSequential() {
+            double[] degrees = randomDegrees(1_000_003, 3);
+            double sequential = AngleStreams.sumDegrees(degrees, false);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(Double.doubleToRawLongBits(sequential),
+                        Double.doubleToRawLongBits(AngleStreams.sumDegrees(degrees, true)),
+                        "Параллельная сумма должна совпадать с последовательной до бита.");
+            }
+            AngleArray array = AngleArray.degrees(degrees);
+            assertEquals(AngleStreams.sum(array, false), AngleStreams.sum(array, true), "Сумма массива углов.");
+        }
+
+        /**
+         * Тест на точность суммы по сравнению с точной суммой BigDecimal.
+         */
+        @Test
+        void testAccuracy() {
+            double[] degrees = randomDegrees(100_000, 4);
+            BigDecimal exact = BigDecimal.ZERO;
+            double naive = 0;
+            for (double value : degrees) {
+                exact = exact.add(new BigDecimal(value));
+                naive += value;
+            }
+            double compensated = AngleStreams.sumDegrees(degrees, true);
+            assertEquals(exact.doubleValue(), compensated, Math.ulp(compensated),
+                    "Компенсированная сумма должна быть точной до последнего разряда.");
+            assertTrue(Math.abs(exact.doubleValue() - compensated) <= Math.abs(exact.doubleValue() - naive),
+                    "Компенсированная сумма не должна быть хуже простой.");
+        }
+
+        /**
+         * Тест на приведение суммы в диапазон без исключений.
+         */
+        @Test
+        void testNormalized() {
+            Angle[] angles = {Angle.degrees(300), Angle.degrees(300), Angle.degrees(-50), Angle.degrees(10)};
+            assertEquals(200, AngleStreams.sum(angles, false).getDegrees(), 1e-12, "560 градусов приводятся к 200.");
+            assertEquals(Angle.ZERO_Angle, AngleStreams.sum(new double[0], true), "Сумма пустого набора равна нулю.");
+            try (OffHeapAngleBuffer buffer = OffHeapAngleBuffer.copyOf(new double[]{-300, -300})) {
+                assertEquals(-240, AngleStreams.sum(buffer, true).getDegrees(), "-600 градусов приводятся к -240.");
+            }
+        }
+
+        /**
+         * Тест на свертку потоков углов.
+         */
+        @Test
+        void testReduce() {
+            double[] degrees = randomDegrees(100_003, 5);
+            Angle expected = AngleStreams.sum(degrees, false);
+            assertEquals(expected, AngleStreams.sum(DoubleStream.of(degrees)), "Свертка последовательного потока.");
+            assertEquals(expected, AngleStreams.sum(DoubleStream.of(degrees).parallel()), "Свертка параллельного потока.");
+            AngleArray array = AngleArray.degrees(degrees);
+            assertEquals(expected, AngleStreams.stream(array, false).mapToObj(Angle::degrees)
+                    .collect(AngleStreams.summing()), "Собиратель последовательного потока.");
+            for (int i = 0; i < 5; i++) {
+                assertEquals(expected, AngleStreams.stream(array, true).mapToObj(Angle::degrees)
+                        .collect(AngleStreams.summing()),
+                        "Собиратель параллельного потока должен совпадать с последовательным до бита.");
+            }
+            assertEquals(200, Stream.of(Angle.degrees(300), Angle.degrees(300), Angle.degrees(-40))
+                    .collect(AngleStreams.summing()).getDegrees(), 1e-12, "560 градусов приводятся к 200.");
+            assertEquals(Angle.ZERO_Angle, Stream.<Angle>empty().collect(AngleStreams.summing()),
+                    "Сумма пустого потока равна нулю.");
+        }
+    }
+}
@@ -705,4 +705,172 @@ public class AngleTest {
         }
     }
 
+    // 13. **Кэш экземпляров**: Проверка общих экземпляров для частых значений
+    @Nested
+    class CacheTests {
+
+        /**
+         * Тест на то, что целые и частые дробные значения возвращают один и тот же экземпляр.
+         */
+        @ParameterizedTest(name = "Общий экземпляр для {0} градусов")
+        @CsvSource({
+                "0",
+                "90",
+                "-360",
+                "360",
+                "0.5",
+                "-0.25",
+                "359.75"
+        })
+        void testCachedInstances(double degrees) {
+            assertSame(Angle.degrees(degrees), Angle.degrees(degrees),
+                    "Для частых значений должен возвращаться общий экземпляр.");
+        }
+
+        /**
+         * Тест на то, что остальные значения создаются заново и остаются равными.
+         */
+        @Test
+        void testUncachedInstances() {
+            Angle first = Angle.degrees(12.345);
+            Angle second = Angle.degrees(12.345);
+            assertNotSame(first, second, "Редкие значения не должны кэшироваться.");
+            assertEquals(first, second, "Углы с одинаковым значением должны быть равны.");
+        }
+
+        /**
+         * Тест на то, что -0.0 не подменяется общим экземпляром 0.0.
+         */
+        @Test
+        void testNegativeZeroIsNotCached() {
+            Angle negativeZero = Angle.degrees(-0.0);
+            assertNotSame(Angle.ZERO_Angle, negativeZero, "-0.0 не должен совпадать с экземпляром 0.0.");
+            assertEquals(-0.0, negativeZero.getDegrees(), "Значение -0.0 должно сохраняться.");
+        }
+
+        /**
+         * Тест на то, что предопределенные углы совпадают с кэшированными экземплярами.
+         */
+        @Test
+        void testPredefinedAngles() {
+            assertSame(Angle.ZERO_Angle, Angle.degrees(0), "ZERO_Angle должен быть общим экземпляром.");
+            assertSame(Angle.P_Angle, Angle.degrees(180), "P_Angle должен быть общим экземпляром.");
+            assertSame(Angle.degrees(120), Angle.degrees(90).add(Angle.degrees(30)),
+                    "Результат сложения должен использовать кэш.");
+        }
+    }
+
+    // 14. **Способы арифметики**: Проверка переноса и насыщения при выходе за диапазон
+    @Nested
+    class ArithmeticModeTests {
+
+        /**
+         * Тест на сложение с переносом и насыщением.
+         */
+        @ParameterizedTest(name = "{0} + {1}: перенос {2}, насыщение {3}")
+        @CsvSource({
+                "300, 100, 40, 360",
+                "-300, -100, -40, -360",
+                "100, 50, 150, 150",
+                "360, 360, 0, 360"
+        })
+        void testAdd(double first, double second, double wrapped, double saturated) {
+            Angle a = Angle.degrees(first);
+            Angle b = Angle.degrees(second);
+            assertEquals(wrapped, a.add(b, AngleArithmetic.WRAP).getDegrees(), "Перенос по модулю 360.");
+            assertEquals(saturated, a.add(b, AngleArithmetic.SATURATE).getDegrees(), "Насыщение до границы.");
+            assertEquals(wrapped, a.addRadians(b.getRadians(), AngleArithmetic.WRAP).getDegrees(), 1e-9,
+                    "Перенос при сложении с радианами.");
+        }
+
+        /**
+         * Тест на вычитание с переносом и насыщением.
+         */
+        @Test
+        void testSubtract() {
+            Angle a = Angle.degrees(-300);
+            Angle b = Angle.degrees(100);
+            assertEquals(-40, a.subtract(b, AngleArithmetic.WRAP).getDegrees(), "Перенос при вычитании.");
+            assertEquals(-360, a.subtract(b, AngleArithmetic.SATURATE).getDegrees(), "Насыщение при вычитании.");
+            assertEquals(-360, a.subtractRadians(Math.PI, AngleArithmetic.SATURATE).getDegrees(),
+                    "Насыщение при вычитании радианов.");
+        }
+
+        /**
+         * Тест на то, что способ THROW сохраняет прежнее поведение.
+         */
+        @Test
+        void testThrow() {
+            Angle a = Angle.degrees(300);
+            assertThrows(IllegalArgumentException.class, () -> a.add(Angle.degrees(100), AngleArithmetic.THROW),
+                    "Способ THROW должен выбрасывать исключение, как add.");
+            assertEquals(a.add(Angle.degrees(10)), a.add(Angle.degrees(10), AngleArithmetic.THROW),
+                    "В диапазоне результат совпадает с add.");
+        }
+
+        /**
+         * Тест на то, что NaN отклоняется в любом способе.
+         */
+        @Test
+        void testNaN() {
+            for (AngleArithmetic arithmetic : AngleArithmetic.values()) {
+                assertThrows(IllegalArgumentException.class, () -> Angle.ZERO_Angle.addRadians(Double.NaN, arithmetic),
+                        "NaN не может быть приведен в диапазон способом " + arithmetic + ".");
+            }
+        }
+
+        /**
+         * Тест на бесконечность: перенос ее отклоняет, насыщение ограничивает границей.
+         */
+        @ParameterizedTest(name = "Значение {0}")
+        @CsvSource({"Infinity, 360", "-Infinity, -360"})
+        void testInfinity(double infinity, double saturated) {
+            assertEquals(infinity, AngleArithmetic.WRAP.apply(infinity), "Перенос возвращает бесконечность без изменений.");
+            assertThrows(IllegalArgumentException.class, () -> Angle.ZERO_Angle.addRadians(infinity, AngleArithmetic.WRAP),
+                    "Бесконечность не может быть перенесена в диапазон.");
+            assertEquals(saturated, Angle.ZERO_Angle.addRadians(infinity, AngleArithmetic.SATURATE).getDegrees(),
+                    "Насыщение ограничивает бесконечность границей.");
+        }
+    }
+
+    // 15. **Тригонометрия**: Проверка синуса, косинуса и тангенса
+    @Nested
+    class TrigonometryTests {
+
+        /**
+         * Тест на совпадение с функциями Math.
+         */
+        @ParameterizedTest(name = "Тригонометрия угла {0} градусов")
+        @CsvSource({
+                "0",
+                "30",
+                "45",
+                "90",
+                "-135",
+                "12.3456",
+                "360"
+        })
+        void testMatchesMath(double degrees) {
+            Angle angle = Angle.degrees(degrees);
+            double radians = angle.getRadians();
+            assertEquals(Math.sin(radians), angle.sin(), "Синус должен совпадать с Math.sin.");
+            assertEquals(Math.cos(radians), angle.cos(), "Косинус должен совпадать с Math.cos.");
+            assertEquals(Math.tan(radians), angle.tan(), Math.abs(Math.tan(radians)) * 1e-15 + 1e-15,
+                    "Тангенс должен совпадать с Math.tan.");
+            assertArrayEquals(new double[]{angle.sin(), angle.cos()}, angle.sinCos(new double[2]),
+                    "sinCos должен возвращать синус и косинус.");
+        }
+
+        /**
+         * Тест на то, что значения сохраняются и не меняются при повторных вызовах.
+         */
+        @Test
+        void testMemoized() {
+            Angle angle = Angle.degrees(77.7);
+            double sin = angle.sin();
+            assertEquals(sin, angle.sin(), "Повторный вызов должен возвращать то же значение.");
+            assertEquals(angle, Angle.degrees(77.7), "Вычисление синуса не влияет на равенство.");
+            assertEquals(Angle.degrees(77.7).hashCode(), angle.hashCode(), "Вычисление синуса не влияет на хэш-код.");
+        }
+    }
 }
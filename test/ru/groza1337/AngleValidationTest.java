@@ -0,0 +1,119 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AngleValidationTest {
+
+    // 1. **Одиночные значения**: Проверка без исключений
+    @Nested
+    class SingleValueTests {
+
+        /**
+         * Тест на то, что проверка совпадает с созданием угла, включая границы.
+         */
+        @ParameterizedTest(name = "Угол {0} градусов допустим: {1}")
+        @CsvSource({
+                "360, true",
+                "-360, true",
+                "0, true",
+                "360.0000001, false",
+                "-361, false",
+                "NaN, false",
+                "Infinity, false"
+        })
+        void testDegrees(double degrees, boolean valid) {
+            assertEquals(valid, AngleValidation.isValid(degrees, AngleUnit.DEGREES), "Проверка диапазона.");
+            assertEquals(valid, !Double.isNaN(AngleValidation.checkDegrees(degrees)), "NaN означает недопустимое значение.");
+            assertEquals(valid, Angle.tryDegrees(degrees) != null, "tryDegrees возвращает null для недопустимого значения.");
+            if (valid) {
+                assertEquals(Angle.degrees(degrees), Angle.tryDegrees(degrees), "tryDegrees совпадает с degrees.");
+            } else {
+                assertThrows(IllegalArgumentException.class, () -> Angle.degrees(degrees), "degrees выбрасывает исключение.");
+            }
+        }
+
+        /**
+         * Тест на проверку радианов с той же формулой перевода, что и Angle.radians.
+         */
+        @ParameterizedTest(name = "Угол {0} радиан допустим: {1}")
+        @CsvSource({
+                "6.283185307179586, true",
+                "-6.283185307179586, true",
+                "6.3, false",
+                "NaN, false"
+        })
+        void testRadians(double radians, boolean valid) {
+            assertEquals(valid, AngleValidation.isValid(radians, AngleUnit.RADIANS), "Проверка диапазона.");
+            assertEquals(valid, Angle.tryRadians(radians) != null, "tryRadians возвращает null для недопустимого значения.");
+            if (valid) {
+                assertEquals(Angle.radians(radians).getDegrees(), AngleValidation.checkRadians(radians),
+                        "checkRadians возвращает угол в градусах.");
+            }
+        }
+    }
+
+    // 2. **Пакетные операции**: Поиск индексов недопустимых значений
+    @Nested
+    class BatchTests {
+
+        /**
+         * Тест на поиск индексов в массив и в BitSet.
+         */
+        @Test
+        void testInvalidIndices() {
+            double[] values = {0, 400, 360, -360.5, Double.NaN, 10};
+            int[] indices = new int[2];
+            assertEquals(3, AngleValidation.invalidIndices(values, AngleUnit.DEGREES, indices),
+                    "Должны быть найдены все недопустимые значения.");
+            assertArrayEquals(new int[]{1, 3}, indices, "В массив записываются первые индексы.");
+
+            BitSet expected = new BitSet();
+            expected.set(1);
+            expected.set(3);
+            expected.set(4);
+            assertEquals(expected, AngleValidation.invalidIndices(values, AngleUnit.DEGREES), "Набор индексов.");
+        }
+
+        /**
+         * Тест на совпадение пакетной проверки с поэлементной на грязных данных.
+         */
+        @Test
+        void testMatchesSingleChecks() {
+            Random random = new Random(14);
+            double[] values = new double[10_000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(20) == 0 ? 361 + random.nextDouble() : random.nextDouble() * 720 - 360;
+            }
+            for (AngleUnit unit : AngleUnit.values()) {
+                BitSet expected = new BitSet();
+                for (int i = 0; i < values.length; i++) {
+                    if (Double.isNaN(unit == AngleUnit.DEGREES
+                            ? AngleValidation.checkDegrees(values[i]) : AngleValidation.checkRadians(values[i]))) {
+                        expected.set(i);
+                    }
+                }
+                BitSet actual = new BitSet();
+                assertEquals(expected.cardinality(), AngleValidation.invalidIndices(values, unit, actual),
+                        "Количество недопустимых значений в " + unit + ".");
+                assertEquals(expected, actual, "Индексы недопустимых значений в " + unit + ".");
+            }
+        }
+
+        /**
+         * Тест на пакет без недопустимых значений.
+         */
+        @Test
+        void testCleanBatch() {
+            assertEquals(0, AngleValidation.invalidIndices(new double[]{1, 2, 3}, AngleUnit.DEGREES, new int[0]),
+                    "В чистом пакете нет недопустимых значений.");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AtomicAngleTest {
+
+    // 1. **Операции**: Проверка обновлений и правил диапазона
+    @Nested
+    class OperationTests {
+
+        /**
+         * Тест на сложение с возвратом старого и нового значения.
+         */
+        @Test
+        void testAdd() {
+            AtomicAngle angle = new AtomicAngle(Angle.degrees(10));
+            assertEquals(10, angle.getAndAdd(20), "getAndAdd возвращает значение до изменения.");
+            assertEquals(50, angle.addAndGet(20), "addAndGet возвращает значение после изменения.");
+            assertEquals(Angle.degrees(50), angle.get(), "Текущий угол.");
+            assertEquals(Angle.degrees(50).getRadians(), angle.getRadians(), "Текущий угол в радианах.");
+            assertEquals("50.00 degrees", angle.toString(), "Строковое представление.");
+        }
+
+        /**
+         * Тест на то, что выход за диапазон не изменяет значение.
+         */
+        @Test
+        void testOutOfRange() {
+            AtomicAngle angle = new AtomicAngle(Angle.degrees(300));
+            assertThrows(IllegalArgumentException.class, () -> angle.addAndGet(100), "Выход за диапазон.");
+            assertThrows(IllegalArgumentException.class, () -> angle.updateAndGet(x -> x * 2), "Выход за диапазон.");
+            assertThrows(IllegalArgumentException.class, () -> angle.setDegrees(Double.NaN), "NaN.");
+            assertEquals(300, angle.getDegrees(), "Значение не должно измениться.");
+            assertThrows(IllegalArgumentException.class, () -> angle.addAndGet(Double.POSITIVE_INFINITY, AngleArithmetic.WRAP),
+                    "Бесконечность не переносится в диапазон.");
+            assertEquals(300, angle.getDegrees(), "Значение не должно измениться после бесконечности.");
+            assertEquals(40, angle.addAndGet(100, AngleArithmetic.WRAP), "Перенос по модулю 360.");
+            assertEquals(40, angle.getAndAdd(400, AngleArithmetic.SATURATE), "getAndAdd с насыщением.");
+            assertEquals(360, angle.getDegrees(), "Насыщение до 360.");
+        }
+
+        /**
+         * Тест на сравнение с обменом.
+         */
+        @Test
+        void testCompareAndSet() {
+            AtomicAngle angle = new AtomicAngle();
+            assertFalse(angle.compareAndSet(-0.0, 10), "-0.0 отличается от 0.0.");
+            assertTrue(angle.compareAndSet(Angle.ZERO_Angle, Angle.degrees(10)), "Ожидаемое значение совпадает.");
+            assertFalse(angle.compareAndSet(0, 20), "Ожидаемое значение уже изменено.");
+            assertEquals(10, angle.getDegrees(), "Текущее значение.");
+            assertThrows(IllegalArgumentException.class, () -> angle.compareAndSet(10, 361), "Новое значение вне диапазона.");
+        }
+    }
+
+    // 2. **Одновременные обновления**: Проверка отсутствия потерянных обновлений
+    @Nested
+    class ConcurrencyTests {
+
+        /**
+         * Тест на то, что одновременные прибавления не теряются.
+         */
+        @Test
+        void testConcurrentAdd() throws InterruptedException {
+            AtomicAngle angle = new AtomicAngle(Angle.degrees(-360));
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        angle.getAndAdd(0.0078125);
+                        angle.updateAndGet(x -> x + 0.0009765625);
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            // слагаемые - степени двойки, поэтому сумма точная
+            assertEquals(-360 + 8 * 10_000 * (0.0078125 + 0.0009765625), angle.getDegrees(), "Все обновления учтены.");
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryAngleTest {
+
+    // 1. **Преобразования**: Перевод между BAM, градусами и Angle
+    @Nested
+    class ConversionTests {
+
+        /**
+         * Тест на перевод градусов в BAM и обратно.
+         */
+        @ParameterizedTest(name = "Угол {0} градусов - это {1} градусов в BAM")
+        @CsvSource({
+                "0, 0",
+                "90, 90",
+                "180, 180",
+                "-90, 270",
+                "360, 0",
+                "-360, 0",
+                "22.5, 22.5"
+        })
+        void testDegrees(double degrees, double expected) {
+            assertEquals(expected, BinaryAngle.degrees(degrees).getDegrees(), "Угол должен переходить в [0, 360).");
+        }
+
+        /**
+         * Тест на особые значения 32-битной записи.
+         */
+        @Test
+        void testBam32() {
+            assertEquals(1 << 30, BinaryAngle.degrees(90).toBam32(), "90 градусов - это 2^30.");
+            assertEquals(1 << 31, BinaryAngle.degrees(180).toBam32(), "180 градусов - это 2^31.");
+            assertEquals(-(1 << 30), BinaryAngle.degrees(-90).toBam32(), "-90 градусов - это 3 * 2^30.");
+        }
+
+        /**
+         * Тест на то, что перевод BAM в Angle и обратно не теряет точности.
+         */
+        @Test
+        void testLosslessRoundTrip() {
+            Random random = new Random(12);
+            for (int i = 0; i < 100_000; i++) {
+                BinaryAngle angle = BinaryAngle.ofBam32(random.nextInt());
+                assertEquals(angle, BinaryAngle.of(angle.toAngle()), "Перевод через Angle должен быть без потерь: " + angle.toBam32());
+            }
+        }
+
+        /**
+         * Тест на 16-битную запись.
+         */
+        @Test
+        void testBam16() {
+            assertEquals(90, BinaryAngle.ofBam16((short) 0x4000).getDegrees(), "0x4000 - это 90 градусов.");
+            assertEquals((short) 0x8000, BinaryAngle.degrees(180).toBam16(), "180 градусов - это 0x8000.");
+            assertEquals((short) 0, BinaryAngle.ofBam32(0xFFFF8000).toBam16(), "Округление должно переходить через 0.");
+            for (int value = Short.MIN_VALUE; value <= Short.MAX_VALUE; value++) {
+                assertEquals((short) value, BinaryAngle.ofBam16((short) value).toBam16(), "16-битная запись без потерь.");
+            }
+        }
+
+        /**
+         * Тест на угол вне диапазона.
+         */
+        @ParameterizedTest(name = "Угол {0} градусов вне диапазона")
+        @CsvSource({
+                "360.01",
+                "-400",
+                "NaN"
+        })
+        void testOutOfRange(double degrees) {
+            assertThrows(IllegalArgumentException.class, () -> BinaryAngle.degrees(degrees),
+                    "Угол вне диапазона должен вызывать исключение.");
+        }
+    }
+
+    // 2. **Арифметика**: Сложение и вычитание по кругу
+    @Nested
+    class ArithmeticTests {
+
+        /**
+         * Тест на сложение и вычитание с переходом через полный круг.
+         */
+        @ParameterizedTest(name = "{0} + {1} = {2}, {0} - {1} = {3}")
+        @CsvSource({
+                "270, 180, 90, 90",
+                "10, 20, 30, 350",
+                "0, 90, 90, 270"
+        })
+        void testWraparound(double first, double second, double sum, double difference) {
+            BinaryAngle a = BinaryAngle.degrees(first);
+            BinaryAngle b = BinaryAngle.degrees(second);
+            assertEquals(BinaryAngle.degrees(sum), a.add(b), "Сложение должно переходить через 360 градусов.");
+            assertEquals(BinaryAngle.degrees(difference), a.subtract(b), "Вычитание должно переходить через 0.");
+            assertEquals(BinaryAngle.degrees(360 - first), a.negate(), "Дополнение до полного круга.");
+        }
+
+        /**
+         * Тест на сравнение как беззнаковых целых.
+         */
+        @Test
+        void testCompare() {
+            assertTrue(BinaryAngle.degrees(270).compare(BinaryAngle.degrees(90)) > 0, "270 градусов больше 90.");
+            assertEquals(0, BinaryAngle.degrees(-90).compare(BinaryAngle.degrees(270)), "-90 и 270 градусов равны.");
+            assertEquals(BinaryAngle.degrees(-90).hashCode(), BinaryAngle.degrees(270).hashCode(), "Хэш-коды равны.");
+        }
+    }
+
+    // 3. **Тип угла**: Определение типа целочисленными сравнениями
+    @Nested
+    class AngleTypeTests {
+
+        /**
+         * Тест на определение типа угла.
+         */
+        @ParameterizedTest(name = "Угол {0} градусов - {1}")
+        @CsvSource({
+                "45, ACUTE",
+                "90, RIGHT",
+                "135, OBTUSE",
+                "180, STRAIGHT",
+                "270, REFLEX",
+                "-90, REFLEX",
+                "360, ACUTE"
+        })
+        void testDetermineAngleType(double degrees, AngleType expected) {
+            assertEquals(expected, BinaryAngle.degrees(degrees).determineAngleType(), "Тип угла определен неверно.");
+        }
+
+        /**
+         * Тест на точность прямого угла после перевода из радианов.
+         */
+        @Test
+        void testRightAngleFromRadians() {
+            assertEquals(AngleType.RIGHT, BinaryAngle.radians(Math.PI / 2).determineAngleType(),
+                    "π/2 радиан должно давать ровно прямой угол.");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentAngleHistogramTest {
+
+    // 1. **Запись**: Корзины, типы углов и отклоненные значения
+    @Nested
+    class RecordTests {
+
+        /**
+         * Тест на выбор корзины.
+         */
+        @ParameterizedTest(name = "Угол {0} градусов попадает в корзину {1}")
+        @CsvSource({
+                "0, 0",
+                "9.99, 0",
+                "10, 1",
+                "-10, 35",
+                "360, 0",
+                "-0.0, 0",
+                "359.99, 35"
+        })
+        void testBin(double degrees, int bin) {
+            ConcurrentAngleHistogram histogram = new ConcurrentAngleHistogram(10);
+            assertTrue(histogram.record(degrees), "Угол в диапазоне должен быть записан.");
+            assertEquals(1, histogram.snapshot().count(bin), "Номер корзины.");
+        }
+
+        /**
+         * Тест на счетчики типов и отклоненные значения.
+         */
+        @Test
+        void testTypesAndRejected() {
+            ConcurrentAngleHistogram histogram = new ConcurrentAngleHistogram(45);
+            histogram.record(Angle.degrees(90));
+            histogram.record(30);
+            histogram.record(-90);
+            assertFalse(histogram.record(400), "Угол вне диапазона должен быть отклонен.");
+            assertFalse(histogram.record(Double.NaN), "NaN должен быть отклонен.");
+
+            ConcurrentAngleHistogram.Snapshot snapshot = histogram.snapshot();
+            assertEquals(1, snapshot.count(AngleType.RIGHT), "Прямые углы.");
+            assertEquals(1, snapshot.count(AngleType.ACUTE), "Острые углы.");
+            assertEquals(1, snapshot.count(AngleType.REFLEX), "-90 градусов - рефлексный угол.");
+            assertEquals(2, snapshot.rejected(), "Отклоненные значения.");
+            assertEquals(3, snapshot.total(), "Записанные углы.");
+            assertEquals(8, snapshot.binCount(), "Количество корзин.");
+        }
+
+        /**
+         * Тест на недопустимую ширину корзины.
+         */
+        @Test
+        void testInvalidWidth() {
+            assertThrows(IllegalArgumentException.class, () -> new ConcurrentAngleHistogram(0), "Нулевая ширина.");
+            assertThrows(IllegalArgumentException.class, () -> new ConcurrentAngleHistogram(Double.NaN), "Ширина NaN.");
+        }
+    }
+
+    // 2. **Одновременная запись и срезы**: Потоки, объединение и сброс
+    @Nested
+    class ConcurrencyTests {
+
+        /**
+         * Тест на то, что при одновременной записи не теряются обновления.
+         */
+        @Test
+        void testConcurrentRecord() throws InterruptedException {
+            ConcurrentAngleHistogram histogram = new ConcurrentAngleHistogram(1);
+            ConcurrentAngleHistogram reference = new ConcurrentAngleHistogram(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                Random random = new Random(t);
+                double[] degrees = new double[50_000];
+                for (int i = 0; i < degrees.length; i++) {
+                    degrees[i] = random.nextDouble() * 800 - 400;
+                    reference.record(degrees[i]);
+                }
+                threads.add(Thread.ofPlatform().start(() -> {
+                    for (double value : degrees) {
+                        histogram.record(value);
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            ConcurrentAngleHistogram.Snapshot actual = histogram.snapshot();
+            ConcurrentAngleHistogram.Snapshot expected = reference.snapshot();
+            assertEquals(expected.rejected(), actual.rejected(), "Отклоненные значения.");
+            for (AngleType type : AngleType.values()) {
+                assertEquals(expected.count(type), actual.count(type), "Количество углов типа " + type + ".");
+            }
+            for (int bin = 0; bin < actual.binCount(); bin++) {
+                assertEquals(expected.count(bin), actual.count(bin), "Корзина " + bin + ".");
+            }
+        }
+
+        /**
+         * Тест на объединение срезов и сброс.
+         */
+        @Test
+        void testMergeAndReset() {
+            ConcurrentAngleHistogram first = new ConcurrentAngleHistogram(90);
+            ConcurrentAngleHistogram second = new ConcurrentAngleHistogram(90);
+            first.record(10);
+            second.record(20);
+            second.record(200);
+            ConcurrentAngleHistogram.Snapshot merged = first.snapshot().merge(second.snapshotAndReset());
+            assertEquals(2, merged.count(0), "Объединенная первая корзина.");
+            assertEquals(1, merged.count(2), "Объединенная третья корзина.");
+            assertEquals(0, second.snapshot().total(), "После сброса счетчики равны нулю.");
+            assertThrows(IllegalArgumentException.class,
+                    () -> merged.merge(new ConcurrentAngleHistogram(10).snapshot()), "Разные ширины корзин.");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FastTrigTest {
+
+    // 1. **Точность**: Сравнение с функциями Math на всем диапазоне углов
+    @Nested
+    class AccuracyTests {
+
+        /**
+         * Тест на наибольшую ошибку по равномерной сетке и случайным углам.
+         */
+        @Test
+        void testMaxError() {
+            Random random = new Random(15);
+            double maxError = 0;
+            for (int i = 0; i <= 2_000_000; i++) {
+                double degrees = i % 2 == 0 ? -360 + 720.0 * i / 2_000_000 : random.nextDouble() * 720 - 360;
+                double radians = Angle.degreesToRadians(degrees);
+                maxError = Math.max(maxError, Math.abs(FastTrig.sin(degrees) - Math.sin(radians)));
+                maxError = Math.max(maxError, Math.abs(FastTrig.cos(degrees) - Math.cos(radians)));
+            }
+            assertTrue(maxError <= FastTrig.MAX_ERROR, "Наибольшая ошибка " + maxError + " больше заявленной.");
+            assertTrue(maxError > FastTrig.MAX_ERROR / 2, "Заявленная ошибка " + maxError + " должна быть близка к реальной.");
+        }
+
+        /**
+         * Тест на узлы таблицы и особые углы.
+         */
+        @ParameterizedTest(name = "Угол {0} градусов: sin = {1}, cos = {2}")
+        @CsvSource({
+                "0, 0, 1",
+                "90, 1, 0",
+                "180, 0, -1",
+                "-90, -1, 0",
+                "360, 0, 1",
+                "-360, 0, 1"
+        })
+        void testSpecialAngles(double degrees, double sin, double cos) {
+            assertEquals(sin, FastTrig.sin(degrees), 1e-15, "Синус особого угла.");
+            assertEquals(cos, FastTrig.cos(degrees), 1e-15, "Косинус особого угла.");
+        }
+    }
+
+    // 2. **Пакетные операции**: Совпадение с поэлементными вызовами
+    @Nested
+    class BatchTests {
+
+        /**
+         * Тест на совпадение пакетных и поэлементных вычислений.
+         */
+        @Test
+        void testBatchMatchesScalar() {
+            Random random = new Random(16);
+            double[] degrees = new double[1000];
+            for (int i = 0; i < degrees.length; i++) {
+                degrees[i] = random.nextDouble() * 720 - 360;
+            }
+            double[] sin = new double[degrees.length];
+            double[] cos = new double[degrees.length];
+            double[] both = new double[degrees.length];
+            FastTrig.sin(degrees, sin, degrees.length);
+            FastTrig.cos(degrees, cos, degrees.length);
+            FastTrig.sinCos(degrees, both, new double[degrees.length], degrees.length);
+            for (int i = 0; i < degrees.length; i++) {
+                assertEquals(FastTrig.sin(degrees[i]), sin[i], "Пакетный синус.");
+                assertEquals(FastTrig.cos(degrees[i]), cos[i], "Пакетный косинус.");
+                assertEquals(sin[i], both[i], "sinCos и sin должны совпадать.");
+            }
+        }
+
+        /**
+         * Тест на проверку длины массивов.
+         */
+        @Test
+        void testLength() {
+            assertThrows(IndexOutOfBoundsException.class, () -> FastTrig.sin(new double[2], new double[1], 2),
+                    "Массив результата короче обрабатываемой длины.");
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MainTest {
+
+    @TempDir
+    Path directory;
+
+    private String output;
+
+    private String errors;
+
+    /**
+     * Запускает команду и сохраняет ее вывод.
+     */
+    private int run(String... args) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int status = Main.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+        this.output = out.toString(StandardCharsets.UTF_8);
+        this.errors = err.toString(StandardCharsets.UTF_8);
+        return status;
+    }
+
+    private Path text(String name, String content) throws IOException {
+        return Files.writeString(this.directory.resolve(name), content);
+    }
+
+    /**
+     * Переводит значения FLOAT64 в текст и обратно в двоичный файл в той же единице.
+     * @return Значения результата в единице unit.
+     */
+    private double[] roundTrip(double[] values, AngleUnit unit) throws IOException {
+        String name = unit.name().toLowerCase();
+        Path binary = this.directory.resolve(name + ".angf");
+        try (AngleFileWriter writer = AngleFileWriter.create(binary, unit, AngleEncoding.FLOAT64)) {
+            for (double value : values) {
+                writer.write(value);
+            }
+        }
+        Path text = Files.createDirectory(this.directory.resolve(name + "-text"));
+        assertEquals(0, run("convert", "--unit", name, "--out", text.toString(), binary.toString()),
+                "Код перевода в текст.");
+        Path back = Files.createDirectory(this.directory.resolve(name + "-back"));
+        assertEquals(0, run("convert", "--unit", name, "--out", back.toString(),
+                text.resolve(name + ".txt").toString()), "Код перевода в двоичный файл.");
+        try (AngleFileReader reader = AngleFileReader.open(back.resolve(name + ".angf"))) {
+            double[] result = new double[values.length];
+            assertEquals(values.length, reader.readValues(0, result), "Количество углов.");
+            return result;
+        }
+    }
+
+    // 1. **Команды**: Проверка, подсчет типов, статистика и перевод файлов
+    @Nested
+    class CommandTests {
+
+        /**
+         * Тест на проверку значений нескольких файлов.
+         */
+        @Test
+        void testValidate() throws IOException {
+            Path first = text("first.txt", "45\n90\n400\n");
+            Path second = text("second.txt", "abc, 3.14159 radians; -90 degrees");
+            assertEquals(0, run("validate", first.toString(), second.toString()), "Код завершения.");
+            assertTrue(output.contains("first.txt: принято 2, вне диапазона 1, не разобрано 0"), output);
+            assertTrue(output.contains("second.txt: принято 2, вне диапазона 0, не разобрано 1"), output);
+            assertTrue(output.contains("Всего: принято 4, вне диапазона 1, не разобрано 1"), output);
+            assertTrue(output.contains("Пропускная способность:"), "Вывод пропускной способности этапов.");
+            for (AnglePipeline.Stage stage : AnglePipeline.Stage.values()) {
+                assertTrue(output.contains(stage.name()), "Строка этапа " + stage);
+            }
+        }
+
+        /**
+         * Тест на подсчет типов углов.
+         */
+        @Test
+        void testClassify() throws IOException {
+            Path file = text("angles.txt", "10\n20\n90\n180\n-90\n360\n");
+            assertEquals(0, run("classify", file.toString()), "Код завершения.");
+            assertTrue(output.contains("ACUTE: 2"), output);
+            assertTrue(output.contains("RIGHT: 1"), output);
+            assertTrue(output.contains("STRAIGHT: 1"), output);
+            assertTrue(output.contains("REFLEX: 1"), output);
+            assertTrue(output.contains("FULL: 1"), output);
+        }
+
+        /**
+         * Тест на статистику по числам в радианах.
+         */
+        @Test
+        void testStats() throws IOException {
+            Path file = text("angles.txt", "0.1\n0.3\n");
+            assertEquals(0, run("stats", "--unit", "radians", file.toString()), "Код завершения.");
+            assertTrue(output.startsWith("count=2, mean=11.46 degrees"), "Среднее 0.2 радиана: " + output);
+        }
+
+        /**
+         * Тест на перевод FLOAT64 в градусах в текст и обратно без потери точности.
+         */
+        @Test
+        void testConvertRoundTrip() throws IOException {
+            double[] values = {1.0 / 3, -Math.PI * 100, 1e-12, 359.99999999999994, -0.0};
+            double[] result = roundTrip(values, AngleUnit.DEGREES);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(result[i]),
+                        "Значение " + values[i] + " должно сохраниться до бита.");
+            }
+        }
+
+        /**
+         * Тест на перевод FLOAT64 в радианах в текст и обратно: значения проходят через градусы
+         * и сохраняются с точностью до последних разрядов.
+         */
+        @Test
+        void testConvertRoundTripRadians() throws IOException {
+            double[] values = {1.0 / 3, -Math.PI, 1e-12, 2 * Math.PI, 0.1};
+            double[] result = roundTrip(values, AngleUnit.RADIANS);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(values[i], result[i], 4 * Math.ulp(values[i]),
+                        "Значение " + values[i] + " должно сохраниться до последних разрядов.");
+            }
+        }
+
+        /**
+         * Тест на перевод с приведением к [0, 360].
+         */
+        @Test
+        void testConvertNormalized() throws IOException {
+            Path source = text("source.txt", "-90\n-0.0\n45\n");
+            Path binaries = Files.createDirectory(directory.resolve("binary"));
+            assertEquals(0, run("convert", "--normalize", "--out", binaries.toString(), source.toString()),
+                    "Код завершения.");
+            try (AngleFileReader reader = AngleFileReader.open(binaries.resolve("source.angf"))) {
+                double[] degrees = new double[3];
+                assertEquals(3, reader.read(0, degrees), "Количество углов.");
+                assertArrayEquals(new double[]{270, 0, 45}, degrees, "Углы приводятся к [0, 360].");
+            }
+        }
+
+        /**
+         * Тест на проверку двоичного файла со значениями вне диапазона: они считаются, а не прерывают файл.
+         */
+        @ParameterizedTest(name = "Единица {0}")
+        @CsvSource({"DEGREES, 400, 90", "RADIANS, -7, 1.5707963267948966"})
+        void testBinaryOutOfRange(AngleUnit unit, double invalid, double valid) throws IOException {
+            Path file = directory.resolve("angles.angf");
+            try (AngleFileWriter writer = AngleFileWriter.create(file, unit, AngleEncoding.FLOAT64)) {
+                writer.write(valid);
+                writer.write(valid);
+                writer.write(valid);
+            }
+            // запись проверяет диапазон, поэтому значение вне диапазона вписывается в файл напрямую
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                ByteBuffer value = ByteBuffer.allocate(Double.BYTES).order(AngleFile.ORDER).putDouble(0, invalid);
+                channel.write(value, AngleFile.HEADER_SIZE + Double.BYTES);
+            }
+            assertEquals(0, run("validate", file.toString()), "Код завершения.");
+            assertTrue(output.contains("angles.angf: принято 2, вне диапазона 1, не разобрано 0"), output);
+            assertEquals(0, run("classify", file.toString()), "Код завершения подсчета типов.");
+            assertTrue(output.contains("RIGHT: 2"), output);
+        }
+
+        /**
+         * Тест на перевод текста в двоичный файл и обратно.
+         */
+        @ParameterizedTest(name = "Способ записи {0}")
+        @CsvSource({"FLOAT64, 1e-9", "FIXED16, 0.006"})
+        void testConvert(AngleEncoding encoding, double tolerance) throws IOException {
+            Path source = text("source.txt", "45\n-90\nxyz\n360\n");
+            Path binaries = Files.createDirectory(directory.resolve("binary"));
+            assertEquals(0, run("convert", "--encoding", encoding.name(), "--out", binaries.toString(),
+                    source.toString()), "Код завершения перевода в двоичный файл.");
+            Path binary = binaries.resolve("source.angf");
+            try (AngleFileReader reader = AngleFileReader.open(binary)) {
+                assertEquals(encoding, reader.encoding(), "Способ записи результата.");
+                assertEquals(3, reader.count(), "Неразобранное значение пропускается.");
+                assertEquals(-90, reader.getDegrees(1), tolerance, "Перевод сохраняет проверенные углы.");
+            }
+            assertEquals(0, run("convert", binary.toString()), "Код завершения перевода в текст.");
+            assertEquals(3, Files.readAllLines(binaries.resolve("source.txt")).size(), "Строки текстового результата.");
+            assertEquals(0, run("validate", binaries.resolve("source.txt").toString()), "Код завершения проверки.");
+            assertTrue(output.contains("принято 3, вне диапазона 0, не разобрано 0"), output);
+        }
+    }
+
+    // 2. **Ошибки**: Неверные аргументы и отсутствующие файлы
+    @Nested
+    class ErrorTests {
+
+        /**
+         * Тест на неверные аргументы.
+         */
+        @ParameterizedTest(name = "Аргументы {0}")
+        @CsvSource({
+                "''",
+                "merge a.txt",
+                "validate",
+                "validate --unit",
+                "validate --unit gradians a.txt",
+                "validate --verbose 1 a.txt"
+        })
+        void testUsage(String args) {
+            assertEquals(2, run(args.isEmpty() ? new String[0] : args.split(" ")), "Код неверных аргументов.");
+            assertTrue(errors.contains("Использование"), "Вывод справки.");
+        }
+
+        /**
+         * Тест на отсутствующий файл рядом с обычным.
+         */
+        @Test
+        void testMissingFile() throws IOException {
+            Path file = text("angles.txt", "1\n");
+            assertEquals(1, run("validate", directory.resolve("missing.txt").toString(), file.toString()),
+                    "Код частичной ошибки.");
+            assertTrue(errors.contains("missing.txt: ошибка"), errors);
+            assertTrue(output.contains("Всего: принято 1"), "Остальные файлы обрабатываются.");
+        }
+    }
+}
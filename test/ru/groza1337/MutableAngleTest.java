@@ -0,0 +1,90 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MutableAngleTest {
+
+    // 1. **Накопление**: Проверка сложения и вычитания на месте
+    @Nested
+    class AccumulationTests {
+
+        /**
+         * Тест на то, что цепочка операций совпадает с цепочкой операций над Angle.
+         */
+        @ParameterizedTest(name = "Цепочка от {0} градусов")
+        @CsvSource({
+                "0",
+                "90",
+                "-180"
+        })
+        void testChainMatchesAngle(double start) {
+            Angle expected = Angle.degrees(start)
+                    .add(Angle.degrees(30))
+                    .addRadians(Math.PI / 4)
+                    .subtract(Angle.degrees(10))
+                    .subtractRadians(Math.PI / 6);
+
+            MutableAngle actual = new MutableAngle(Angle.degrees(start))
+                    .add(Angle.degrees(30))
+                    .addRadians(Math.PI / 4)
+                    .subtract(Angle.degrees(10))
+                    .subtractRadians(Math.PI / 6);
+
+            assertEquals(expected, actual.toAngle(), "Накопитель должен давать тот же результат, что и Angle.");
+        }
+
+        /**
+         * Тест на то, что промежуточные значения могут выходить за диапазон.
+         */
+        @Test
+        void testIntermediateOutOfRange() {
+            MutableAngle angle = new MutableAngle().addDegrees(300).addDegrees(300);
+            assertFalse(angle.isValid(), "Промежуточное значение 600 градусов вне диапазона.");
+            angle.subtractDegrees(400);
+            assertTrue(angle.isValid(), "Значение 200 градусов должно быть в диапазоне.");
+            assertEquals(200, angle.toAngle().getDegrees(), "Результат должен быть равен 200 градусам.");
+        }
+
+        /**
+         * Тест на то, что получение угла вне диапазона вызывает исключение.
+         */
+        @Test
+        void testToAngle_OutOfBounds() {
+            MutableAngle angle = new MutableAngle().addDegrees(370);
+            assertThrows(IllegalArgumentException.class, angle::toAngle,
+                    "Угол 370 градусов должен вызывать исключение при получении результата.");
+        }
+
+        /**
+         * Тест на получение угла с переносом и насыщением.
+         */
+        @Test
+        void testToAngleWithArithmetic() {
+            MutableAngle angle = new MutableAngle().addDegrees(300).addDegrees(300);
+            assertEquals(240, angle.toAngle(AngleArithmetic.WRAP).getDegrees(), "600 градусов переносятся в 240.");
+            assertEquals(360, angle.toAngle(AngleArithmetic.SATURATE).getDegrees(), "600 градусов ограничиваются 360.");
+        }
+    }
+
+    // 2. **Преобразования**: Проверка установки значения и перевода в радианы
+    @Nested
+    class ConversionTests {
+
+        /**
+         * Тест на установку значения из неизменяемого угла.
+         */
+        @Test
+        void testSet() {
+            Angle source = Angle.degrees(45);
+            MutableAngle angle = new MutableAngle().set(source);
+            assertEquals(source.getDegrees(), angle.getDegrees(), "Значение должно совпадать с исходным углом.");
+            assertEquals(source.getRadians(), angle.getRadians(), "Значение в радианах должно совпадать.");
+            assertEquals("45.00 degrees", angle.toString(), "Строковое представление должно совпадать с Angle.");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package ru.groza1337;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.lang.foreign.Arena;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapAngleBufferTest {
+
+    // 1. **Доступ к значениям**: Проверка чтения и записи углов
+    @Nested
+    class AccessTests {
+
+        /**
+         * Тест на чтение и запись углов и совпадение с Angle.
+         */
+        @Test
+        void testGetAndSet() {
+            try (OffHeapAngleBuffer buffer = OffHeapAngleBuffer.allocate(3)) {
+                buffer.set(0, Angle.degrees(45));
+                buffer.setDegrees(1, -180);
+                assertEquals(3, buffer.length(), "Длина буфера должна совпадать с запрошенной.");
+                assertEquals(Angle.degrees(45), buffer.get(0), "Метод get должен возвращать равный угол.");
+                assertEquals(Angle.degrees(-180).getRadians(), buffer.getRadians(1), "Радианы должны совпадать с Angle.");
+                assertEquals(0, buffer.getDegrees(2), "Новый буфер должен быть заполнен нулями.");
+            }
+        }
+
+        /**
+         * Тест на запись угла вне диапазона.
+         */
+        @ParameterizedTest(name = "Запись {0} градусов")
+        @CsvSource({
+                "370",
+                "-360.5",
+                "NaN"
+        })
+        void testSetDegrees_OutOfBounds(double degrees) {
+            try (OffHeapAngleBuffer buffer = OffHeapAngleBuffer.allocate(1)) {
+                assertThrows(IllegalArgumentException.class, () -> buffer.setDegrees(0, degrees),
+                        "Угол вне диапазона должен вызывать исключение.");
+            }
+        }
+
+        /**
+         * Тест на копирование значений в радианах.
+         */
+        @Test
+        void testCopyRadians() {
+            try (OffHeapAngleBuffer buffer = OffHeapAngleBuffer.copyOf(new double[]{0, 90, 180, 270})) {
+                double[] radians = new double[2];
+                buffer.copyRadians(1, radians);
+                assertEquals(Angle.degrees(90).getRadians(), radians[0], "Радианы 90 градусов.");
+                assertEquals(Angle.degrees(180).getRadians(), radians[1], "Радианы 180 градусов.");
+            }
+        }
+    }
+
+    // 2. **Операции**: Проверка арифметики, сравнения и типов углов
+    @Nested
+    class OperationTests {
+
+        /**
+         * Тест на сложение и вычитание по индексу.
+         */
+        @Test
+        void testAddAndSubtract() {
+            try (OffHeapAngleBuffer buffer = OffHeapAngleBuffer.copyOf(new double[]{90, 300})) {
+                buffer.add(0, Angle.degrees(30));
+                buffer.subtract(1, Angle.degrees(60));
+                assertEquals(120, buffer.getDegrees(0), "90 + 30 = 120.");
+                assertEquals(240, buffer.getDegrees(1), "300 - 60 = 240.");
+                assertThrows(IllegalArgumentException.class, () -> buffer.add(1, Angle.degrees(200)),
+                        "Сумма 440 градусов должна вызывать исключение.");
+                assertEquals(240, buffer.getDegrees(1), "Угол не должен изменяться при ошибке.");
+            }
+        }
+
+        /**
+         * Тест на пакетное сложение и неизменность буфера при ошибке.
+         */
+        @Test
+        void testAddAll() {
+            try (OffHeapAngleBuffer buffer = OffHeapAngleBuffer.copyOf(new double[]{10, 300});
+                 OffHeapAngleBuffer other = OffHeapAngleBuffer.copyOf(new double[]{20, 100})) {
+                assertThrows(IllegalArgumentException.class, () -> buffer.addAll(other),
+                        "Сумма 400 градусов должна вызывать исключение.");
+                assertEquals(10, buffer.getDegrees(0), "Буфер не должен изменяться при ошибке.");
+                buffer.subtractAll(other);
+                assertEquals(-10, buffer.getDegrees(0), "10 - 20 = -10.");
+                assertEquals(200, buffer.getDegrees(1), "300 - 100 = 200.");
+            }
+        }
+
+        /**
+         * Тест на сравнение и определение типа угла.
+         */
+        @Test
+        void testCompareAndClassify() {
+            try (OffHeapAngleBuffer buffer = OffHeapAngleBuffer.copyOf(new double[]{90, -270, 200})) {
+                assertEquals(Angle.degrees(90).compare(Angle.degrees(-270)), Integer.signum(buffer.compare(0, 1)),
+                        "Сравнение должно совпадать с Angle.compare.");
+                assertEquals(0, buffer.compare(2, Angle.degrees(200)), "Угол должен быть равен 200 градусам.");
+                assertEquals(AngleType.RIGHT, buffer.determineAngleType(1), "-270 градусов - прямой угол.");
+                long[] counts = buffer.countByType();
+                assertEquals(2, counts[AngleType.RIGHT.ordinal()], "Два прямых угла.");
+                assertEquals(1, counts[AngleType.REFLEX.ordinal()], "Один рефлексный угол.");
+            }
+        }
+    }
+
+    // 3. **Освобождение памяти**: Проверка работы с аренами
+    @Nested
+    class ArenaTests {
+
+        /**
+         * Тест на то, что после закрытия собственной арены память недоступна.
+         */
+        @Test
+        void testCloseReleasesMemory() {
+            OffHeapAngleBuffer buffer = OffHeapAngleBuffer.allocate(4);
+            buffer.close();
+            assertThrows(IllegalStateException.class, () -> buffer.getDegrees(0),
+                    "Доступ к освобожденной памяти должен вызывать исключение.");
+        }
+
+        /**
+         * Тест на то, что буфер не закрывает переданную арену.
+         */
+        @Test
+        void testExternalArena() {
+            try (Arena arena = Arena.ofConfined()) {
+                OffHeapAngleBuffer buffer = OffHeapAngleBuffer.allocate(arena, 2);
+                buffer.setDegrees(1, 45);
+                buffer.close();
+                assertEquals(45, buffer.getDegrees(1), "Память переданной арены должна оставаться доступной.");
+            }
+        }
+    }
+}